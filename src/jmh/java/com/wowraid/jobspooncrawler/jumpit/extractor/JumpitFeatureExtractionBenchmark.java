@@ -0,0 +1,149 @@
+package com.wowraid.jobspooncrawler.jumpit.extractor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionFeatureDto;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 저장된 상세 페이지 한 건당 추출 비용.
+ * - parse: Jsoup 문서 생성 비용 (추출 방식과 무관한 공통 비용)
+ * - legacySelectors: 기존 방식 (문자열 셀렉터 매번 파싱, 정규식/ObjectMapper 매번 생성, 모든 script 검사)
+ * - extractionPlan: JumpitFeatureExtractionPlan (미리 파싱한 셀렉터, 필드마다 문서 순회)
+ * - domWalk: JumpitFeatureDomWalkExtractor (문서 한 번 순회)
+ * - parseAndDomWalk / jsonFirst: 원문 HTML 에서 시작하는 전체 비용 (Jsoup 파싱 + DOM 순회 vs 내장 JSON 만 파싱)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JumpitFeatureExtractionBenchmark {
+
+    private static final String URL = "https://jumpit.saramin.co.kr/position/51050679";
+
+    private final JumpitPositionJsonLocator jsonLocator = new JumpitPositionJsonLocator();
+    private final JumpitFeatureExtractionPlan plan = new JumpitFeatureExtractionPlan(jsonLocator);
+    private final JumpitFeatureDomWalkExtractor domWalk = new JumpitFeatureDomWalkExtractor(jsonLocator);
+    private final JumpitFeatureJsonExtractor jsonExtractor = new JumpitFeatureJsonExtractor(jsonLocator);
+    private String html;
+    private Document doc;
+    // fallback 경로까지 측정하기 위해 h1 을 지운 문서
+    private Document docWithoutTitle;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/sample_jumpit.html")) {
+            html = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        doc = Jsoup.parse(html);
+        docWithoutTitle = Jsoup.parse(html);
+        docWithoutTitle.select("h1").remove();
+    }
+
+    @Benchmark
+    public Document parse() {
+        return Jsoup.parse(html);
+    }
+
+    @Benchmark
+    public JumpitPositionFeatureDto legacySelectors() {
+        return LegacyExtractor.extract(doc);
+    }
+
+    @Benchmark
+    public JumpitPositionFeatureDto extractionPlan() {
+        return plan.extract(doc, URL);
+    }
+
+    @Benchmark
+    public JumpitPositionFeatureDto domWalk() {
+        return domWalk.extract(doc, URL);
+    }
+
+    @Benchmark
+    public JumpitPositionFeatureDto parseAndDomWalk() {
+        return domWalk.extract(Jsoup.parse(html, URL), URL);
+    }
+
+    @Benchmark
+    public JumpitPositionFeatureDto jsonFirst() {
+        return jsonExtractor.extract(html, URL);
+    }
+
+    @Benchmark
+    public JumpitPositionFeatureDto legacySelectorsWithFallback() {
+        return LegacyExtractor.extract(docWithoutTitle);
+    }
+
+    @Benchmark
+    public JumpitPositionFeatureDto extractionPlanWithFallback() {
+        return plan.extract(docWithoutTitle, URL);
+    }
+
+    @Benchmark
+    public JumpitPositionFeatureDto domWalkWithFallback() {
+        return domWalk.extract(docWithoutTitle, URL);
+    }
+
+    /**
+     * 추출 계획 도입 전 JumpitPositionsFeatureCrawler 의 추출 로직 (비교 기준).
+     */
+    static final class LegacyExtractor {
+
+        static JumpitPositionFeatureDto extract(Document doc) {
+            String title = text(doc, "h1");
+            String company = text(doc, ".name span, a.name span");
+            String deadline = text(doc, "dl:has(dt:containsOwn(마감일)) dd");
+            List<String> techStacks = doc.select("dt:containsOwn(기술스택) + dd pre div").eachText();
+            String duties = preBlock(doc, "주요업무");
+            String requirements = preBlock(doc, "자격요건");
+            String preferred = preBlock(doc, "우대사항");
+            String benefits = preBlock(doc, "복지 및 혜택");
+            String location = text(doc, "dl:has(dt:containsOwn(근무지역)) dd li");
+
+            if (title == null || company == null || deadline == null || techStacks.isEmpty()) {
+                JsonNode fallback = fallbackJson(doc);
+                if (fallback != null && title == null) title = fallback.path("title").asText(null);
+            }
+            return JumpitPositionFeatureDto.builder()
+                    .title(title).company(company).techStacks(techStacks)
+                    .duties(duties).requirements(requirements).preferred(preferred)
+                    .benefits(benefits).deadline(deadline).location(location)
+                    .build();
+        }
+
+        private static String preBlock(Document doc, String label) {
+            Element pre = doc.selectFirst("dt:containsOwn(" + label + ") + dd pre");
+            return pre != null ? pre.text() : null;
+        }
+
+        private static String text(Document doc, String selector) {
+            Element el = doc.selectFirst(selector);
+            return el != null ? el.text() : null;
+        }
+
+        private static JsonNode fallbackJson(Document doc) {
+            Pattern p = Pattern.compile("\\{\\s*\\\"queryKey\\\"\\s*:\\s*\\[\\\"position\\\",\\\"view\\\".*?\\}\\s*\\]\\s*\\}", Pattern.DOTALL);
+            ObjectMapper mapper = new ObjectMapper();
+            for (Element s : doc.select("script")) {
+                Matcher m = p.matcher(s.data());
+                if (m.find()) {
+                    try {
+                        return mapper.readTree(m.group());
+                    } catch (Exception ignored) {}
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.wowraid.jobspooncrawler.jumpit.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionListDto;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionPage;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포지션 목록 응답 파싱 비교.
+ * - treeModel: 기존 방식 (응답 String -> readTree -> path().asText())
+ * - streaming: JumpitPositionStreamParser (바이트 스트림 -> 토큰 파싱)
+ * 작업 단위는 포지션 1건 (@OperationsPerInvocation) 이므로
+ * gc.alloc.rate.norm 이 곧 포지션당 할당 바이트.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JumpitPositionParseBenchmark {
+
+    private static final int POSITIONS_PER_PAGE = 16;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JumpitPositionStreamParser streamParser = new JumpitPositionStreamParser();
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = samplePage().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSITIONS_PER_PAGE)
+    public JumpitPositionPage treeModel() throws IOException {
+        String json = new String(body, StandardCharsets.UTF_8);
+        JsonNode resultNode = objectMapper.readTree(json).path("result");
+        List<JumpitPositionListDto> result = new ArrayList<>();
+        for (JsonNode pos : resultNode.path("positions")) {
+            result.add(new JumpitPositionListDto(pos.path("id").asText(), pos.path("closedAt").asText()));
+        }
+        return new JumpitPositionPage(resultNode.path("totalCount").asInt(0), result);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSITIONS_PER_PAGE)
+    public JumpitPositionPage streaming() throws IOException {
+        return streamParser.parsePage(new ByteArrayInputStream(body));
+    }
+
+    // 실제 목록 API 응답과 비슷한 필드 구성의 페이지
+    private static String samplePage() {
+        StringBuilder sb = new StringBuilder("{\"message\":\"success\",\"status\":200,\"code\":\"\",\"result\":{\"totalCount\":5923,\"page\":1,\"positions\":[");
+        for (int i = 0; i < POSITIONS_PER_PAGE; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"id\":").append(51050679 + i)
+                    .append(",\"jobCategory\":\"서버/백엔드 개발자\",\"logo\":\"https://cdn.jumpit.co.kr/images/logo_").append(i).append(".png\"")
+                    .append(",\"imagePath\":\"https://cdn.jumpit.co.kr/images/177779/20231213091202660_1080_648.jpg\"")
+                    .append(",\"title\":\"서버 백엔드 개발[신입] ").append(i).append("\",\"companyName\":\"패션앤스타일컴퍼니\"")
+                    .append(",\"techStacks\":[\"Java\",\"Spring\",\"Spring Boot\",\"Oracle\",\"Git\",\"MySQL\"]")
+                    .append(",\"scraped\":false,\"locations\":[\"서울 종로구\"],\"alwaysOpen\":false")
+                    .append(",\"closedAt\":\"2025-08-16 23:59:59\",\"newcomer\":true,\"minCareer\":0,\"maxCareer\":3,\"celebration\":50}");
+        }
+        return sb.append("]}}").toString();
+    }
+}
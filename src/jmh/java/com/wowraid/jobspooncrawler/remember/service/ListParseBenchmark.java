@@ -0,0 +1,111 @@
+package com.wowraid.jobspooncrawler.remember.service;
+
+import com.wowraid.jobspooncrawler.remember.config.RememberProperties;
+import com.wowraid.jobspooncrawler.remember.dto.JobListingDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remember 목록 페이지 한 장당 파싱 비용 (gc.alloc.rate.norm 이 곧 페이지당 할당 바이트).
+ * - legacy: 이전 구현 (매번 셀렉터 문자열 파싱, 항목마다 INFO 로그 문자열 연결)
+ * - current: 전체 Document 생성 후 미리 컴파일한 셀렉터로 select, 항목 로그는 debug 가드
+ * 입력은 src/test/resources/sample_remember.html (렌더링된 페이지를 저장해 두면 사용),
+ * 없으면 렌더링된 목록 페이지와 비슷한 구성의 합성 페이지.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ListParseBenchmark {
+
+    private static final String SELECTOR =
+            "li > div > a[rel=\"noopener noreferrer\"]:not([href*=\"web_high_salary_position\"])";
+    private static final int POSTINGS_PER_PAGE = 300;
+
+    private ListParseService service;
+    private String html;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/sample_remember.html")) {
+            html = in != null ? new String(in.readAllBytes(), StandardCharsets.UTF_8) : samplePage();
+        }
+        RememberProperties properties = new RememberProperties();
+        properties.setListSelector(SELECTOR);
+        service = new ListParseService(properties, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        Document doc = Jsoup.parse(html);
+        Elements items = doc.select(SELECTOR);
+        List<JobListingDto> results = new ArrayList<>();
+        for (Element li : items) {
+            String title = li.text();
+            String href = li.attr("href");
+            // 로거 출력 비용은 빼고 메시지 생성 비용만
+            bh.consume("title= " + title + " href= " + href);
+            results.add(new JobListingDto(title, href));
+        }
+        bh.consume(results);
+    }
+
+    @Benchmark
+    public List<JobListingDto> current() {
+        return service.parse(html);
+    }
+
+    // 하이드레이션 스크립트, 헤더/필터, 카드형 목록, 푸터로 구성된 1MB 남짓의 페이지
+    private static String samplePage() {
+        StringBuilder sb = new StringBuilder(1 << 20);
+        sb.append("<!DOCTYPE html><html lang=\"ko\"><head><meta charset=\"utf-8\"><title>채용 공고 | 리멤버</title>");
+        for (int i = 0; i < 20; i++) {
+            sb.append("<link rel=\"stylesheet\" href=\"/_next/static/css/").append(i).append(".css\">");
+        }
+        sb.append("<script id=\"__NEXT_DATA__\" type=\"application/json\">{\"props\":{\"pageProps\":{\"postings\":[");
+        for (int i = 0; i < POSTINGS_PER_PAGE; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"id\":").append(200000 + i).append(",\"title\":\"백엔드 개발자 ").append(i)
+                    .append("\",\"organization\":{\"name\":\"주식회사 잡스푼\",\"industry\":\"IT·인터넷\"}}");
+        }
+        sb.append("]}}}</script></head><body><div id=\"__next\">");
+        sb.append("<header class=\"gnb\"><nav>");
+        for (int i = 0; i < 40; i++) {
+            sb.append("<a class=\"gnb-item\" href=\"/menu/").append(i).append("\"><span>메뉴 ").append(i).append("</span></a>");
+        }
+        sb.append("</nav></header><section class=\"filters\">");
+        for (int i = 0; i < 200; i++) {
+            sb.append("<label class=\"chip\"><input type=\"checkbox\" value=\"").append(i)
+                    .append("\"><span>키워드 ").append(i).append("</span></label>");
+        }
+        sb.append("</section><main><ul class=\"posting-list\">");
+        for (int i = 0; i < POSTINGS_PER_PAGE; i++) {
+            String href = i % 15 == 0
+                    ? "/job/posting/" + (200000 + i) + "?source=web_high_salary_position"
+                    : "/job/posting/" + (200000 + i);
+            sb.append("<li class=\"posting-card\"><div class=\"card\"><a rel=\"noopener noreferrer\" href=\"")
+                    .append(href).append("\"><div class=\"thumb\"><img src=\"/logo/").append(i)
+                    .append(".png\" alt=\"\"></div><div class=\"body\"><h3 class=\"title\">백엔드 개발자 (Java/Spring) ")
+                    .append(i).append("</h3><p class=\"company\">주식회사 잡스푼</p><ul class=\"tags\">")
+                    .append("<li>서울 강남구</li><li>경력 3~7년</li><li>정규직</li></ul></div></a>")
+                    .append("<button class=\"bookmark\" aria-label=\"북마크\"><svg viewBox=\"0 0 24 24\"><path d=\"M6 2h12v20l-6-4-6 4z\"/></svg></button>")
+                    .append("</div></li>");
+        }
+        sb.append("</ul></main><footer>");
+        for (int i = 0; i < 50; i++) {
+            sb.append("<p class=\"footer-line\">리멤버 회사 정보 ").append(i).append("</p>");
+        }
+        return sb.append("</footer></div></body></html>").toString();
+    }
+}
@@ -5,7 +5,17 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties( { com.wowraid.jobspooncrawler.remember.config.RememberProperties.class } )
+@EnableConfigurationProperties( { com.wowraid.jobspooncrawler.remember.config.RememberProperties.class,
+        com.wowraid.jobspooncrawler.remember.config.ChromeProperties.class,
+        com.wowraid.jobspooncrawler.jumpit.config.JumpitProperties.class,
+        com.wowraid.jobspooncrawler.http.config.HttpCacheProperties.class,
+        com.wowraid.jobspooncrawler.timer.config.RateLimitProperties.class,
+        com.wowraid.jobspooncrawler.utility.config.RetryProperties.class,
+        com.wowraid.jobspooncrawler.utility.config.CircuitBreakerProperties.class,
+        com.wowraid.jobspooncrawler.dedup.config.DedupProperties.class,
+        com.wowraid.jobspooncrawler.job.config.CrawlJobProperties.class,
+        com.wowraid.jobspooncrawler.schedule.config.CrawlScheduleProperties.class,
+        com.wowraid.jobspooncrawler.trace.config.CrawlTraceProperties.class } )
 public class JobspoonCrawlerApplication {
 
     public static void main(String[] args) {
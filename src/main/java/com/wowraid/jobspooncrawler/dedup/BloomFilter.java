@@ -0,0 +1,85 @@
+package com.wowraid.jobspooncrawler.dedup;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * 64비트 키용 블룸 필터.
+ * - 비트 수 m = -n·ln(p) / (ln 2)², 해시 수 k = m/n·ln 2 (n: 예상 개수, p: 오탐률).
+ * - k 개 위치는 키 하나에서 두 해시를 만들어 h1 + i·h2 로 계산 (double hashing).
+ * - 없다고 하면 확실히 없고, 있다고 하면 p 확률로 틀림. 스레드 안전하지 않음 (DedupIndex 가 동기화).
+ */
+final class BloomFilter implements SeenSet {
+
+    private final long[] words;
+    private final long numBits;
+    private final int numHashes;
+    private long added;
+
+    BloomFilter(int expectedItems, double falsePositiveRate) {
+        long bits = (long) Math.ceil(-expectedItems * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.numBits = Math.max(64, (bits + 63) / 64 * 64);
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedItems * Math.log(2)));
+        this.words = new long[(int) (numBits / 64)];
+    }
+
+    @Override
+    public boolean add(long key) {
+        long h1 = key;
+        long h2 = PostingKey.mix(key) | 1;
+        boolean changed = false;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words[word] & mask) == 0) {
+                words[word] |= mask;
+                changed = true;
+            }
+        }
+        if (changed) added++;
+        return changed;
+    }
+
+    @Override
+    public boolean contains(long key) {
+        long h1 = key;
+        long h2 = PostingKey.mix(key) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public long size() {
+        return added;
+    }
+
+    int numHashes() {
+        return numHashes;
+    }
+
+    long numBits() {
+        return numBits;
+    }
+
+    @Override
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeLong(numBits);
+        out.writeInt(numHashes);
+        out.writeLong(added);
+        for (long word : words) out.writeLong(word);
+    }
+
+    @Override
+    public void readFrom(DataInputStream in) throws IOException {
+        if (in.readLong() != numBits || in.readInt() != numHashes) {
+            throw new IOException("블룸 필터 크기가 현재 설정과 다름");
+        }
+        added = in.readLong();
+        for (int i = 0; i < words.length; i++) words[i] = in.readLong();
+    }
+}
@@ -0,0 +1,222 @@
+package com.wowraid.jobspooncrawler.dedup;
+
+import com.wowraid.jobspooncrawler.dedup.config.DedupProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/**
+ * 공고 중복 제거 인덱스 (Remember 목록, Jumpit 목록/상세 공용).
+ * - 키는 소스 이름 + 정규화한 URL/id 의 64비트 해시 (PostingKey).
+ * - 실행 단위(Run): 한 번의 수집 안에서 같은 공고를 한 번만 통과시킴.
+ * - crossRun=true 면 이전 실행에서 본 공고도 건너뛰고, ${crawler.state-dir}/dedup-index.bin 에 저장해 재시작 후에도 유지.
+ *   markIfNew 로 내보낸 공고는 실행이 끝나 complete 를 호출할 때 공유 집합에 들어감
+ *   (취소/오류로 클라이언트에 닿지 못한 공고가 다음 실행에서 영영 걸러지지 않도록).
+ * - 공유 집합은 EXACT(LongHashSet) 또는 BLOOM(BloomFilter, 아주 큰 실행용).
+ * - 건너뛴 수는 crawler.dedup.duplicates{source} 로 기록.
+ */
+@Slf4j
+@Component
+public class DedupIndex {
+
+    private static final String FILE_NAME = "dedup-index.bin";
+    private static final int MAGIC = 0x4A53_4444; // "JSDD"
+
+    private final DedupProperties properties;
+    private final Path file;
+    private final MeterRegistry meterRegistry;
+    // 실행 간 공유 집합 (crossRun 일 때만 사용)
+    private final SeenSet shared;
+    private boolean dirty;
+
+    public DedupIndex(DedupProperties properties,
+                      @Value("${crawler.state-dir:./crawler-state}") String stateDir,
+                      MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.file = Path.of(stateDir).resolve(FILE_NAME);
+        this.meterRegistry = meterRegistry;
+        this.shared = newSet();
+        if (properties.isEnabled() && properties.isCrossRun()) {
+            load();
+        }
+        Gauge.builder("crawler.dedup.shared.size", this, index -> index.sharedSize())
+                .description("실행 간 공유 중복 인덱스에 든 공고 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 수집 실행 시작.
+     */
+    public Run newRun() {
+        return new Run();
+    }
+
+    /**
+     * 한 번의 수집 실행 범위. 여러 워커 스레드에서 함께 써도 됨.
+     */
+    public final class Run {
+
+        private final LongHashSet seen = new LongHashSet(1024);
+        // markIfNew 로 통과시켜 complete 때 공유 집합에 넣을 키
+        private long[] pending = new long[64];
+        private int pendingSize;
+
+        private Run() {
+        }
+
+        /**
+         * 처음 보는 공고면 이번 실행에서 본 것으로 표시하고 true, 이미 본 공고면 false.
+         * 실행 간 공유 집합에는 complete 에서 반영.
+         */
+        public boolean markIfNew(String source, String urlOrId) {
+            if (!properties.isEnabled()) return true;
+            long key = PostingKey.of(source, urlOrId);
+            synchronized (this) {
+                if (!seen.add(key)) return duplicate(source);
+            }
+            if (properties.isCrossRun()) {
+                synchronized (DedupIndex.this) {
+                    if (shared.contains(key)) return duplicate(source);
+                }
+                synchronized (this) {
+                    if (pendingSize == pending.length) pending = Arrays.copyOf(pending, pendingSize * 2);
+                    pending[pendingSize++] = key;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 실행이 정상적으로 끝났을 때 호출. markIfNew 로 내보낸 공고를 공유 집합에 넣고 저장.
+         * 취소/오류로 끝난 실행은 호출하지 않으므로 그 공고는 다음 실행에서 다시 나옴.
+         */
+        public void complete() {
+            if (properties.isEnabled() && properties.isCrossRun()) {
+                long[] keys;
+                int count;
+                synchronized (this) {
+                    keys = pending;
+                    count = pendingSize;
+                    pending = new long[64];
+                    pendingSize = 0;
+                }
+                synchronized (DedupIndex.this) {
+                    for (int i = 0; i < count; i++) {
+                        dirty |= shared.add(keys[i]);
+                    }
+                }
+            }
+            save();
+        }
+
+        /**
+         * 이번 실행 또는 (crossRun 이면) 이전 실행에서 본 공고인지 확인만 함.
+         * 수집이 성공한 뒤에만 표시하려는 경우 mark 와 함께 사용.
+         */
+        public boolean isSeen(String source, String urlOrId) {
+            if (!properties.isEnabled()) return false;
+            long key = PostingKey.of(source, urlOrId);
+            synchronized (this) {
+                if (seen.contains(key)) return true;
+            }
+            if (properties.isCrossRun()) {
+                synchronized (DedupIndex.this) {
+                    return shared.contains(key);
+                }
+            }
+            return false;
+        }
+
+        public void mark(String source, String urlOrId) {
+            if (!properties.isEnabled()) return;
+            long key = PostingKey.of(source, urlOrId);
+            synchronized (this) {
+                seen.add(key);
+            }
+            if (properties.isCrossRun()) {
+                synchronized (DedupIndex.this) {
+                    dirty |= shared.add(key);
+                }
+            }
+        }
+
+        /**
+         * 중복으로 건너뛴 건수 기록 (isSeen 으로 거른 호출 측에서 사용).
+         */
+        public void recordSkipped(String source) {
+            duplicate(source);
+        }
+
+        private boolean duplicate(String source) {
+            Counter.builder("crawler.dedup.duplicates")
+                    .description("중복으로 건너뛴 공고 수")
+                    .tag("source", source)
+                    .register(meterRegistry)
+                    .increment();
+            return false;
+        }
+    }
+
+    /**
+     * 실행 간 공유 집합을 파일에 저장 (변경이 있을 때만). 수집 실행이 끝날 때 호출 (Run.complete 가 대신 호출).
+     */
+    public synchronized void save() {
+        if (!properties.isEnabled() || !properties.isCrossRun() || !dirty) return;
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(FILE_NAME + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeByte(properties.getMode().ordinal());
+                shared.writeTo(out);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+        } catch (IOException e) {
+            log.warn("[DedupIndex] 인덱스 저장 실패 file={}", file, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        save();
+    }
+
+    synchronized long sharedSize() {
+        return shared.size();
+    }
+
+    private SeenSet newSet() {
+        return properties.getMode() == DedupProperties.Mode.BLOOM
+                ? new BloomFilter(properties.getExpectedItems(), properties.getFalsePositiveRate())
+                : new LongHashSet(1024);
+    }
+
+    private void load() {
+        if (!Files.exists(file)) return;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readByte() != properties.getMode().ordinal()) {
+                log.warn("[DedupIndex] 인덱스 형식/모드가 달라 새로 시작합니다. file={}", file);
+                return;
+            }
+            shared.readFrom(in);
+            log.info("[DedupIndex] 인덱스 로드 size={}, mode={}", shared.size(), properties.getMode());
+        } catch (IOException e) {
+            log.warn("[DedupIndex] 인덱스 읽기 실패, 새로 시작합니다. file={}", file, e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.wowraid.jobspooncrawler.dedup;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * long 원시 배열 기반 집합 (오픈 어드레싱, 선형 탐사).
+ * - 박싱 없이 키당 8~16바이트. 적재율 1/2 을 넘으면 두 배로 늘림.
+ * - 0 은 빈 칸 표시로 쓰므로 따로 보관.
+ * - 스레드 안전하지 않음 (DedupIndex 가 동기화).
+ */
+final class LongHashSet implements SeenSet {
+
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean hasZero;
+
+    LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        this.table = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    public boolean add(long key) {
+        if (key == 0) {
+            if (hasZero) return false;
+            hasZero = true;
+            return true;
+        }
+        int i = slot(key);
+        while (table[i] != 0) {
+            if (table[i] == key) return false;
+            i = (i + 1) & mask;
+        }
+        table[i] = key;
+        if (++size * 2 > table.length) grow();
+        return true;
+    }
+
+    @Override
+    public boolean contains(long key) {
+        if (key == 0) return hasZero;
+        int i = slot(key);
+        while (table[i] != 0) {
+            if (table[i] == key) return true;
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    @Override
+    public long size() {
+        return size + (hasZero ? 1 : 0);
+    }
+
+    private int slot(long key) {
+        return (int) PostingKey.mix(key) & mask;
+    }
+
+    private void grow() {
+        long[] old = table;
+        table = new long[old.length * 2];
+        mask = table.length - 1;
+        size = 0;
+        for (long key : old) {
+            if (key != 0) add(key);
+        }
+    }
+
+    @Override
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeLong(size());
+        if (hasZero) out.writeLong(0);
+        for (long key : table) {
+            if (key != 0) out.writeLong(key);
+        }
+    }
+
+    @Override
+    public void readFrom(DataInputStream in) throws IOException {
+        long count = in.readLong();
+        for (long i = 0; i < count; i++) {
+            add(in.readLong());
+        }
+    }
+}
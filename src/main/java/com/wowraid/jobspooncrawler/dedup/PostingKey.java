@@ -0,0 +1,76 @@
+package com.wowraid.jobspooncrawler.dedup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 공고 URL/id 를 정규화해 64비트 키로 변환.
+ * - scheme/host 소문자, "www." 제거, fragment 와 utm_* 파라미터 제거, 끝 '/' 제거.
+ * - 해시는 FNV-1a 64 + 비트 섞기(murmur3 fmix64). 소스 이름도 함께 섞어 소스별로 다른 키가 됨.
+ */
+public final class PostingKey {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private PostingKey() {
+    }
+
+    public static long of(String source, String urlOrId) {
+        long h = FNV_OFFSET;
+        h = fnv(h, source);
+        h = (h ^ '\n') * FNV_PRIME;
+        h = fnv(h, normalize(urlOrId));
+        return mix(h);
+    }
+
+    static String normalize(String urlOrId) {
+        String s = urlOrId.trim();
+        int fragment = s.indexOf('#');
+        if (fragment >= 0) s = s.substring(0, fragment);
+
+        int schemeEnd = s.indexOf("://");
+        if (schemeEnd > 0) {
+            int hostStart = schemeEnd + 3;
+            int pathStart = s.indexOf('/', hostStart);
+            if (pathStart < 0) pathStart = s.indexOf('?', hostStart);
+            if (pathStart < 0) pathStart = s.length();
+            String host = s.substring(hostStart, pathStart).toLowerCase(Locale.ROOT);
+            if (host.startsWith("www.")) host = host.substring(4);
+            s = s.substring(0, schemeEnd).toLowerCase(Locale.ROOT) + "://" + host + s.substring(pathStart);
+        }
+
+        int query = s.indexOf('?');
+        String path = query >= 0 ? s.substring(0, query) : s;
+        String params = query >= 0 ? stripTracking(s.substring(query + 1)) : "";
+        while (path.length() > 1 && path.endsWith("/")) path = path.substring(0, path.length() - 1);
+        return params.isEmpty() ? path : path + "?" + params;
+    }
+
+    private static String stripTracking(String query) {
+        StringBuilder kept = new StringBuilder();
+        for (String param : query.split("&")) {
+            if (param.isEmpty() || param.startsWith("utm_")) continue;
+            if (kept.length() > 0) kept.append('&');
+            kept.append(param);
+        }
+        return kept.toString();
+    }
+
+    private static long fnv(long h, String s) {
+        for (byte b : s.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,24 @@
+package com.wowraid.jobspooncrawler.dedup;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * 64비트 공고 키 집합 (LongHashSet / BloomFilter).
+ */
+interface SeenSet {
+
+    /**
+     * @return 새로 추가됐으면 true, 이미 있었으면(BLOOM 은 있을 가능성이 높으면) false
+     */
+    boolean add(long key);
+
+    boolean contains(long key);
+
+    long size();
+
+    void writeTo(DataOutputStream out) throws IOException;
+
+    void readFrom(DataInputStream in) throws IOException;
+}
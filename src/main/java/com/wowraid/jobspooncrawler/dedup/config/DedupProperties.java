@@ -0,0 +1,36 @@
+package com.wowraid.jobspooncrawler.dedup.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Getter @Setter
+@Validated
+@ConfigurationProperties(prefix = "crawler.dedup")
+public class DedupProperties {
+
+    public enum Mode { EXACT, BLOOM }
+
+    // false 면 중복 제거 없이 기존처럼 모두 반환/수집
+    private boolean enabled = true;
+
+    // true 면 이전 실행(재시작 포함)에서 본 공고도 중복으로 보고 건너뜀
+    private boolean crossRun = false;
+
+    // EXACT: 64비트 해시 집합 (오탐 없음), BLOOM: 아주 큰 실행용 (메모리 고정, 오탐률 falsePositiveRate)
+    @NotNull
+    private Mode mode = Mode.EXACT;
+
+    // BLOOM 크기 산정용 예상 공고 수
+    @Positive
+    private int expectedItems = 1_000_000;
+
+    // BLOOM 허용 오탐률 (새 공고를 본 것으로 잘못 판단할 확률)
+    @Positive
+    @DecimalMax("0.5")
+    private double falsePositiveRate = 0.001;
+}
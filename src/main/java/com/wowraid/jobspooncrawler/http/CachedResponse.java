@@ -0,0 +1,54 @@
+package com.wowraid.jobspooncrawler.http;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 캐시에 저장된 응답 한 건 (본문 + 재검증에 쓸 검증자).
+ */
+@Getter
+@AllArgsConstructor
+public class CachedResponse {
+
+    private final String url;
+    // 서버가 준 ETag / Last-Modified (없으면 null, 이때는 TTL 로만 신선도 판단)
+    private final String etag;
+    private final String lastModified;
+    private final String contentType;
+    // 저장(또는 마지막 재검증) 시각 (epoch ms)
+    private final long storedAt;
+    private final byte[] body;
+
+    public boolean hasValidators() {
+        return etag != null || lastModified != null;
+    }
+
+    /**
+     * 304 로 재검증된 경우 본문은 그대로 두고 저장 시각만 갱신.
+     */
+    public CachedResponse revalidatedAt(long now) {
+        return new CachedResponse(url, etag, lastModified, contentType, now, body);
+    }
+
+    public Charset charset() {
+        return charsetOf(contentType);
+    }
+
+    static Charset charsetOf(String contentType) {
+        if (contentType != null) {
+            int idx = contentType.toLowerCase().indexOf("charset=");
+            if (idx >= 0) {
+                String name = contentType.substring(idx + 8).split(";")[0].trim().replace("\"", "");
+                try {
+                    return Charset.forName(name);
+                } catch (IllegalArgumentException ignored) {
+                    // 알 수 없는 charset 이면 UTF-8 로 처리
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+}
@@ -0,0 +1,185 @@
+package com.wowraid.jobspooncrawler.http;
+
+import com.wowraid.jobspooncrawler.http.config.HttpCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.time.Clock;
+
+/**
+ * 응답 캐시를 거치는 GET 수집기.
+ * - ETag / Last-Modified 가 있던 응답은 If-None-Match / If-Modified-Since 로 재검증하고,
+ *   304 면 저장된 본문을 사용.
+ * - 검증자가 없는 응답은 ttl 안이면 요청 없이 저장된 본문을 사용하고, 지나면 다시 받음.
+ *   새 글마다 순서가 밀리는 목록 페이지는 fetchRevalidated 로 받아 ttl 로 건너뛰지 않음 (상세 페이지만 ttl 사용).
+ * - 4xx/5xx 는 RestTemplate 기본 동작대로 예외를 던지고 캐시는 건드리지 않음.
+ * - 결과는 crawler.http.cache.requests{result=hit|revalidated|miss},
+ *   crawler.http.cache.bytes.saved 로 기록.
+ * - 실제로 보낸 요청의 응답 시간/본문 크기는 HttpFetchMetrics 로 호스트별 기록 (본문을 읽는 reader 시간은 제외).
+ */
+@Slf4j
+@Component
+public class CachingHttpFetcher {
+
+    private static final int TIMEOUT_MILLIS = 10000;
+
+    /**
+     * 본문 스트림을 원하는 형태로 읽는 함수.
+     */
+    @FunctionalInterface
+    public interface BodyReader<T> {
+        T read(InputStream body, Charset charset) throws IOException;
+    }
+
+    private final RestTemplate restTemplate;
+    private final HttpResponseCache cache;
+    private final HttpCacheProperties properties;
+    private final Clock clock;
+    private final Counter hitCounter;
+    private final Counter revalidatedCounter;
+    private final Counter missCounter;
+    private final Counter bytesSavedCounter;
+    private final HttpFetchMetrics fetchMetrics;
+
+    public CachingHttpFetcher(HttpResponseCache cache, HttpCacheProperties properties, MeterRegistry meterRegistry) {
+        this(cache, properties, meterRegistry, new HttpFetchMetrics(meterRegistry));
+    }
+
+    @Autowired
+    public CachingHttpFetcher(HttpResponseCache cache, HttpCacheProperties properties, MeterRegistry meterRegistry,
+                              HttpFetchMetrics fetchMetrics) {
+        this(defaultRestTemplate(), cache, properties, meterRegistry, fetchMetrics, Clock.systemUTC());
+    }
+
+    CachingHttpFetcher(RestTemplate restTemplate, HttpResponseCache cache, HttpCacheProperties properties,
+                       MeterRegistry meterRegistry, HttpFetchMetrics fetchMetrics, Clock clock) {
+        this.restTemplate = restTemplate;
+        this.cache = cache;
+        this.properties = properties;
+        this.clock = clock;
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.revalidatedCounter = requestCounter(meterRegistry, "revalidated");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.bytesSavedCounter = Counter.builder("crawler.http.cache.bytes.saved")
+                .description("캐시로 내려받지 않은 본문 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.fetchMetrics = fetchMetrics;
+    }
+
+    public <T> T fetch(String url, BodyReader<T> reader) {
+        return fetch(url, new HttpHeaders(), reader);
+    }
+
+    /**
+     * @param headers 요청에 추가할 헤더 (User-Agent 등)
+     */
+    public <T> T fetch(String url, HttpHeaders headers, BodyReader<T> reader) {
+        return fetch(url, headers, reader, true);
+    }
+
+    public <T> T fetchRevalidated(String url, BodyReader<T> reader) {
+        return fetchRevalidated(url, new HttpHeaders(), reader);
+    }
+
+    /**
+     * ttl 을 쓰지 않는 수집. 항상 요청을 보내고 ETag / Last-Modified 가 있으면 재검증만 함.
+     * 내용이 수시로 바뀌는 목록 페이지용 (오래된 페이지를 읽으면 워터마크가 잘못 올라감).
+     */
+    public <T> T fetchRevalidated(String url, HttpHeaders headers, BodyReader<T> reader) {
+        return fetch(url, headers, reader, false);
+    }
+
+    private <T> T fetch(String url, HttpHeaders headers, BodyReader<T> reader, boolean useTtl) {
+        CachedResponse cached = cache.get(url);
+        long now = clock.millis();
+
+        if (useTtl && cached != null && !cached.hasValidators()
+                && now - cached.getStoredAt() < properties.getTtl().toMillis()) {
+            hitCounter.increment();
+            bytesSavedCounter.increment(cached.getBody().length);
+            return readCached(cached, reader);
+        }
+
+        long start = System.nanoTime();
+        // 응답을 받은 뒤 reader 에서 난 예외를 요청 오류로 다시 기록하지 않도록 표시
+        boolean[] recorded = {false};
+        try {
+            return restTemplate.execute(url, HttpMethod.GET, request -> {
+                request.getHeaders().addAll(headers);
+                if (cached != null && cached.getEtag() != null) {
+                    request.getHeaders().setIfNoneMatch(cached.getEtag());
+                }
+                if (cached != null && cached.getLastModified() != null) {
+                    request.getHeaders().set(HttpHeaders.IF_MODIFIED_SINCE, cached.getLastModified());
+                }
+            }, response -> {
+                if (response.getStatusCode().value() == 304 && cached != null) {
+                    recorded[0] = true;
+                    fetchMetrics.record(url, System.nanoTime() - start, HttpFetchMetrics.NOT_MODIFIED, 0);
+                    revalidatedCounter.increment();
+                    bytesSavedCounter.increment(cached.getBody().length);
+                    cache.put(cached.revalidatedAt(now));
+                    return readCached(cached, reader);
+                }
+
+                missCounter.increment();
+                HttpHeaders responseHeaders = response.getHeaders();
+                String contentType = responseHeaders.getFirst(HttpHeaders.CONTENT_TYPE);
+                byte[] body = response.getBody().readAllBytes();
+                recorded[0] = true;
+                fetchMetrics.record(url, System.nanoTime() - start, HttpFetchMetrics.OK, body.length);
+                // ttl 을 쓰지 않으면 검증자 없는 응답은 다시 쓸 일이 없으므로 저장하지 않음
+                boolean reusable = useTtl || responseHeaders.getETag() != null
+                        || responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED) != null;
+                if (reusable && isStorable(responseHeaders, body)) {
+                    cache.put(new CachedResponse(url, responseHeaders.getETag(),
+                            responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED), contentType, now, body));
+                }
+                return reader.read(new ByteArrayInputStream(body), CachedResponse.charsetOf(contentType));
+            });
+        } catch (RuntimeException e) {
+            if (!recorded[0]) fetchMetrics.record(url, System.nanoTime() - start, HttpFetchMetrics.ERROR, -1);
+            throw e;
+        }
+    }
+
+    private boolean isStorable(HttpHeaders headers, byte[] body) {
+        if (body.length > properties.getMaxEntryBytes()) return false;
+        String cacheControl = headers.getCacheControl();
+        return cacheControl == null || !cacheControl.contains("no-store");
+    }
+
+    private <T> T readCached(CachedResponse cached, BodyReader<T> reader) {
+        try {
+            return reader.read(new ByteArrayInputStream(cached.getBody()), cached.charset());
+        } catch (IOException e) {
+            throw new IllegalStateException("캐시 본문 읽기 실패 url=" + cached.getUrl(), e);
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("crawler.http.cache.requests")
+                .description("응답 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static RestTemplate defaultRestTemplate() {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(TIMEOUT_MILLIS);
+        factory.setReadTimeout(TIMEOUT_MILLIS);
+        return new RestTemplate(factory);
+    }
+}
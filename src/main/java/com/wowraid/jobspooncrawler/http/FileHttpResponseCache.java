@@ -0,0 +1,116 @@
+package com.wowraid.jobspooncrawler.http;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 응답을 URL 별 gzip 파일로 보관하는 캐시.
+ * - 파일명은 URL 의 SHA-256, 내용은 헤더(url, 검증자, 저장 시각) + 본문을 gzip 으로 압축한 것.
+ * - 저장은 임시 파일에 쓴 뒤 교체하여 동시에 읽는 쪽이 깨진 파일을 보지 않게 함.
+ * - 읽기 실패(손상, 형식 변경)는 캐시 미스로 처리하고 파일을 지움.
+ */
+@Slf4j
+public class FileHttpResponseCache implements HttpResponseCache {
+
+    // 파일 형식이 바뀌면 올려서 이전 파일을 미스로 처리
+    private static final int FORMAT_VERSION = 1;
+    private static final String SUFFIX = ".gz";
+
+    private final Path dir;
+
+    public FileHttpResponseCache(Path dir) {
+        this.dir = dir;
+    }
+
+    @Override
+    public CachedResponse get(String url) {
+        Path file = fileFor(url);
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                Files.deleteIfExists(file);
+                return null;
+            }
+            String storedUrl = in.readUTF();
+            String etag = readNullable(in);
+            String lastModified = readNullable(in);
+            String contentType = readNullable(in);
+            long storedAt = in.readLong();
+            byte[] body = in.readNBytes(in.readInt());
+            // 해시 충돌 방지
+            if (!storedUrl.equals(url)) return null;
+            return new CachedResponse(storedUrl, etag, lastModified, contentType, storedAt, body);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("[FileHttpResponseCache] 캐시 파일 읽기 실패, 삭제 후 미스 처리 url={}: {}", url, e.getMessage());
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(CachedResponse response) {
+        Path file = fileFor(response.getUrl());
+        Path tmp = null;
+        try {
+            Files.createDirectories(dir);
+            tmp = Files.createTempFile(dir, "entry", ".tmp");
+            try (OutputStream raw = Files.newOutputStream(tmp);
+                 DataOutputStream out = new DataOutputStream(new GZIPOutputStream(raw))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(response.getUrl());
+                writeNullable(out, response.getEtag());
+                writeNullable(out, response.getLastModified());
+                writeNullable(out, response.getContentType());
+                out.writeLong(response.getStoredAt());
+                out.writeInt(response.getBody().length);
+                out.write(response.getBody());
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("[FileHttpResponseCache] 캐시 저장 실패 url={}: {}", response.getUrl(), e.getMessage());
+            if (tmp != null) deleteQuietly(tmp);
+        }
+    }
+
+    Path fileFor(String url) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            return dir.resolve(HexFormat.of().formatHex(hash) + SUFFIX);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // 모든 JVM 이 SHA-256 을 지원
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeUTF(value);
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // 다음 저장 때 덮어씀
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.wowraid.jobspooncrawler.http;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호스트별 HTTP 수집 지표 (동기 CachingHttpFetcher, 리액티브 목록 크롤러 공용).
+ * - crawler.http.fetch{host,outcome}: 요청 시작부터 본문을 모두 받을 때까지 걸린 시간.
+ *   캐시 hit 은 요청을 보내지 않으므로 기록하지 않음 (crawler.http.cache.requests 참고).
+ * - crawler.http.fetch.bytes{host}: 내려받은 본문 크기 (304 는 0).
+ */
+@Component
+public class HttpFetchMetrics {
+
+    public static final String OK = "ok";
+    public static final String NOT_MODIFIED = "not_modified";
+    public static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+
+    public HttpFetchMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param bytes 받은 본문 크기, 오류로 본문이 없으면 음수 (크기는 기록하지 않음)
+     */
+    public void record(String url, long elapsedNanos, String outcome, long bytes) {
+        String host = hostOf(url);
+        Timer.builder("crawler.http.fetch")
+                .description("HTTP 요청 1건 응답 시간 (본문 수신 포함)")
+                .tags("host", host, "outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (bytes < 0) return;
+        DistributionSummary.builder("crawler.http.fetch.bytes")
+                .description("HTTP 응답 본문 크기")
+                .baseUnit("bytes")
+                .tag("host", host)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host : "unknown";
+        } catch (IllegalArgumentException e) {
+            return "unknown";
+        }
+    }
+}
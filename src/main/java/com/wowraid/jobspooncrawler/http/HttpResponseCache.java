@@ -0,0 +1,30 @@
+package com.wowraid.jobspooncrawler.http;
+
+/**
+ * URL 단위 응답 캐시 저장소.
+ * - 구현체는 CachingHttpFetcher 아래에서 교체 가능 (기본은 FileHttpResponseCache).
+ * - 구현체는 여러 워커 스레드에서 동시에 호출되어도 안전해야 함.
+ */
+public interface HttpResponseCache {
+
+    /**
+     * 캐시를 쓰지 않는 구현 (crawler.http-cache.enabled=false).
+     */
+    HttpResponseCache NONE = new HttpResponseCache() {
+        @Override
+        public CachedResponse get(String url) {
+            return null;
+        }
+
+        @Override
+        public void put(CachedResponse response) {
+        }
+    };
+
+    /**
+     * @return 저장된 응답, 없거나 읽을 수 없으면 null
+     */
+    CachedResponse get(String url);
+
+    void put(CachedResponse response);
+}
@@ -0,0 +1,23 @@
+package com.wowraid.jobspooncrawler.http.config;
+
+import com.wowraid.jobspooncrawler.http.FileHttpResponseCache;
+import com.wowraid.jobspooncrawler.http.HttpResponseCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Slf4j
+@Configuration
+public class HttpCacheConfig {
+
+    @Bean
+    public HttpResponseCache httpResponseCache(HttpCacheProperties properties) {
+        if (!properties.isEnabled()) {
+            log.info("[HttpCacheConfig] 응답 캐시 비활성화");
+            return HttpResponseCache.NONE;
+        }
+        return new FileHttpResponseCache(Path.of(properties.getDir()));
+    }
+}
@@ -0,0 +1,32 @@
+package com.wowraid.jobspooncrawler.http.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter @Setter
+@Validated
+@ConfigurationProperties(prefix = "crawler.http-cache")
+public class HttpCacheProperties {
+
+    // false 면 캐시 없이 매번 다운로드
+    private boolean enabled = true;
+
+    // 캐시 파일을 둘 디렉터리
+    @NotBlank
+    private String dir = "./crawler-state/http-cache";
+
+    // ETag / Last-Modified 가 없는 상세 응답을 재요청 없이 쓰는 기간 (목록은 ttl 을 쓰지 않음)
+    @NotNull
+    private Duration ttl = Duration.ofMinutes(30);
+
+    // 이보다 큰 본문은 저장하지 않음 (bytes)
+    @Positive
+    private int maxEntryBytes = 2 * 1024 * 1024;
+}
@@ -0,0 +1,33 @@
+package com.wowraid.jobspooncrawler.job.config;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Getter @Setter
+@Validated
+@ConfigurationProperties(prefix = "crawler.job")
+public class CrawlJobProperties {
+
+    // 작업 항목을 처리하는 워커 스레드 수
+    @Positive
+    private int workers = 2;
+
+    // 항목당 최대 시도 횟수 (넘기면 FAILED 로 두고 작업은 계속 진행)
+    @Positive
+    private int maxAttempts = 3;
+
+    // 로그 레코드가 이만큼 쌓이면 스냅샷을 쓰고 로그를 비움
+    @Positive
+    private int snapshotEvery = 500;
+
+    // 스냅샷에 남겨 둘 끝난 작업 수 (오래된 작업은 결과 파일과 함께 삭제)
+    @PositiveOrZero
+    private int retainFinished = 50;
+
+    // true 면 레코드마다 디스크까지 동기화 (전원 장애 대비, 느려짐). false 면 OS 버퍼까지만 (프로세스 재시작 대비)
+    private boolean fsync = false;
+}
@@ -0,0 +1,84 @@
+package com.wowraid.jobspooncrawler.job.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wowraid.jobspooncrawler.job.dto.CrawlJobDto;
+import com.wowraid.jobspooncrawler.job.service.CrawlJobService;
+import com.wowraid.jobspooncrawler.jumpit.config.JumpitProperties;
+import com.wowraid.jobspooncrawler.jumpit.controller.CrawlController;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * 수집 작업 API. 요청은 작업 id 와 진행 상황을 바로 돌려주고 (202), 수집은 백그라운드 워커가 진행.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/jobs")
+public class CrawlJobController {
+
+    private final CrawlJobService crawlJobService;
+    private final JumpitProperties jumpitProperties;
+
+    public CrawlJobController(CrawlJobService crawlJobService, JumpitProperties jumpitProperties) {
+        this.crawlJobService = crawlJobService;
+        this.jumpitProperties = jumpitProperties;
+    }
+
+    @PostMapping("/jumpit/list")
+    public ResponseEntity<CrawlJobDto> submitJumpitList(@RequestParam(required = false) Integer maxPages,
+                                                        @RequestParam(defaultValue = "false") boolean details) {
+        int pages = maxPages != null ? maxPages : jumpitProperties.getMaxPages();
+        return ResponseEntity.accepted()
+                .body(crawlJobService.submitJumpitList(CrawlController.POSITION_LIST_BASE_URL, pages, details));
+    }
+
+    // 본문은 /jumpit/feature/batch 와 같음 (id/URL 문자열 배열 또는 {"id":...} 배열)
+    @PostMapping("/jumpit/feature")
+    public ResponseEntity<CrawlJobDto> submitJumpitFeatures(@RequestBody List<JsonNode> targets) {
+        List<String> idsOrUrls = targets.stream()
+                .map(node -> node.isObject() ? node.path("id").asText() : node.asText())
+                .filter(s -> !s.isBlank())
+                .toList();
+        return ResponseEntity.accepted().body(crawlJobService.submitJumpitFeatures(idsOrUrls));
+    }
+
+    @PostMapping("/remember/list")
+    public ResponseEntity<CrawlJobDto> submitRememberList() {
+        return ResponseEntity.accepted().body(crawlJobService.submitRememberList());
+    }
+
+    @GetMapping
+    public List<CrawlJobDto> list() {
+        return crawlJobService.list();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<CrawlJobDto> get(@PathVariable String id) {
+        return ResponseEntity.of(crawlJobService.find(id));
+    }
+
+    // 진행 중이면 남은 항목을 취소하고, 이미 끝난 작업이면 그대로 상태만 반환
+    @DeleteMapping("/{id}")
+    public ResponseEntity<CrawlJobDto> cancel(@PathVariable String id) {
+        crawlJobService.cancel(id);
+        return ResponseEntity.of(crawlJobService.find(id));
+    }
+
+    // 지금까지 완료된 항목의 결과 (NDJSON, 한 줄에 결과 하나)
+    @GetMapping(value = "/{id}/results", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Resource> results(@PathVariable String id) {
+        return crawlJobService.results(id)
+                .<ResponseEntity<Resource>>map(file -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(Files.exists(file) ? new FileSystemResource(file) : new ByteArrayResource(new byte[0])))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,32 @@
+package com.wowraid.jobspooncrawler.job.dto;
+
+import com.wowraid.jobspooncrawler.job.entity.CrawlJob;
+import com.wowraid.jobspooncrawler.job.entity.WorkItem;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 작업 진행 상황 (항목 목록 없이 건수만).
+ */
+@Getter
+@AllArgsConstructor
+public class CrawlJobDto {
+    private final String id;
+    private final CrawlJob.Type type;
+    private final CrawlJob.Status status;
+    private final long createdAt;
+    private final long updatedAt;
+    private final Map<String, String> params;
+    private final int totalItems;
+    private final long doneItems;
+    private final long failedItems;
+    private final long pendingItems;
+
+    public static CrawlJobDto from(CrawlJob job) {
+        return new CrawlJobDto(job.getId(), job.getType(), job.getStatus(), job.getCreatedAt(), job.getUpdatedAt(),
+                Map.copyOf(job.getParams()), job.getItems().size(), job.count(WorkItem.Status.DONE),
+                job.count(WorkItem.Status.FAILED), job.count(WorkItem.Status.PENDING));
+    }
+}
@@ -0,0 +1,52 @@
+package com.wowraid.jobspooncrawler.job.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 수집 작업. 항목 목록과 항목별 진행 상태를 가짐 (CrawlJobStore 가 로그/스냅샷으로 보관).
+ */
+@Getter @Setter
+@NoArgsConstructor
+public class CrawlJob {
+
+    public enum Type { JUMPIT_LIST, JUMPIT_FEATURE, REMEMBER_LIST }
+
+    public enum Status { RUNNING, COMPLETED, CANCELLED }
+
+    private String id;
+    private Type type;
+    private Status status;
+    private long createdAt;
+    private long updatedAt;
+    // 작업 생성 시 요청 값 (목록 URL, maxPages 등 항목 처리기가 참고)
+    private Map<String, String> params = new LinkedHashMap<>();
+    private List<WorkItem> items = new ArrayList<>();
+
+    public long count(WorkItem.Status itemStatus) {
+        return items.stream().filter(item -> item.getStatus() == itemStatus).count();
+    }
+
+    public boolean allItemsFinished() {
+        return items.stream().allMatch(item -> item.getStatus() != WorkItem.Status.PENDING);
+    }
+
+    public CrawlJob copy() {
+        CrawlJob copy = new CrawlJob();
+        copy.id = id;
+        copy.type = type;
+        copy.status = status;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        copy.params = new LinkedHashMap<>(params);
+        copy.items = new ArrayList<>(items.size());
+        items.forEach(item -> copy.items.add(item.copy()));
+        return copy;
+    }
+}
@@ -0,0 +1,44 @@
+package com.wowraid.jobspooncrawler.job.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 작업 항목 하나 (목록 페이지 / 상세 URL / 키워드 청크).
+ * - 처리 중 상태는 저장하지 않음. 재시작하면 DONE/FAILED 가 아닌 항목을 다시 처리.
+ */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkItem {
+
+    public enum Kind { JUMPIT_LIST_PAGE, JUMPIT_DETAIL, REMEMBER_CHUNK }
+
+    public enum Status { PENDING, DONE, FAILED }
+
+    private Kind kind;
+    // 페이지 번호 / 상세 URL 또는 포지션 id / level1 카테고리
+    private String target;
+    // REMEMBER_CHUNK 의 level2 키워드 (그 외에는 비어 있음)
+    private List<String> args;
+    private Status status;
+    private int attempts;
+    // 마지막 실패 사유
+    private String error;
+
+    public static WorkItem of(Kind kind, String target) {
+        return of(kind, target, List.of());
+    }
+
+    public static WorkItem of(Kind kind, String target, List<String> args) {
+        return new WorkItem(kind, target, List.copyOf(args), Status.PENDING, 0, null);
+    }
+
+    public WorkItem copy() {
+        return new WorkItem(kind, target, args, status, attempts, error);
+    }
+}
@@ -0,0 +1,183 @@
+package com.wowraid.jobspooncrawler.job.service;
+
+import com.wowraid.jobspooncrawler.job.config.CrawlJobProperties;
+import com.wowraid.jobspooncrawler.job.dto.CrawlJobDto;
+import com.wowraid.jobspooncrawler.job.entity.CrawlJob;
+import com.wowraid.jobspooncrawler.job.entity.WorkItem;
+import com.wowraid.jobspooncrawler.job.store.CrawlJobStore;
+import com.wowraid.jobspooncrawler.remember.service.CrawlerService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 수집 작업 실행기.
+ * - 작업을 만들면 바로 id 를 돌려주고, 항목은 workers 개의 워커가 큐에서 꺼내 처리.
+ * - 항목이 끝날 때마다 CrawlJobStore 에 체크포인트를 남기므로, 재시작하면 마지막으로 완료된 항목 다음부터 이어서 처리.
+ * - 실패한 항목은 큐 뒤로 보내 maxAttempts 까지 다시 시도 (호스트별 재시도/속도 제한은 각 크롤러가 담당).
+ */
+@Slf4j
+@Service
+public class CrawlJobService {
+
+    private final CrawlJobStore store;
+    private final CrawlJobProperties properties;
+    private final Map<WorkItem.Kind, WorkItemHandler> handlers = new EnumMap<>(WorkItem.Kind.class);
+    // Remember 작업 생성 시 키워드 청크 계획
+    private final CrawlerService crawlerService;
+    private final BlockingDeque<CrawlJobStore.ItemRef> queue = new LinkedBlockingDeque<>();
+    private final ExecutorService workers;
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    public CrawlJobService(CrawlJobStore store, CrawlJobProperties properties, List<WorkItemHandler> handlers,
+                           CrawlerService crawlerService) {
+        this.store = store;
+        this.properties = properties;
+        this.crawlerService = crawlerService;
+        handlers.forEach(handler -> this.handlers.put(handler.kind(), handler));
+        this.workers = Executors.newFixedThreadPool(properties.getWorkers(), new CustomizableThreadFactory("crawl-job-"));
+    }
+
+    /**
+     * 남은 항목을 큐에 다시 넣고 워커 시작 (애플리케이션 준비 후 한 번).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!started.compareAndSet(false, true)) return;
+        List<CrawlJobStore.ItemRef> pending = store.pendingItems();
+        if (!pending.isEmpty()) {
+            log.info("[CrawlJobService] 중단된 작업 항목 {}건 이어서 처리", pending.size());
+        }
+        queue.addAll(pending);
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workers.submit(this::workLoop);
+        }
+    }
+
+    /**
+     * @param url      page 자리에 %d 가 들어간 목록 API URL
+     * @param maxPages 최대 페이지 수 (0 이면 전체)
+     * @param details  true 면 목록의 포지션마다 상세 페이지도 수집
+     */
+    public CrawlJobDto submitJumpitList(String url, int maxPages, boolean details) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put(JumpitListPageHandler.PARAM_URL, url);
+        params.put(JumpitListPageHandler.PARAM_MAX_PAGES, Integer.toString(maxPages));
+        params.put(JumpitListPageHandler.PARAM_DETAILS, Boolean.toString(details));
+        // 나머지 페이지는 1페이지를 처리하며 추가
+        return submit(CrawlJob.Type.JUMPIT_LIST, params, List.of(WorkItem.of(WorkItem.Kind.JUMPIT_LIST_PAGE, "1")));
+    }
+
+    /**
+     * @param targets 포지션 id 또는 상세 페이지 URL 목록
+     */
+    public CrawlJobDto submitJumpitFeatures(List<String> targets) {
+        List<WorkItem> items = targets.stream()
+                .distinct()
+                .map(target -> WorkItem.of(WorkItem.Kind.JUMPIT_DETAIL, target))
+                .toList();
+        return submit(CrawlJob.Type.JUMPIT_FEATURE, Map.of(), items);
+    }
+
+    /**
+     * 현재 키워드 추정치로 만든 청크 계획을 그대로 작업 항목으로 저장.
+     */
+    public CrawlJobDto submitRememberList() {
+        List<WorkItem> items = crawlerService.planChunks().stream()
+                .map(chunk -> WorkItem.of(WorkItem.Kind.REMEMBER_CHUNK, chunk.level1(), chunk.keywords()))
+                .toList();
+        return submit(CrawlJob.Type.REMEMBER_LIST, Map.of(), items);
+    }
+
+    public Optional<CrawlJobDto> find(String jobId) {
+        return store.find(jobId).map(CrawlJobDto::from);
+    }
+
+    public List<CrawlJobDto> list() {
+        return store.list().stream().map(CrawlJobDto::from).toList();
+    }
+
+    /**
+     * 남은 항목을 더 처리하지 않음 (처리 중인 항목의 결과는 버림).
+     */
+    public boolean cancel(String jobId) {
+        boolean cancelled = store.cancel(jobId);
+        if (cancelled) notifyIfFinished(jobId);
+        return cancelled;
+    }
+
+    /**
+     * 지금까지 완료된 항목의 결과 파일 (NDJSON, 결과가 아직 없으면 파일도 없음), 작업이 없으면 empty.
+     */
+    public Optional<Path> results(String jobId) {
+        return store.find(jobId).map(job -> store.resultsFile(jobId));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 처리 중이던 항목은 체크포인트가 없으므로 다음 시작 때 다시 처리됨
+        workers.shutdownNow();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private CrawlJobDto submit(CrawlJob.Type type, Map<String, String> params, List<WorkItem> items) {
+        CrawlJob job = store.create(type, params, items);
+        for (int i = 0; i < items.size(); i++) {
+            queue.add(new CrawlJobStore.ItemRef(job.getId(), i));
+        }
+        log.info("[CrawlJobService] 작업 생성 id={}, type={}, items={}", job.getId(), type, items.size());
+        return CrawlJobDto.from(job);
+    }
+
+    private void workLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                process(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    void process(CrawlJobStore.ItemRef ref) throws InterruptedException {
+        // 취소됐거나 이미 끝난 항목은 건너뜀
+        WorkItem item = store.pendingItem(ref);
+        if (item == null) return;
+        try {
+            WorkItemHandler.Outcome outcome = handlers.get(item.getKind()).handle(ref.jobId(), store.params(ref.jobId()), item);
+            queue.addAll(store.complete(ref, outcome.results(), outcome.added()));
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("[CrawlJobService] 항목 처리 실패 jobId={}, kind={}, target={}: {}",
+                    ref.jobId(), item.getKind(), item.getTarget(), e.getMessage());
+            if (store.fail(ref, e.getMessage())) {
+                queue.addLast(ref);
+            }
+        }
+        notifyIfFinished(ref.jobId());
+    }
+
+    // 작업이 끝났으면 처리기들이 작업 단위 상태를 반영/정리하도록 알림
+    private void notifyIfFinished(String jobId) {
+        store.find(jobId)
+                .filter(job -> job.getStatus() != CrawlJob.Status.RUNNING)
+                .ifPresent(job -> handlers.values().forEach(handler -> handler.jobFinished(job)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.wowraid.jobspooncrawler.job.service;
+
+import com.wowraid.jobspooncrawler.dedup.DedupIndex;
+import com.wowraid.jobspooncrawler.job.entity.CrawlJob;
+import com.wowraid.jobspooncrawler.job.entity.WorkItem;
+import com.wowraid.jobspooncrawler.jumpit.config.JumpitProperties;
+import com.wowraid.jobspooncrawler.jumpit.service.JumpitPositionsFeatureBatchCrawler;
+import com.wowraid.jobspooncrawler.jumpit.service.JumpitPositionsFeatureCrawler;
+import com.wowraid.jobspooncrawler.timer.HostRateLimiters;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Jumpit 상세 페이지 한 건 (포지션 id 또는 상세 URL).
+ * - /jumpit/features 와 같이 이미 본 상세 페이지(같은 작업 안, crossRun 이면 이전 실행 포함)는 요청하지 않고 건너뜀.
+ * - 수집에 성공한 페이지만 본 것으로 표시하고, 작업이 끝나면 인덱스를 저장.
+ */
+@Component
+@RequiredArgsConstructor
+public class JumpitDetailHandler implements WorkItemHandler {
+
+    private final JumpitPositionsFeatureCrawler featureCrawler;
+    private final HostRateLimiters hostRateLimiters;
+    private final JumpitProperties jumpitProperties;
+    private final DedupIndex dedupIndex;
+    private final Map<String, DedupIndex.Run> runs = new ConcurrentHashMap<>();
+
+    @Override
+    public WorkItem.Kind kind() {
+        return WorkItem.Kind.JUMPIT_DETAIL;
+    }
+
+    @Override
+    public Outcome handle(String jobId, Map<String, String> params, WorkItem item) throws IOException {
+        String url = JumpitPositionsFeatureBatchCrawler.toDetailUrl(item.getTarget());
+        DedupIndex.Run dedup = runs.computeIfAbsent(jobId, id -> dedupIndex.newRun());
+        if (dedup.isSeen(JumpitPositionsFeatureBatchCrawler.DEDUP_SOURCE, url)) {
+            dedup.recordSkipped(JumpitPositionsFeatureBatchCrawler.DEDUP_SOURCE);
+            return Outcome.of(List.of());
+        }
+        Outcome outcome = Outcome.of(List.of(featureCrawler.crawl(url,
+                hostRateLimiters.forUrl(url, jumpitProperties.getDetailRequestsPerSecond()))));
+        dedup.mark(JumpitPositionsFeatureBatchCrawler.DEDUP_SOURCE, url);
+        return outcome;
+    }
+
+    @Override
+    public void jobFinished(CrawlJob job) {
+        if (runs.remove(job.getId()) != null) dedupIndex.save();
+    }
+}
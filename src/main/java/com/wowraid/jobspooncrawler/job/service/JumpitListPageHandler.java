@@ -0,0 +1,59 @@
+package com.wowraid.jobspooncrawler.job.service;
+
+import com.wowraid.jobspooncrawler.job.entity.WorkItem;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionListDto;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionPage;
+import com.wowraid.jobspooncrawler.jumpit.service.JumpitPositionsListCrawler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Jumpit 목록 페이지 한 장.
+ * - 1페이지의 totalCount 로 나머지 페이지 항목을 만들고, totalCount 가 없으면 다음 페이지를 하나씩 이어 붙임.
+ * - details=true 면 포지션마다 상세 항목을 추가.
+ */
+@Component
+@RequiredArgsConstructor
+public class JumpitListPageHandler implements WorkItemHandler {
+
+    static final String PARAM_URL = "url";
+    static final String PARAM_MAX_PAGES = "maxPages";
+    static final String PARAM_DETAILS = "details";
+
+    private final JumpitPositionsListCrawler listCrawler;
+
+    @Override
+    public WorkItem.Kind kind() {
+        return WorkItem.Kind.JUMPIT_LIST_PAGE;
+    }
+
+    @Override
+    public Outcome handle(String jobId, Map<String, String> params, WorkItem item) {
+        int pageid = Integer.parseInt(item.getTarget());
+        int maxPages = Integer.parseInt(params.getOrDefault(PARAM_MAX_PAGES, "0"));
+        JumpitPositionPage page = listCrawler.crawlPage(params.get(PARAM_URL), pageid);
+        List<JumpitPositionListDto> positions = page.getPositions();
+        if (positions.isEmpty()) return Outcome.of(List.of());
+
+        List<WorkItem> added = new ArrayList<>();
+        if (page.getTotalCount() > 0) {
+            if (pageid == 1) {
+                int lastPage = (page.getTotalCount() + positions.size() - 1) / positions.size();
+                if (maxPages > 0) lastPage = Math.min(lastPage, maxPages);
+                for (int next = 2; next <= lastPage; next++) {
+                    added.add(WorkItem.of(WorkItem.Kind.JUMPIT_LIST_PAGE, Integer.toString(next)));
+                }
+            }
+        } else if (maxPages == 0 || pageid < maxPages) {
+            added.add(WorkItem.of(WorkItem.Kind.JUMPIT_LIST_PAGE, Integer.toString(pageid + 1)));
+        }
+        if (Boolean.parseBoolean(params.get(PARAM_DETAILS))) {
+            positions.forEach(position -> added.add(WorkItem.of(WorkItem.Kind.JUMPIT_DETAIL, position.getId())));
+        }
+        return new Outcome(positions, added);
+    }
+}
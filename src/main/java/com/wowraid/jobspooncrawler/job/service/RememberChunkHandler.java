@@ -0,0 +1,75 @@
+package com.wowraid.jobspooncrawler.job.service;
+
+import com.wowraid.jobspooncrawler.dedup.DedupIndex;
+import com.wowraid.jobspooncrawler.job.entity.CrawlJob;
+import com.wowraid.jobspooncrawler.job.entity.WorkItem;
+import com.wowraid.jobspooncrawler.remember.dto.ChunkCoverageDto;
+import com.wowraid.jobspooncrawler.remember.dto.JobListingDto;
+import com.wowraid.jobspooncrawler.remember.keyword.KeywordChunkPlanner;
+import com.wowraid.jobspooncrawler.remember.service.CrawlerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remember 키워드 청크 한 개 (level1 + level2 키워드 목록).
+ * - /api/url 과 같이 작업 안의 여러 청크에서 나온 같은 공고(상세 URL 기준)는 처음 것만 결과에 남김.
+ * - 작업이 끝나면 청크별 커버리지로 키워드 추정치를 갱신하고, crossRun 이면 내보낸 공고를 공유 인덱스에 반영.
+ *   취소된 작업은 반영하지 않음.
+ * - 작업 단위 상태는 메모리에만 두므로 재시작 전에 처리한 청크는 중복 제거/커버리지에 빠짐.
+ */
+@Component
+@RequiredArgsConstructor
+public class RememberChunkHandler implements WorkItemHandler {
+
+    private final CrawlerService crawlerService;
+    private final DedupIndex dedupIndex;
+    private final Map<String, JobState> jobs = new ConcurrentHashMap<>();
+
+    @Override
+    public WorkItem.Kind kind() {
+        return WorkItem.Kind.REMEMBER_CHUNK;
+    }
+
+    @Override
+    public Outcome handle(String jobId, Map<String, String> params, WorkItem item) {
+        CrawlerService.ChunkResult result = crawlerService.fetchChunkListings(item.getTarget(), item.getArgs());
+        JobState job = jobs.computeIfAbsent(jobId, id -> new JobState(dedupIndex.newRun()));
+        List<JobListingDto> listings = result.items().stream()
+                // 상세 URL 이 없는 항목은 구분할 수 없으므로 그대로 둠
+                .filter(listing -> listing.getDetailurl() == null || listing.getDetailurl().isBlank()
+                        || job.dedup.markIfNew(CrawlerService.DEDUP_SOURCE, listing.getDetailurl()))
+                .toList();
+        job.add(new KeywordChunkPlanner.KeywordChunk(item.getTarget(), item.getArgs(), null), result.coverage());
+        return Outcome.of(listings);
+    }
+
+    @Override
+    public void jobFinished(CrawlJob job) {
+        JobState state = jobs.remove(job.getId());
+        if (state == null || job.getStatus() != CrawlJob.Status.COMPLETED) return;
+        state.dedup.complete();
+        synchronized (state) {
+            crawlerService.recordChunkCoverage(state.chunks, state.coverage);
+        }
+    }
+
+    private static final class JobState {
+        private final DedupIndex.Run dedup;
+        private final List<KeywordChunkPlanner.KeywordChunk> chunks = new ArrayList<>();
+        private final List<ChunkCoverageDto> coverage = new ArrayList<>();
+
+        private JobState(DedupIndex.Run dedup) {
+            this.dedup = dedup;
+        }
+
+        private synchronized void add(KeywordChunkPlanner.KeywordChunk chunk, ChunkCoverageDto result) {
+            chunks.add(chunk);
+            coverage.add(result);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.wowraid.jobspooncrawler.job.service;
+
+import com.wowraid.jobspooncrawler.job.entity.CrawlJob;
+import com.wowraid.jobspooncrawler.job.entity.WorkItem;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 작업 항목 종류별 처리기. 예외를 던지면 실패로 보고 maxAttempts 까지 다시 시도.
+ */
+public interface WorkItemHandler {
+
+    WorkItem.Kind kind();
+
+    /**
+     * @param jobId  항목이 속한 작업 (작업 단위 상태를 모을 때 사용)
+     * @param params 작업 생성 시 요청 값
+     */
+    Outcome handle(String jobId, Map<String, String> params, WorkItem item) throws Exception;
+
+    /**
+     * 작업이 끝났을 때 (모든 항목 처리 또는 취소) 호출. 여러 워커가 함께 알릴 수 있으므로 두 번 불려도 안전해야 함.
+     * 작업 단위로 모아 둔 상태(중복 제거, 커버리지)를 반영하거나 버리는 용도.
+     */
+    default void jobFinished(CrawlJob job) {
+    }
+
+    /**
+     * @param results 결과 파일에 한 줄씩 기록할 객체
+     * @param added   이 항목을 처리하며 새로 알게 된 항목 (예: 나머지 목록 페이지, 상세 URL)
+     */
+    record Outcome(List<?> results, List<WorkItem> added) {
+
+        public static Outcome of(List<?> results) {
+            return new Outcome(results, List.of());
+        }
+    }
+}
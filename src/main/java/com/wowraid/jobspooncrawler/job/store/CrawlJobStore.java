@@ -0,0 +1,335 @@
+package com.wowraid.jobspooncrawler.job.store;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wowraid.jobspooncrawler.job.config.CrawlJobProperties;
+import com.wowraid.jobspooncrawler.job.entity.CrawlJob;
+import com.wowraid.jobspooncrawler.job.entity.WorkItem;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 파일 기반 작업 저장소 (append-only 로그 + 주기적 스냅샷).
+ * - ${crawler.state-dir}/jobs/jobs.log 에 변경 하나당 JSON 한 줄(seq 증가)을 덧붙이고,
+ *   snapshotEvery 레코드마다 전체 상태를 jobs.snapshot.json 에 임시 파일 → 교체로 쓴 뒤 로그를 비움.
+ * - 시작 시 스냅샷을 읽고 그보다 seq 가 큰 로그 레코드를 재적용. 마지막 줄이 쓰다 만 줄이면 버림.
+ * - 항목 결과는 jobs/{id}.results.ndjson 에 먼저 쓰고 그 다음 완료(ACK) 레코드를 씀.
+ *   둘 사이에 죽으면 그 항목은 다시 처리되므로 결과는 최소 한 번(at-least-once) 기록됨.
+ */
+@Slf4j
+@Component
+public class CrawlJobStore {
+
+    private static final String LOG_FILE = "jobs.log";
+    private static final String SNAPSHOT_FILE = "jobs.snapshot.json";
+    private static final String RESULTS_SUFFIX = ".results.ndjson";
+
+    enum Op { CREATE, ITEM, JOB }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record LogRecord(long seq, Op op, String jobId, long at, CrawlJob job, Integer item,
+                     WorkItem.Status itemStatus, Integer attempts, String error, List<WorkItem> added,
+                     CrawlJob.Status jobStatus) {
+    }
+
+    record Snapshot(long seq, List<CrawlJob> jobs) {
+    }
+
+    /**
+     * 작업 안의 항목 위치.
+     */
+    public record ItemRef(String jobId, int index) {
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final CrawlJobProperties properties;
+    private final Path dir;
+    private final Path logFile;
+    private final Path snapshotFile;
+    // 삽입 순서 = 생성 순서
+    private final Map<String, CrawlJob> jobs = new LinkedHashMap<>();
+    private FileChannel logChannel;
+    private long seq;
+    private int recordsSinceSnapshot;
+
+    public CrawlJobStore(CrawlJobProperties properties,
+                         @Value("${crawler.state-dir:./crawler-state}") String stateDir) {
+        this.properties = properties;
+        this.dir = Path.of(stateDir).resolve("jobs");
+        this.logFile = dir.resolve(LOG_FILE);
+        this.snapshotFile = dir.resolve(SNAPSHOT_FILE);
+        try {
+            Files.createDirectories(dir);
+            load();
+            logChannel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            // 재적용한 로그를 스냅샷으로 합쳐, 쓰다 만 마지막 줄 뒤에 새 레코드가 붙지 않게 함
+            compact();
+        } catch (IOException e) {
+            throw new UncheckedIOException("작업 저장소 초기화 실패 dir=" + dir, e);
+        }
+    }
+
+    public synchronized CrawlJob create(CrawlJob.Type type, Map<String, String> params, List<WorkItem> items) {
+        long now = System.currentTimeMillis();
+        CrawlJob job = new CrawlJob();
+        job.setId(UUID.randomUUID().toString());
+        job.setType(type);
+        job.setStatus(items.isEmpty() ? CrawlJob.Status.COMPLETED : CrawlJob.Status.RUNNING);
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+        job.setParams(new LinkedHashMap<>(params));
+        job.setItems(new ArrayList<>(items));
+        append(new LogRecord(0, Op.CREATE, job.getId(), now, job.copy(), null, null, null, null, null, null));
+        return job.copy();
+    }
+
+    /**
+     * 처리할 항목 (작업이 진행 중이고 항목이 아직 PENDING 일 때만), 아니면 null.
+     */
+    public synchronized WorkItem pendingItem(ItemRef ref) {
+        CrawlJob job = jobs.get(ref.jobId());
+        if (job == null || job.getStatus() != CrawlJob.Status.RUNNING) return null;
+        WorkItem item = job.getItems().get(ref.index());
+        return item.getStatus() == WorkItem.Status.PENDING ? item.copy() : null;
+    }
+
+    public synchronized Map<String, String> params(String jobId) {
+        CrawlJob job = jobs.get(jobId);
+        return job == null ? Map.of() : Map.copyOf(job.getParams());
+    }
+
+    /**
+     * 항목 완료 (체크포인트). 결과를 결과 파일에 쓰고, 새로 생긴 항목과 함께 완료 레코드를 남김.
+     *
+     * @return 새로 추가된 항목 위치
+     */
+    public synchronized List<ItemRef> complete(ItemRef ref, List<?> results, List<WorkItem> added) throws IOException {
+        CrawlJob job = jobs.get(ref.jobId());
+        if (job == null || job.getStatus() != CrawlJob.Status.RUNNING) return List.of();
+        writeResults(ref.jobId(), results);
+        WorkItem item = job.getItems().get(ref.index());
+        int firstAdded = job.getItems().size();
+        append(new LogRecord(0, Op.ITEM, ref.jobId(), System.currentTimeMillis(), null, ref.index(),
+                WorkItem.Status.DONE, item.getAttempts() + 1, null, added.isEmpty() ? null : added, null));
+        List<ItemRef> refs = new ArrayList<>(added.size());
+        for (int i = 0; i < added.size(); i++) {
+            refs.add(new ItemRef(ref.jobId(), firstAdded + i));
+        }
+        finishIfDone(job);
+        return refs;
+    }
+
+    /**
+     * 항목 실패 기록.
+     *
+     * @return 다시 시도할 항목이면 true, maxAttempts 를 넘겨 FAILED 로 끝났으면 false
+     */
+    public synchronized boolean fail(ItemRef ref, String error) {
+        CrawlJob job = jobs.get(ref.jobId());
+        if (job == null || job.getStatus() != CrawlJob.Status.RUNNING) return false;
+        int attempts = job.getItems().get(ref.index()).getAttempts() + 1;
+        boolean retry = attempts < properties.getMaxAttempts();
+        append(new LogRecord(0, Op.ITEM, ref.jobId(), System.currentTimeMillis(), null, ref.index(),
+                retry ? WorkItem.Status.PENDING : WorkItem.Status.FAILED, attempts, error, null, null));
+        finishIfDone(job);
+        return retry;
+    }
+
+    public synchronized boolean cancel(String jobId) {
+        CrawlJob job = jobs.get(jobId);
+        if (job == null || job.getStatus() != CrawlJob.Status.RUNNING) return false;
+        append(new LogRecord(0, Op.JOB, jobId, System.currentTimeMillis(), null, null, null, null, null, null,
+                CrawlJob.Status.CANCELLED));
+        return true;
+    }
+
+    public synchronized Optional<CrawlJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(CrawlJob::copy);
+    }
+
+    public synchronized List<CrawlJob> list() {
+        return jobs.values().stream().map(CrawlJob::copy).toList();
+    }
+
+    /**
+     * 진행 중인 작업의 남은 항목 (재시작 후 이어서 처리할 항목).
+     */
+    public synchronized List<ItemRef> pendingItems() {
+        List<ItemRef> refs = new ArrayList<>();
+        for (CrawlJob job : jobs.values()) {
+            if (job.getStatus() != CrawlJob.Status.RUNNING) continue;
+            for (int i = 0; i < job.getItems().size(); i++) {
+                if (job.getItems().get(i).getStatus() == WorkItem.Status.PENDING) {
+                    refs.add(new ItemRef(job.getId(), i));
+                }
+            }
+        }
+        return refs;
+    }
+
+    public Path resultsFile(String jobId) {
+        return dir.resolve(jobId + RESULTS_SUFFIX);
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        try {
+            compact();
+            logChannel.close();
+        } catch (IOException e) {
+            log.warn("[CrawlJobStore] 종료 중 스냅샷 저장 실패 dir={}", dir, e);
+        }
+    }
+
+    private void finishIfDone(CrawlJob job) {
+        if (job.getStatus() == CrawlJob.Status.RUNNING && job.allItemsFinished()) {
+            append(new LogRecord(0, Op.JOB, job.getId(), System.currentTimeMillis(), null, null, null, null, null,
+                    null, CrawlJob.Status.COMPLETED));
+        }
+    }
+
+    private void append(LogRecord record) {
+        LogRecord numbered = new LogRecord(++seq, record.op(), record.jobId(), record.at(), record.job(),
+                record.item(), record.itemStatus(), record.attempts(), record.error(), record.added(),
+                record.jobStatus());
+        try {
+            byte[] line = (mapper.writeValueAsString(numbered) + "\n").getBytes(StandardCharsets.UTF_8);
+            writeFully(logChannel, line);
+            if (properties.isFsync()) logChannel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("작업 로그 쓰기 실패 file=" + logFile, e);
+        }
+        apply(numbered);
+        if (++recordsSinceSnapshot >= properties.getSnapshotEvery()) {
+            try {
+                compact();
+            } catch (IOException e) {
+                // 로그는 남아 있으므로 다음 기회에 다시 시도
+                log.warn("[CrawlJobStore] 스냅샷 저장 실패 file={}", snapshotFile, e);
+            }
+        }
+    }
+
+    private void apply(LogRecord record) {
+        if (record.op() == Op.CREATE) {
+            jobs.put(record.jobId(), record.job());
+            return;
+        }
+        CrawlJob job = jobs.get(record.jobId());
+        if (job == null) return;
+        job.setUpdatedAt(record.at());
+        if (record.op() == Op.JOB) {
+            job.setStatus(record.jobStatus());
+            return;
+        }
+        WorkItem item = job.getItems().get(record.item());
+        item.setStatus(record.itemStatus());
+        item.setAttempts(record.attempts());
+        item.setError(record.error());
+        if (record.added() != null) {
+            record.added().forEach(added -> job.getItems().add(added.copy()));
+        }
+    }
+
+    private void writeResults(String jobId, List<?> results) throws IOException {
+        if (results.isEmpty()) return;
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        for (Object result : results) {
+            lines.write(mapper.writeValueAsBytes(result));
+            lines.write('\n');
+        }
+        try (FileChannel channel = FileChannel.open(resultsFile(jobId), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            writeFully(channel, lines.toByteArray());
+            if (properties.isFsync()) channel.force(false);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void load() throws IOException {
+        long snapshotSeq = 0;
+        if (Files.exists(snapshotFile)) {
+            Snapshot snapshot = mapper.readValue(snapshotFile.toFile(), Snapshot.class);
+            snapshot.jobs().forEach(job -> jobs.put(job.getId(), job));
+            snapshotSeq = snapshot.seq();
+        }
+        seq = snapshotSeq;
+        if (!Files.exists(logFile)) return;
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(logFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                LogRecord record;
+                try {
+                    record = mapper.readValue(line, LogRecord.class);
+                } catch (JsonProcessingException e) {
+                    log.warn("[CrawlJobStore] 읽을 수 없는 로그 레코드 이후는 버립니다. after seq={}", seq);
+                    break;
+                }
+                // 스냅샷 교체 후 로그를 비우기 전에 죽은 경우 이미 반영된 레코드
+                if (record.seq() <= snapshotSeq) continue;
+                apply(record);
+                seq = record.seq();
+                replayed++;
+            }
+        }
+        log.info("[CrawlJobStore] 작업 {}건 복구 (스냅샷 seq={}, 재적용 레코드={})", jobs.size(), snapshotSeq, replayed);
+    }
+
+    private void compact() throws IOException {
+        pruneFinished();
+        Path tmp = snapshotFile.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        mapper.writeValue(tmp.toFile(), new Snapshot(seq, List.copyOf(jobs.values())));
+        Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logChannel.truncate(0);
+        recordsSinceSnapshot = 0;
+    }
+
+    // 끝난 작업은 최근 retainFinished 개만 남김
+    private void pruneFinished() {
+        List<CrawlJob> finished = jobs.values().stream()
+                .filter(job -> job.getStatus() != CrawlJob.Status.RUNNING)
+                .sorted(Comparator.comparingLong(CrawlJob::getUpdatedAt).reversed())
+                .toList();
+        for (CrawlJob job : finished.subList(Math.min(properties.getRetainFinished(), finished.size()), finished.size())) {
+            jobs.remove(job.getId());
+            try {
+                Files.deleteIfExists(resultsFile(job.getId()));
+            } catch (IOException e) {
+                log.warn("[CrawlJobStore] 결과 파일 삭제 실패 jobId={}", job.getId(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.wowraid.jobspooncrawler.jumpit.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 크롤러 공용 WebClient 설정.
+ * - 커넥션 풀을 하나만 두고 모든 리액티브 크롤러가 공유하여,
+ *   동시 요청 수가 늘어도 스레드가 아니라 커넥션만 늘어나도록 구성.
+ */
+@Configuration
+public class CrawlerWebClientConfig {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (compatible; JumpitCrawler/1.0)";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider crawlerConnectionProvider(JumpitProperties jumpitProperties) {
+        return ConnectionProvider.builder("crawler")
+                .maxConnections(jumpitProperties.getMaxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(jumpitProperties.getResponseTimeoutMillis()))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public WebClient crawlerWebClient(WebClient.Builder builder, ConnectionProvider crawlerConnectionProvider,
+                                      JumpitProperties jumpitProperties) {
+        HttpClient httpClient = HttpClient.create(crawlerConnectionProvider)
+                .compress(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
+                .responseTimeout(Duration.ofMillis(jumpitProperties.getResponseTimeoutMillis()));
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader("User-Agent", USER_AGENT)
+                // 목록 페이지 JSON 이 기본 256KB 버퍼를 넘는 경우 대비
+                .codecs(c -> c.defaultCodecs().maxInMemorySize(jumpitProperties.getMaxResponseBytes()))
+                .build();
+    }
+}
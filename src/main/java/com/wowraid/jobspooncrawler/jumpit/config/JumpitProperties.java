@@ -0,0 +1,46 @@
+package com.wowraid.jobspooncrawler.jumpit.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Getter @Setter
+@Validated
+@ConfigurationProperties(prefix = "crawler.jumpit")
+public class JumpitProperties {
+
+    // 목록 크롤링 최대 페이지 수 (0 이면 빈 페이지가 나올 때까지). 증분 수집은 워터마크가 없는 첫 실행에만 적용
+    @Min(0)
+    private int maxPages = 0;
+
+    // 병렬 페이지 수집 시 동시에 진행할 최대 요청 수
+    @Positive
+    private int listConcurrency = 4;
+
+    // jumpit-api.saramin.co.kr 에 허용할 초당 요청 수
+    @Positive
+    private double requestsPerSecond = 2.0;
+
+    // 상세 페이지 일괄 수집 워커 수
+    @Positive
+    private int detailConcurrency = 4;
+
+    // jumpit.saramin.co.kr 상세 페이지에 허용할 초당 요청 수
+    @Positive
+    private double detailRequestsPerSecond = 1.0;
+
+    // 공유 WebClient 커넥션 풀 최대 커넥션 수
+    @Positive
+    private int maxConnections = 50;
+
+    // WebClient 응답 타임아웃 (ms)
+    @Positive
+    private long responseTimeoutMillis = 10000;
+
+    // 응답 본문 하나를 메모리에 모을 수 있는 최대 크기 (codec 버퍼와 목록 응답 버퍼 공용)
+    @Positive
+    private int maxResponseBytes = 4 * 1024 * 1024;
+}
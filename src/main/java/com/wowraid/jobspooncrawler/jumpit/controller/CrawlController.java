@@ -1,12 +1,18 @@
 
 package com.wowraid.jobspooncrawler.jumpit.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wowraid.jobspooncrawler.jumpit.config.JumpitProperties;
 import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionFeatureDto;
 import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionListDto;
+import com.wowraid.jobspooncrawler.jumpit.service.JumpitPositionsFeatureBatchCrawler;
 import com.wowraid.jobspooncrawler.jumpit.service.JumpitPositionsFeatureCrawler;
 import com.wowraid.jobspooncrawler.jumpit.service.JumpitPositionsListCrawler;
+import com.wowraid.jobspooncrawler.jumpit.service.JumpitPositionsReactiveListCrawler;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -15,15 +21,26 @@ import java.util.List;
 @RequestMapping("/jumpit")
 public class CrawlController {
     // 공통 베이스 URL + 파라미터로 page를 붙여서 사용
-    private static final String POSITION_LIST_BASE_URL =
+    public static final String POSITION_LIST_BASE_URL =
             "https://jumpit-api.saramin.co.kr/api/positions?sort=reg_dt&highlight=false&page=%d";
+    // 증분 수집 워터마크를 구분하는 소스 이름
+    public static final String LIST_SOURCE = "jumpit-positions";
 
     private final JumpitPositionsFeatureCrawler featureCrawler;
+    private final JumpitPositionsFeatureBatchCrawler featureBatchCrawler;
     private final JumpitPositionsListCrawler listCrawler;
+    private final JumpitPositionsReactiveListCrawler reactiveListCrawler;
+    private final JumpitProperties jumpitProperties;
 
-    public CrawlController(JumpitPositionsFeatureCrawler featureCrawler, JumpitPositionsListCrawler listCrawler) {
+    public CrawlController(JumpitPositionsFeatureCrawler featureCrawler,
+                           JumpitPositionsFeatureBatchCrawler featureBatchCrawler,
+                           JumpitPositionsListCrawler listCrawler,
+                           JumpitPositionsReactiveListCrawler reactiveListCrawler, JumpitProperties jumpitProperties) {
         this.featureCrawler = featureCrawler;
+        this.featureBatchCrawler = featureBatchCrawler;
         this.listCrawler = listCrawler;
+        this.reactiveListCrawler = reactiveListCrawler;
+        this.jumpitProperties = jumpitProperties;
     }
 
     @GetMapping("/feature")
@@ -34,11 +51,44 @@ public class CrawlController {
         return crawlresult;
     }
 
+    /**
+     * 상세 페이지 일괄 수집. 본문은 id/URL 문자열 배열 또는 /jumpit/list 결과 배열({"id":...}) 모두 허용.
+     * 수집이 끝나는 순서대로 NDJSON 으로 흘려보냄.
+     */
+    @PostMapping(value = "/feature/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<JumpitPositionFeatureDto> crawlFeatures(@RequestBody List<JsonNode> targets) {
+        log.info("Batch crawling features, size={}", targets.size());
+        List<String> idsOrUrls = targets.stream()
+                .map(node -> node.isObject() ? node.path("id").asText() : node.asText())
+                .filter(s -> !s.isBlank())
+                .toList();
+        return featureBatchCrawler.crawlAll(idsOrUrls);
+    }
+
     @GetMapping("/list")
-    public List<JumpitPositionListDto> crawlList() throws Exception {
-        log.info("Crawling list from URL={}", POSITION_LIST_BASE_URL);
-        List<JumpitPositionListDto> results = listCrawler.crawl(POSITION_LIST_BASE_URL);
+    public List<JumpitPositionListDto> crawlList(@RequestParam(defaultValue = "false") boolean parallel,
+                                                 @RequestParam(defaultValue = "false") boolean incremental,
+                                                 @RequestParam(required = false) Integer maxPages) {
+        log.info("Crawling list from URL={}, parallel={}, incremental={}, maxPages={}",
+                POSITION_LIST_BASE_URL, parallel, incremental, maxPages);
+        int pages = maxPages != null ? maxPages : jumpitProperties.getMaxPages();
+        List<JumpitPositionListDto> results;
+        if (incremental) {
+            results = listCrawler.crawlIncremental(POSITION_LIST_BASE_URL, LIST_SOURCE, pages);
+        } else if (parallel) {
+            results = listCrawler.crawlParallel(POSITION_LIST_BASE_URL, pages);
+        } else {
+            results = listCrawler.crawl(POSITION_LIST_BASE_URL, pages);
+        }
         log.info(results.toString());
         return results;
     }
+
+    // 논블로킹 목록 수집: 페이지를 받는 대로 NDJSON 으로 흘려보냄
+    @GetMapping(value = "/list/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<JumpitPositionListDto> streamList(@RequestParam(required = false) Integer maxPages) {
+        int pages = maxPages != null ? maxPages : jumpitProperties.getMaxPages();
+        log.info("Streaming list from URL={}, maxPages={}", POSITION_LIST_BASE_URL, pages);
+        return reactiveListCrawler.crawl(POSITION_LIST_BASE_URL, pages);
+    }
 }
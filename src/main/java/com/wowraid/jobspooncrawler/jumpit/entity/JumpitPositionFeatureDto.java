@@ -9,6 +9,7 @@ import java.util.List;
 @Data
 @Builder
 public class JumpitPositionFeatureDto {
+    private String url;
     private String title;
     private String company;
     private List<String> techStacks;
@@ -0,0 +1,19 @@
+package com.wowraid.jobspooncrawler.jumpit.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 포지션 목록 API 한 페이지 응답.
+ * - totalCount: 전체 포지션 수 (첫 페이지로 전체 페이지 수를 계산할 때 사용, 없으면 0)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JumpitPositionPage {
+    private int totalCount;
+    private List<JumpitPositionListDto> positions;
+}
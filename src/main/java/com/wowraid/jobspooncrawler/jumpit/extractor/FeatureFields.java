@@ -0,0 +1,57 @@
+package com.wowraid.jobspooncrawler.jumpit.extractor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionFeatureDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 추출기들이 공통으로 채우는 상세 필드 모음.
+ */
+class FeatureFields {
+    String title;
+    String company;
+    List<String> techStacks = new ArrayList<>();
+    String duties;
+    String requirements;
+    String preferred;
+    String benefits;
+    String deadline;
+    String location;
+
+    // 필수 필드(title/company/deadline/techStacks) 중 비어 있는 것이 있는지
+    boolean needsFallback() {
+        return isBlank(title) || isBlank(company) || isBlank(deadline) || techStacks.isEmpty();
+    }
+
+    // 비어 있는 필수 필드만 포지션 JSON 값으로 보충
+    void applyFallback(JsonNode fallback) {
+        if (fallback == null) return;
+        title = isBlank(title) ? fallback.path("title").asText(null) : title;
+        company = isBlank(company) ? JumpitFeatureJsonExtractor.companyName(fallback) : company;
+        deadline = isBlank(deadline) ? JumpitFeatureJsonExtractor.deadline(fallback) : deadline;
+        if (techStacks.isEmpty()) {
+            techStacks = JumpitFeatureJsonExtractor.techStacks(fallback);
+        }
+    }
+
+    JumpitPositionFeatureDto toDto(String url) {
+        return JumpitPositionFeatureDto.builder()
+                .url(url)
+                .title(title)
+                .company(company)
+                .techStacks(techStacks)
+                .duties(duties)
+                .requirements(requirements)
+                .preferred(preferred)
+                .benefits(benefits)
+                .deadline(deadline)
+                .location(location)
+                .build();
+    }
+
+    private static boolean isBlank(String s) {
+        return s == null || s.isBlank();
+    }
+}
@@ -0,0 +1,121 @@
+package com.wowraid.jobspooncrawler.jumpit.extractor;
+
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionFeatureDto;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.select.NodeFilter;
+import org.jsoup.select.NodeTraversor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상세 페이지를 한 번만 순회하며 모든 필드를 채우는 추출기.
+ * - 셀렉터 방식(JumpitFeatureExtractionPlan)은 필드마다 문서 전체를 훑지만,
+ *   여기서는 h1 / .name span / dt+dd 를 만나는 순서대로 한 번에 처리.
+ * - dt 를 만나면 바로 뒤 dd 서브트리에서 라벨에 맞는 필드를 채움. dd 안의 h1 / .name span 도 놓치지 않도록
+ *   dd 자식 순회는 그대로 진행.
+ * - 모든 필드가 채워지면 순회를 멈추고, 필수 필드가 비면 순회 중 모아 둔 script 로 fallback JSON 을 찾음.
+ * - 셀렉터 방식과 같은 결과(문서 순서상 첫 매칭)를 내도록 맞춤.
+ */
+@Component
+public class JumpitFeatureDomWalkExtractor {
+
+    private final JumpitPositionJsonLocator jsonLocator;
+
+    public JumpitFeatureDomWalkExtractor(JumpitPositionJsonLocator jsonLocator) {
+        this.jsonLocator = jsonLocator;
+    }
+
+    public JumpitPositionFeatureDto extract(Document doc, String url) {
+        Walk walk = new Walk();
+        NodeTraversor.filter(walk, doc);
+
+        FeatureFields fields = walk.fields;
+        if (fields.needsFallback()) {
+            fields.applyFallback(jsonLocator.locate(walk.scripts));
+        }
+        return fields.toDto(url);
+    }
+
+    /**
+     * 순회 상태 (문서마다 새로 생성하므로 스레드 안전).
+     */
+    private static final class Walk implements NodeFilter {
+        final FeatureFields fields = new FeatureFields();
+        final List<Element> scripts = new ArrayList<>();
+        // 현재 열려 있는 .name 조상 수 (".name span" 판별용)
+        int nameDepth;
+        boolean techStacksSeen;
+
+        @Override
+        public FilterResult head(Node node, int depth) {
+            if (!(node instanceof Element el)) return FilterResult.CONTINUE;
+            // 자기 자신이 아닌 조상만 봄 (<span class="name"> 은 ".name span" 에 매칭되지 않음)
+            boolean insideName = nameDepth > 0;
+            // tail 은 SKIP_CHILDREN 인 요소에도 호출되므로 증가도 항상 head 첫머리에서
+            if (el.hasClass("name")) nameDepth++;
+
+            switch (el.normalName()) {
+                case "script":
+                    scripts.add(el);
+                    return FilterResult.SKIP_CHILDREN;
+                case "h1":
+                    if (fields.title == null) fields.title = el.text();
+                    break;
+                case "span":
+                    if (insideName && fields.company == null) fields.company = el.text();
+                    break;
+                case "dt":
+                    Element dd = el.nextElementSibling();
+                    if (dd != null && "dd".equals(dd.normalName())) {
+                        fill(el.ownText(), dd);
+                        if (isComplete()) return FilterResult.STOP;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            return FilterResult.CONTINUE;
+        }
+
+        @Override
+        public FilterResult tail(Node node, int depth) {
+            if (node instanceof Element el && el.hasClass("name")) nameDepth--;
+            return FilterResult.CONTINUE;
+        }
+
+        private void fill(String label, Element dd) {
+            if (fields.deadline == null && label.contains("마감일")) {
+                fields.deadline = dd.text();
+            }
+            if (fields.location == null && label.contains("근무지역")) {
+                Element li = dd.getElementsByTag("li").first();
+                if (li != null) fields.location = li.text();
+            }
+            if (!techStacksSeen && label.contains("기술스택")) {
+                techStacksSeen = true;
+                for (Element pre : dd.getElementsByTag("pre")) {
+                    fields.techStacks.addAll(pre.getElementsByTag("div").eachText());
+                }
+            }
+            if (fields.duties == null && label.contains("주요업무")) fields.duties = preText(dd);
+            if (fields.requirements == null && label.contains("자격요건")) fields.requirements = preText(dd);
+            if (fields.preferred == null && label.contains("우대사항")) fields.preferred = preText(dd);
+            if (fields.benefits == null && label.contains("복지 및 혜택")) fields.benefits = preText(dd);
+        }
+
+        private String preText(Element dd) {
+            Element pre = dd.getElementsByTag("pre").first();
+            return pre != null ? pre.text() : null;
+        }
+
+        private boolean isComplete() {
+            return fields.title != null && fields.company != null && fields.deadline != null
+                    && fields.location != null && techStacksSeen && fields.duties != null
+                    && fields.requirements != null && fields.preferred != null && fields.benefits != null;
+        }
+    }
+}
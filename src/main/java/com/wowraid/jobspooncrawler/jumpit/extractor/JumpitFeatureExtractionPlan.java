@@ -0,0 +1,62 @@
+package com.wowraid.jobspooncrawler.jumpit.extractor;
+
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionFeatureDto;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+
+/**
+ * 상세 페이지 추출 계획 (셀렉터 방식).
+ * - CSS 셀렉터는 기동 시 한 번 Evaluator 로 파싱해 두고 문서마다 재사용.
+ * - fallback JSON 탐색은 JumpitPositionJsonLocator 가 담당 (정규식/ObjectMapper 공유).
+ * - 필드마다 문서 전체를 한 번씩 훑으므로, 기본 경로는 JumpitFeatureDomWalkExtractor 를 쓰고
+ *   이 클래스는 결과 비교와 벤치마크 기준으로 사용.
+ * - 운영 경로에서는 쓰지 않으므로 빈으로 등록하지 않고, 테스트/벤치마크에서 직접 생성.
+ */
+public class JumpitFeatureExtractionPlan {
+
+    private static final Evaluator TITLE = QueryParser.parse("h1");
+    private static final Evaluator COMPANY = QueryParser.parse(".name span, a.name span");
+    private static final Evaluator DEADLINE = QueryParser.parse("dl:has(dt:containsOwn(마감일)) dd");
+    private static final Evaluator LOCATION = QueryParser.parse("dl:has(dt:containsOwn(근무지역)) dd li");
+    private static final Evaluator TECH_STACKS = QueryParser.parse("dt:containsOwn(기술스택) + dd pre div");
+    private static final Evaluator DUTIES = preBlock("주요업무");
+    private static final Evaluator REQUIREMENTS = preBlock("자격요건");
+    private static final Evaluator PREFERRED = preBlock("우대사항");
+    private static final Evaluator BENEFITS = preBlock("복지 및 혜택");
+    private static final Evaluator SCRIPT = QueryParser.parse("script");
+
+    private final JumpitPositionJsonLocator jsonLocator;
+
+    public JumpitFeatureExtractionPlan(JumpitPositionJsonLocator jsonLocator) {
+        this.jsonLocator = jsonLocator;
+    }
+
+    private static Evaluator preBlock(String label) {
+        return QueryParser.parse("dt:containsOwn(" + label + ") + dd pre");
+    }
+
+    public JumpitPositionFeatureDto extract(Document doc, String url) {
+        FeatureFields fields = new FeatureFields();
+        fields.title = text(doc, TITLE);
+        fields.company = text(doc, COMPANY);
+        fields.deadline = text(doc, DEADLINE);
+        fields.techStacks = doc.select(TECH_STACKS).eachText();
+        fields.duties = text(doc, DUTIES);
+        fields.requirements = text(doc, REQUIREMENTS);
+        fields.preferred = text(doc, PREFERRED);
+        fields.benefits = text(doc, BENEFITS);
+        fields.location = text(doc, LOCATION);
+
+        if (fields.needsFallback()) {
+            fields.applyFallback(jsonLocator.locate(doc.select(SCRIPT)));
+        }
+        return fields.toDto(url);
+    }
+
+    private String text(Document doc, Evaluator evaluator) {
+        Element el = doc.selectFirst(evaluator);
+        return el != null ? el.text() : null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.wowraid.jobspooncrawler.jumpit.extractor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionFeatureDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 상세 페이지에 내장된 포지션 JSON 으로 모든 필드를 채우는 추출기 (JSON 우선 경로).
+ * - 원문 HTML 에서 포지션 쿼리 블록만 잘라 파싱하므로 Jsoup 문서를 만들 필요가 없음.
+ * - 한 줄 필드는 화면 텍스트(Element.text())와 같게 공백을 한 칸으로 정리하고,
+ *   pre 로 표시되는 본문 필드(주요업무 등)는 화면처럼 줄바꿈을 유지.
+ * - 블록이 없으면 null 을 반환하고, 호출 측에서 셀렉터/DOM 경로로 넘어감.
+ */
+@Component
+public class JumpitFeatureJsonExtractor {
+
+    private static final Pattern WHITESPACE = Pattern.compile("[\\s\\u00a0]+");
+
+    private final JumpitPositionJsonLocator jsonLocator;
+
+    public JumpitFeatureJsonExtractor(JumpitPositionJsonLocator jsonLocator) {
+        this.jsonLocator = jsonLocator;
+    }
+
+    /**
+     * @return 포지션 JSON 이 없으면 null
+     */
+    public JumpitPositionFeatureDto extract(String html, String url) {
+        JsonNode position = jsonLocator.locate(html);
+        if (position == null) return null;
+
+        return JumpitPositionFeatureDto.builder()
+                .url(url)
+                .title(text(position, "title"))
+                .company(companyName(position))
+                .techStacks(techStacks(position))
+                .duties(preText(position, "responsibility"))
+                .requirements(preText(position, "qualifications"))
+                .preferred(preText(position, "preferredRequirements"))
+                .benefits(preText(position, "welfares"))
+                .deadline(deadline(position))
+                .location(location(position))
+                .build();
+    }
+
+    static String companyName(JsonNode position) {
+        String name = text(position, "companyName");
+        return name != null ? name : position.path("company").path("name").asText(null);
+    }
+
+    static List<String> techStacks(JsonNode position) {
+        List<String> stacks = new ArrayList<>();
+        for (JsonNode stack : position.path("techStacks")) {
+            String name = stack.isTextual() ? stack.asText() : stack.path("stack").asText(stack.path("name").asText(""));
+            if (!name.isBlank()) stacks.add(name);
+        }
+        return stacks;
+    }
+
+    // 화면의 마감일은 날짜만 표시하므로 "2025-08-16 23:59:59" 에서 날짜 부분만 사용
+    static String deadline(JsonNode position) {
+        String closedAt = text(position, "closedAt");
+        if (closedAt == null) return null;
+        int space = closedAt.indexOf(' ');
+        return space > 0 ? closedAt.substring(0, space) : closedAt;
+    }
+
+    private static String location(JsonNode position) {
+        String location = text(position, "location");
+        if (location != null) return location;
+        JsonNode first = position.path("workingPlaces").path(0);
+        return first.isMissingNode() ? null : text(first, "address");
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) return null;
+        String normalized = WHITESPACE.matcher(value.asText()).replaceAll(" ").trim();
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    private static String preText(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) return null;
+        String text = value.asText().replace("\r\n", "\n").strip();
+        return text.isEmpty() ? null : text;
+    }
+}
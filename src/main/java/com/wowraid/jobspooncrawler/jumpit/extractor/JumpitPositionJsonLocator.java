@@ -0,0 +1,109 @@
+package com.wowraid.jobspooncrawler.jumpit.extractor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jsoup.nodes.Element;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 상세 페이지 script 에 포함된 포지션 JSON("queryKey":["position","view",...]) 탐색기.
+ * - 현재 상세 페이지는 Next.js 스트리밍 형식(self.__next_f.push([1,"8:{...}"]))이라
+ *   JSON 이 JS 문자열 안에 이스케이프되어 있음. push 인자를 JSON 배열로 읽어 문자열을 풀고,
+ *   "행번호:JSON" 행 중 queryKey 가 있는 행만 파싱.
+ * - 이스케이프되지 않은 형태는 기존 정규식으로 찾음.
+ * - 정규식과 ObjectMapper 는 한 번만 만들어 공유.
+ */
+@Component
+public class JumpitPositionJsonLocator {
+
+    private static final String MARKER = "queryKey";
+    // 원문 HTML 에서 찾을 포지션 쿼리 표식 (Next.js 이스케이프 형태 / 일반 JSON 형태)
+    private static final String ESCAPED_POSITION_MARKER = "\\\"queryKey\\\":[\\\"position\\\",\\\"view\\\"";
+    private static final String PLAIN_POSITION_MARKER = "\"queryKey\":[\"position\",\"view\"";
+    private static final String NEXT_PUSH = "self.__next_f.push(";
+    private static final Pattern POSITION_JSON = Pattern.compile(
+            "\\{\\s*\\\"queryKey\\\"\\s*:\\s*\\[\\\"position\\\",\\\"view\\\".*?\\}\\s*\\]\\s*\\}", Pattern.DOTALL);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * @param scripts 검사할 script 요소들
+     * @return title 과 closedAt 을 가진 포지션 노드, 없으면 null
+     */
+    public JsonNode locate(Iterable<Element> scripts) {
+        for (Element s : scripts) {
+            String data = s.data();
+            if (!data.contains(MARKER)) continue;
+            JsonNode found = findPositionNode(decode(data));
+            if (found != null) return found;
+        }
+        return null;
+    }
+
+    /**
+     * DOM 을 만들지 않고 원문 HTML 에서 포지션 쿼리가 든 script 하나만 잘라 파싱.
+     *
+     * @return title 과 closedAt 을 가진 포지션 노드, 없으면 null
+     */
+    public JsonNode locate(String html) {
+        int marker = html.indexOf(ESCAPED_POSITION_MARKER);
+        if (marker < 0) marker = html.indexOf(PLAIN_POSITION_MARKER);
+        if (marker < 0) return null;
+
+        int scriptStart = html.lastIndexOf("<script", marker);
+        int contentStart = scriptStart < 0 ? -1 : html.indexOf('>', scriptStart) + 1;
+        int contentEnd = html.indexOf("</script>", marker);
+        if (contentStart <= 0 || contentEnd < 0 || contentStart > marker) return null;
+        return findPositionNode(decode(html.substring(contentStart, contentEnd)));
+    }
+
+    private JsonNode decode(String data) {
+        try {
+            int push = data.indexOf(NEXT_PUSH);
+            if (push >= 0) {
+                return decodeNextPush(data, push);
+            }
+            Matcher m = POSITION_JSON.matcher(data);
+            return m.find() ? mapper.readTree(m.group()) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // self.__next_f.push([1,"<행번호>:<JSON>\n..."]) 에서 queryKey 가 있는 행의 JSON 을 파싱
+    private JsonNode decodeNextPush(String data, int push) throws Exception {
+        int argStart = push + NEXT_PUSH.length();
+        int argEnd = data.lastIndexOf(')');
+        if (argEnd <= argStart) return null;
+        JsonNode args = mapper.readTree(data.substring(argStart, argEnd));
+        String payload = args.path(1).asText("");
+        for (String row : payload.split("\n")) {
+            if (!row.contains(MARKER)) continue;
+            int colon = row.indexOf(':');
+            if (colon < 0) continue;
+            return mapper.readTree(row.substring(colon + 1));
+        }
+        return null;
+    }
+
+    static JsonNode findPositionNode(JsonNode node) {
+        if (node == null) return null;
+        if (node.has("title") && node.has("closedAt")) return node;
+        if (node.isArray()) {
+            for (JsonNode child : node) {
+                JsonNode found = findPositionNode(child);
+                if (found != null) return found;
+            }
+        } else if (node.isObject()) {
+            var it = node.fields();
+            while (it.hasNext()) {
+                JsonNode found = findPositionNode(it.next().getValue());
+                if (found != null) return found;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,103 @@
+package com.wowraid.jobspooncrawler.jumpit.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionListDto;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionPage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 포지션 목록 API 응답을 JsonParser 토큰 단위로 읽는 스트리밍 파서.
+ * - JsonNode 트리를 만들지 않고 result.totalCount, result.positions[].id/closedAt 만 읽음.
+ * - 나머지 필드(title, techStacks, locations 등)는 skipChildren 으로 건너뜀.
+ * - 값 변환은 기존 트리 방식(path().asText())과 같게 맞춤: 없으면 "", null 이면 "null".
+ */
+public class JumpitPositionStreamParser {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * 응답 전체를 읽어 한 페이지로 반환.
+     */
+    public JumpitPositionPage parsePage(InputStream in) throws IOException {
+        List<JumpitPositionListDto> positions = new ArrayList<>();
+        int totalCount = parse(in, positions::add);
+        return new JumpitPositionPage(totalCount, positions);
+    }
+
+    /**
+     * 포지션을 읽는 즉시 sink 로 넘기고, 응답의 totalCount(없으면 0)를 반환.
+     */
+    public int parse(InputStream in, Consumer<JumpitPositionListDto> sink) throws IOException {
+        try (JsonParser p = jsonFactory.createParser(in)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) return 0;
+            int totalCount = 0;
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                if ("result".equals(field) && value == JsonToken.START_OBJECT) {
+                    totalCount = parseResult(p, sink);
+                } else {
+                    p.skipChildren();
+                }
+            }
+            return totalCount;
+        }
+    }
+
+    private int parseResult(JsonParser p, Consumer<JumpitPositionListDto> sink) throws IOException {
+        int totalCount = 0;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("totalCount".equals(field) && value.isNumeric()) {
+                totalCount = p.getValueAsInt(0);
+            } else if ("positions".equals(field) && value == JsonToken.START_ARRAY) {
+                while (p.nextToken() != JsonToken.END_ARRAY) {
+                    if (p.currentToken() == JsonToken.START_OBJECT) {
+                        sink.accept(parsePosition(p));
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+            } else {
+                p.skipChildren();
+            }
+        }
+        return totalCount;
+    }
+
+    private JumpitPositionListDto parsePosition(JsonParser p) throws IOException {
+        String id = "";
+        String closedAt = "";
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            if ("id".equals(field)) {
+                id = scalarText(p);
+            } else if ("closedAt".equals(field)) {
+                closedAt = scalarText(p);
+            } else {
+                p.skipChildren();
+            }
+        }
+        return new JumpitPositionListDto(id, closedAt);
+    }
+
+    // JsonNode.asText() 와 같은 규칙으로 스칼라 값을 문자열로 변환
+    private String scalarText(JsonParser p) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_NULL) return "null";
+        if (t.isStructStart()) {
+            p.skipChildren();
+            return "";
+        }
+        return p.getText();
+    }
+}
@@ -0,0 +1,120 @@
+package com.wowraid.jobspooncrawler.jumpit.service;
+
+import com.wowraid.jobspooncrawler.dedup.DedupIndex;
+import com.wowraid.jobspooncrawler.jumpit.config.JumpitProperties;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionFeatureDto;
+import com.wowraid.jobspooncrawler.timer.HostRateLimiters;
+import com.wowraid.jobspooncrawler.timer.RequestRateLimiter;
+import com.wowraid.jobspooncrawler.trace.CrawlTracer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 상세 페이지 일괄 수집기.
+ * - 포지션 id 또는 상세 URL 목록을 받아 detailConcurrency 개의 워커에서 Jsoup 수집/파싱.
+ * - 같은 호스트에는 detailRequestsPerSecond 를 기준으로 적응형 속도 제한(요청 전 대기).
+ * - 완료되는 순서대로 결과를 흘려보내며, 실패한 포지션은 로그만 남기고 건너뜀.
+ * - crawler.dedup.cross-run 이면 이전 실행에서 이미 수집한 상세 페이지는 요청하지 않음.
+ *   수집에 성공한 URL 만 본 것으로 표시하므로 실패한 포지션은 다음 실행에서 다시 시도됨.
+ */
+@Slf4j
+@Service
+public class JumpitPositionsFeatureBatchCrawler {
+
+    private static final String POSITION_DETAIL_URL = "https://jumpit.saramin.co.kr/position/%s";
+    public static final String DEDUP_SOURCE = "jumpit-detail";
+
+    private final JumpitPositionsFeatureCrawler featureCrawler;
+    private final JumpitProperties jumpitProperties;
+    private final HostRateLimiters hostRateLimiters;
+    private final DedupIndex dedupIndex;
+    // Jsoup 수집은 블로킹이므로 크기가 제한된 전용 워커 풀에서 실행
+    private final Scheduler detailScheduler;
+    // 수집에 성공해 내보낸 상세 수
+    private final Counter emittedCounter;
+    private final CrawlTracer tracer;
+
+    public JumpitPositionsFeatureBatchCrawler(JumpitPositionsFeatureCrawler featureCrawler,
+                                              JumpitProperties jumpitProperties,
+                                              HostRateLimiters hostRateLimiters,
+                                              DedupIndex dedupIndex,
+                                              MeterRegistry meterRegistry,
+                                              CrawlTracer tracer) {
+        this.tracer = tracer;
+        this.featureCrawler = featureCrawler;
+        this.dedupIndex = dedupIndex;
+        this.jumpitProperties = jumpitProperties;
+        this.hostRateLimiters = hostRateLimiters;
+        this.detailScheduler = Schedulers.newBoundedElastic(
+                jumpitProperties.getDetailConcurrency(), Integer.MAX_VALUE, "jumpit-detail");
+        this.emittedCounter = Counter.builder("crawler.items.emitted")
+                .description("중복 제거 후 내보낸 공고 수")
+                .tag("source", DEDUP_SOURCE)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param targets 포지션 id(예: "51050679") 또는 상세 페이지 URL 목록
+     */
+    public Flux<JumpitPositionFeatureDto> crawlAll(List<String> targets) {
+        // 구독마다 실행 스팬 하나, 상세 페이지마다 detail 스팬
+        return Flux.using(() -> tracer.startRun(DEDUP_SOURCE), (Observation run) -> {
+            DedupIndex.Run dedup = dedupIndex.newRun();
+            return Flux.fromIterable(targets)
+                    .map(JumpitPositionsFeatureBatchCrawler::toDetailUrl)
+                    .distinct()
+                    .filter(url -> {
+                        if (!dedup.isSeen(DEDUP_SOURCE, url)) return true;
+                        dedup.recordSkipped(DEDUP_SOURCE);
+                        return false;
+                    })
+                    .flatMap(url -> crawlOne(url, run)
+                            .doOnNext(feature -> {
+                                dedup.mark(DEDUP_SOURCE, url);
+                                emittedCounter.increment();
+                            }),
+                            jumpitProperties.getDetailConcurrency())
+                    .doFinally(signal -> dedupIndex.save());
+        }, Observation::stop);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        detailScheduler.dispose();
+    }
+
+    // 워커 스레드에서 실행되므로 실행 스팬을 부모로 직접 넘겨받음
+    private JumpitPositionFeatureDto crawlDetail(String url, RequestRateLimiter limiter, Observation run)
+            throws IOException {
+        return tracer.stage(run, "detail", () -> featureCrawler.crawl(url, limiter));
+    }
+
+    private Mono<JumpitPositionFeatureDto> crawlOne(String url, Observation run) {
+        RequestRateLimiter limiter = hostRateLimiters.forUrl(url, jumpitProperties.getDetailRequestsPerSecond());
+        return Mono.fromCallable(() -> crawlDetail(url, limiter, run))
+                .subscribeOn(detailScheduler)
+                .onErrorResume(e -> {
+                    log.warn("상세 수집 실패 url={}: {}", url, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 포지션 id 면 상세 페이지 URL 로 바꾸고, URL 이면 그대로 반환.
+     */
+    public static String toDetailUrl(String target) {
+        String trimmed = target.trim();
+        return trimmed.startsWith("http") ? trimmed : String.format(POSITION_DETAIL_URL, trimmed);
+    }
+}
@@ -1,158 +1,110 @@
 package com.wowraid.jobspooncrawler.jumpit.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wowraid.jobspooncrawler.http.CachingHttpFetcher;
+import com.wowraid.jobspooncrawler.jumpit.config.JumpitProperties;
 import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionFeatureDto;
-import com.wowraid.jobspooncrawler.utility.RetryableRequestExecutor;
+import com.wowraid.jobspooncrawler.jumpit.extractor.JumpitFeatureDomWalkExtractor;
+import com.wowraid.jobspooncrawler.jumpit.extractor.JumpitFeatureJsonExtractor;
+import com.wowraid.jobspooncrawler.timer.HostRateLimiters;
+import com.wowraid.jobspooncrawler.timer.RequestRateLimiter;
+import com.wowraid.jobspooncrawler.trace.CrawlTracer;
+import com.wowraid.jobspooncrawler.utility.HostCircuitBreakers;
+import com.wowraid.jobspooncrawler.utility.RetryEngine;
+import com.wowraid.jobspooncrawler.utility.RetryExhaustedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @Service
 public class JumpitPositionsFeatureCrawler {
 
-    public JumpitPositionFeatureDto crawl(String url) throws IOException {
-        // HTML 문서 파싱을 CrawlerApiExecutor로 감싸서 실패 시 재시도
-        Document doc = RetryableRequestExecutor.executeWithRetry(() -> {
-            try {
-                return parseHtmlDocument(url);
-            } catch (IOException e) {
-                throw new RuntimeException("HTML 파싱 실패", e); // Supplier는 체크 예외 처리 불가
-            }
-        });
-
-        if (doc == null) {
-            throw new IOException("크롤링 실패: Document를 가져오지 못함");
-        }
-
-        String title = extractTitle(doc);
-        String company = extractCompany(doc);
-        String deadline = extractDeadline(doc);
-        List<String> techStacks = extractTechStacks(doc);
-        String duties = extractPreBlock(doc, "주요업무");
-        String requirements = extractPreBlock(doc, "자격요건");
-        String preferred = extractPreBlock(doc, "우대사항");
-        String benefits = extractPreBlock(doc, "복지 및 혜택");
-        String location = extractLocation(doc);
-
-        if (isBlank(title) || isBlank(company) || isBlank(deadline) || techStacks == null || techStacks.isEmpty()) {
-            JsonNode fallback = extractFallbackJson(doc);
-            if (fallback != null) {
-                title = isBlank(title) ? fallback.path("title").asText(null) : title;
-                company = isBlank(company) ? fallback.path("company").path("name").asText(null) : company;
-                deadline = isBlank(deadline) ? fallback.path("closedAt").asText(null) : deadline;
-                if (techStacks == null || techStacks.isEmpty()) {
-                    techStacks = fallback.path("techStacks").findValuesAsText("name");
-                }
-            }
-        }
-
-        return buildFeatureDto(title, company, techStacks, duties, requirements, preferred, benefits, deadline, location);
+    // 내장 포지션 JSON 으로 채우는 추출기 (우선 경로)
+    private final JumpitFeatureJsonExtractor jsonExtractor;
+    // 문서를 한 번만 순회하며 모든 필드를 채우는 추출기 (JSON 블록이 없을 때)
+    private final JumpitFeatureDomWalkExtractor domExtractor;
+    // 변경 없는 상세 페이지는 재검증(304)/TTL 로 다시 받지 않음
+    private final CachingHttpFetcher httpFetcher;
+    private final HttpHeaders requestHeaders = new HttpHeaders();
+    private final HostRateLimiters hostRateLimiters;
+    private final JumpitProperties jumpitProperties;
+    private final RetryEngine retryEngine;
+    private final HostCircuitBreakers circuitBreakers;
+    private final CrawlTracer tracer;
+    // 경로별 추출 비용 (dom 은 Jsoup 문서 생성 포함)
+    private final Timer jsonExtractTimer;
+    private final Timer domExtractTimer;
+    private final Counter domFallbackCounter;
+
+    public JumpitPositionsFeatureCrawler(JumpitFeatureJsonExtractor jsonExtractor,
+                                         JumpitFeatureDomWalkExtractor domExtractor,
+                                         CachingHttpFetcher httpFetcher,
+                                         HostRateLimiters hostRateLimiters,
+                                         JumpitProperties jumpitProperties,
+                                         RetryEngine retryEngine,
+                                         HostCircuitBreakers circuitBreakers,
+                                         MeterRegistry meterRegistry,
+                                         CrawlTracer tracer) {
+        this.tracer = tracer;
+        this.retryEngine = retryEngine;
+        this.circuitBreakers = circuitBreakers;
+        this.hostRateLimiters = hostRateLimiters;
+        this.jumpitProperties = jumpitProperties;
+        this.jsonExtractor = jsonExtractor;
+        this.domExtractor = domExtractor;
+        this.httpFetcher = httpFetcher;
+        this.requestHeaders.set(HttpHeaders.USER_AGENT, "Mozilla/5.0 (compatible; JumpitCrawler/1.0)");
+        this.jsonExtractTimer = Timer.builder("crawler.jumpit.detail.extract")
+                .description("상세 페이지 필드 추출 시간")
+                .tag("path", "json")
+                .register(meterRegistry);
+        this.domExtractTimer = Timer.builder("crawler.jumpit.detail.extract")
+                .description("상세 페이지 필드 추출 시간")
+                .tag("path", "dom")
+                .register(meterRegistry);
+        this.domFallbackCounter = Counter.builder("crawler.jumpit.detail.dom.fallback")
+                .description("내장 JSON 이 없어 DOM 경로로 넘어간 횟수")
+                .register(meterRegistry);
     }
 
-    private Document parseHtmlDocument(String url) throws IOException {
-        return Jsoup.connect(url)
-                .userAgent("Mozilla/5.0 (compatible; JumpitCrawler/1.0)")
-                .timeout(10000)
-                .get();
-    }
-
-    private String extractTitle(Document doc) {
-        return text(doc, "h1");
-    }
-
-    private String extractCompany(Document doc) {
-        return text(doc, ".name span, a.name span");
-    }
-
-    private String extractDeadline(Document doc) {
-        return text(doc, "dl:has(dt:containsOwn(마감일)) dd");
-    }
-
-    private String extractLocation(Document doc) {
-        return text(doc, "dl:has(dt:containsOwn(근무지역)) dd li");
-    }
-
-    private List<String> extractTechStacks(Document doc) {
-        return texts(doc, "dt:containsOwn(기술스택) + dd pre div");
-    }
-
-    private String extractPreBlock(Document doc, String label) {
-        Element pre = doc.selectFirst("dt:containsOwn(" + label + ") + dd pre");
-        return pre != null ? pre.text() : null;
-    }
-
-    private List<String> texts(Document doc, String selector) {
-        return doc.select(selector).eachText();
+    public JumpitPositionFeatureDto crawl(String url) throws IOException {
+        return tracer.run("jumpit-detail", () ->
+                crawl(url, hostRateLimiters.forUrl(url, jumpitProperties.getDetailRequestsPerSecond())));
     }
 
-    private String text(Document doc, String selector) {
-        Element el = doc.selectFirst(selector);
-        return el != null ? el.text() : null;
-    }
+    /**
+     * @param limiter 요청 대상 호스트의 limiter (요청 전 대기 + 응답 결과로 속도 조절)
+     */
+    public JumpitPositionFeatureDto crawl(String url, RequestRateLimiter limiter) throws IOException {
+        // HTML 원문 수집을 RetryEngine 으로 감싸서 5xx/타임아웃이면 재시도, 호스트 차단 중이면 바로 실패
+        String html;
+        try {
+            // 재시도/슬롯 대기 포함
+            html = tracer.stage("fetch", () -> retryEngine.execute(() -> fetchHtml(url), limiter,
+                    circuitBreakers.forUrl(url)));
+        } catch (RetryExhaustedException e) {
+            throw new IOException("크롤링 실패: HTML을 가져오지 못함", e);
+        }
 
-    private boolean isBlank(String s) {
-        return s == null || s.isBlank();
+        return tracer.stage("parse", () -> extract(html, url));
     }
 
-    private JsonNode extractFallbackJson(Document doc) {
-        Elements scripts = doc.select("script");
-        Pattern p = Pattern.compile("\\{\\s*\\\"queryKey\\\"\\s*:\\s*\\[\\\"position\\\",\\\"view\\\".*?\\}\\s*\\]\\s*\\}", Pattern.DOTALL);
-        ObjectMapper mapper = new ObjectMapper();
-        for (Element s : scripts) {
-            String data = s.data();
-            Matcher m = p.matcher(data);
-            if (m.find()) {
-                String jsonBlock = m.group();
-                try {
-                    JsonNode node = mapper.readTree(jsonBlock);
-                    return findPositionNode(node);
-                } catch (Exception ignored) {}
-            }
-        }
-        return null;
-    }
+    /**
+     * 내장 JSON 으로 먼저 추출하고, 블록이 없을 때만 Jsoup 문서를 만들어 DOM 경로로 추출.
+     */
+    public JumpitPositionFeatureDto extract(String html, String url) {
+        JumpitPositionFeatureDto fromJson = jsonExtractTimer.record(() -> jsonExtractor.extract(html, url));
+        if (fromJson != null) return fromJson;
 
-    private JsonNode findPositionNode(JsonNode node) {
-        if (node == null) return null;
-        if (node.has("title") && node.has("closedAt")) return node;
-        if (node.isArray()) {
-            for (JsonNode child : node) {
-                JsonNode found = findPositionNode(child);
-                if (found != null) return found;
-            }
-        } else if (node.isObject()) {
-            var it = node.fields();
-            while (it.hasNext()) {
-                JsonNode found = findPositionNode(it.next().getValue());
-                if (found != null) return found;
-            }
-        }
-        return null;
+        domFallbackCounter.increment();
+        return domExtractTimer.record(() -> domExtractor.extract(Jsoup.parse(html, url), url));
     }
 
-    private JumpitPositionFeatureDto buildFeatureDto(
-            String title, String company, List<String> techStacks,
-            String duties, String requirements, String preferred,
-            String benefits, String deadline, String location
-    ) {
-        return JumpitPositionFeatureDto.builder()
-                .title(title)
-                .company(company)
-                .techStacks(techStacks)
-                .duties(duties)
-                .requirements(requirements)
-                .preferred(preferred)
-                .benefits(benefits)
-                .deadline(deadline)
-                .location(location)
-                .build();
+    private String fetchHtml(String url) {
+        return httpFetcher.fetch(url, requestHeaders, (body, charset) -> new String(body.readAllBytes(), charset));
     }
 }
@@ -1,63 +1,339 @@
 package com.wowraid.jobspooncrawler.jumpit.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wowraid.jobspooncrawler.dedup.DedupIndex;
+import com.wowraid.jobspooncrawler.http.CachingHttpFetcher;
+import com.wowraid.jobspooncrawler.jumpit.config.JumpitProperties;
 import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionListDto;
-import com.wowraid.jobspooncrawler.utility.RetryableRequestExecutor;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionPage;
+import com.wowraid.jobspooncrawler.timer.HostRateLimiters;
+import com.wowraid.jobspooncrawler.trace.CrawlTracer;
+import com.wowraid.jobspooncrawler.timer.RequestRateLimiter;
+import com.wowraid.jobspooncrawler.utility.CircuitBreaker;
+import com.wowraid.jobspooncrawler.utility.HostCircuitBreakers;
+import com.wowraid.jobspooncrawler.utility.RetryEngine;
+import com.wowraid.jobspooncrawler.utility.RetryExhaustedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Service
 public class JumpitPositionsListCrawler {
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 중복 제거 키를 구분하는 소스 이름 (reactive 목록 수집과 공유)
+    static final String DEDUP_SOURCE = "jumpit-list";
 
-    public List<JumpitPositionListDto> crawl(String url) throws IOException {
+    // 변경 없는 페이지는 재검증(304)/TTL 로 다시 받지 않음
+    private final CachingHttpFetcher httpFetcher;
+    private final JumpitPositionStreamParser positionParser = new JumpitPositionStreamParser();
+    private final JumpitProperties jumpitProperties;
+    // 병렬 모드에서 동시에 진행되는 요청 수를 listConcurrency 로 제한하는 고정 풀
+    private final ExecutorService pageExecutor;
+    // 호스트별 초당 요청 예산
+    private final HostRateLimiters hostRateLimiters;
+    private final JumpitWatermarkStore watermarkStore;
+    private final RetryEngine retryEngine;
+    private final HostCircuitBreakers circuitBreakers;
+    // 수집 중 목록이 밀려 다음 페이지에 다시 나온 포지션 제거
+    private final DedupIndex dedupIndex;
+    // 중복 제거 후 내보낸 포지션 수
+    private final Counter emittedCounter;
+    // 실행/페이지/요청/파싱 단계별 스팬
+    private final CrawlTracer tracer;
+
+    public JumpitPositionsListCrawler(JumpitProperties jumpitProperties, HostRateLimiters hostRateLimiters,
+                                      JumpitWatermarkStore watermarkStore, CachingHttpFetcher httpFetcher,
+                                      RetryEngine retryEngine, HostCircuitBreakers circuitBreakers,
+                                      DedupIndex dedupIndex, MeterRegistry meterRegistry, CrawlTracer tracer) {
+        this.dedupIndex = dedupIndex;
+        this.tracer = tracer;
+        this.emittedCounter = emittedCounter(meterRegistry);
+        this.httpFetcher = httpFetcher;
+        this.retryEngine = retryEngine;
+        this.circuitBreakers = circuitBreakers;
+        this.jumpitProperties = jumpitProperties;
+        this.hostRateLimiters = hostRateLimiters;
+        this.watermarkStore = watermarkStore;
+        this.pageExecutor = Executors.newFixedThreadPool(
+                jumpitProperties.getListConcurrency(), new CustomizableThreadFactory("jumpit-list-"));
+    }
+
+    public List<JumpitPositionListDto> crawl(String url) {
+        return crawl(url, jumpitProperties.getMaxPages());
+    }
+
+    /**
+     * 1페이지부터 한 페이지씩 순차 수집.
+     *
+     * @param maxPages 최대 페이지 수 (0 이면 빈 페이지가 나올 때까지)
+     */
+    public List<JumpitPositionListDto> crawl(String url, int maxPages) {
+        return tracer.run(DEDUP_SOURCE, () -> {
+            List<JumpitPositionListDto> listResult = new ArrayList<>();
+            collectSequential(url, 1, maxPages, limiterFor(url), listResult);
+            return dedup(listResult);
+        });
+    }
+
+    /**
+     * 첫 페이지로 전체 페이지 수를 구한 뒤 나머지 페이지를 병렬로 수집.
+     * - 동시 요청 수는 listConcurrency, 호스트별 속도는 requestsPerSecond 로 제한.
+     * - 결과는 페이지 순서대로 합쳐지며, 실패하거나 빈 페이지를 만나면 그 앞까지만 반환.
+     *   그 뒤로는 새 페이지를 요청하지 않고, 대기 중인 페이지와 재시도는 취소.
+     *
+     * @param maxPages 최대 페이지 수 (0 이면 전체)
+     */
+    public List<JumpitPositionListDto> crawlParallel(String url, int maxPages) {
+        return tracer.run(DEDUP_SOURCE, () -> collectParallel(url, maxPages));
+    }
+
+    private List<JumpitPositionListDto> collectParallel(String url, int maxPages) {
+        RequestRateLimiter limiter = limiterFor(url);
         List<JumpitPositionListDto> listResult = new ArrayList<>();
-        int pageid = 1;
-        while (true) {
 
+        JumpitPositionPage first = fetchPage(url, 1, limiter);
+        if (first == null || first.getPositions().isEmpty()) return listResult;
+        listResult.addAll(first.getPositions());
+
+        int pageSize = first.getPositions().size();
+        if (first.getTotalCount() <= 0) {
+            // totalCount 가 없으면 페이지 수를 알 수 없으므로 순차 수집으로 이어감
+            log.warn("totalCount 없음, 순차 수집으로 전환 url={}", url);
+            collectSequential(url, 2, maxPages, limiter, listResult);
+            return dedup(listResult);
+        }
+
+        int lastPage = (first.getTotalCount() + pageSize - 1) / pageSize;
+        if (maxPages > 0) lastPage = Math.min(lastPage, maxPages);
+        log.info("병렬 목록 수집 시작 totalCount={}, pageSize={}, lastPage={}",
+                first.getTotalCount(), pageSize, lastPage);
+
+        Observation run = tracer.current();
+        // 진행 중인 페이지를 listConcurrency 개로 제한해 슬롯을 미리 다 예약하지 않고,
+        // 실패/빈 페이지가 나오면 다음 페이지부터는 요청하지 않음
+        Semaphore inFlight = new Semaphore(jumpitProperties.getListConcurrency());
+        AtomicBoolean stop = new AtomicBoolean();
+        List<CompletableFuture<JumpitPositionPage>> attempts = new ArrayList<>();
+        List<CompletableFuture<JumpitPositionPage>> futures = new ArrayList<>();
+        for (int pageid = 2; pageid <= lastPage && !stop.get(); pageid++) {
+            if (!acquire(inFlight) || stop.get()) break;
+            int finalPageid = pageid;
+            // 페이지 워커 스레드로 넘어가므로 page 스팬을 직접 넘김 (재시도/슬롯 대기 포함)
+            Observation page = tracer.startStage(run, "page");
+            // 재시도 대기 중에는 워커를 붙잡지 않음
+            CompletableFuture<JumpitPositionPage> attempt = retryEngine.executeAsync(
+                    () -> getJumpitPositionPage(url, finalPageid, page), limiter, breakerFor(url), pageExecutor);
+            attempts.add(attempt);
+            futures.add(attempt
+                    .whenComplete((result, e) -> {
+                        // 자리를 돌려주기 전에 멈춤을 알려야 기다리던 루프가 다음 페이지를 내지 않음
+                        if (e != null || result == null || result.getPositions().isEmpty()) stop.set(true);
+                        inFlight.release();
+                        if (e != null) page.error(e);
+                        page.stop();
+                    })
+                    .exceptionally(e -> {
+                        if (!attempt.isCancelled()) log.warn("pageid={} 수집 실패: {}", finalPageid, e.getMessage());
+                        return null;
+                    }));
+        }
+
+        // 페이지 순서대로 합치기
+        for (int i = 0; i < futures.size(); i++) {
+            JumpitPositionPage page = futures.get(i).join();
+            if (page == null || page.getPositions().isEmpty()) {
+                log.warn("pageid={} 수집 실패 또는 빈 페이지, 이후 페이지는 버림", i + 2);
+                // 슬롯 대기/재시도 중인 뒤 페이지는 요청 없이 취소
+                attempts.subList(i + 1, attempts.size()).forEach(f -> f.cancel(false));
+                break;
+            }
+            listResult.addAll(page.getPositions());
+        }
+        log.info("병렬 목록 수집 완료 size={}", listResult.size());
+        return dedup(listResult);
+    }
+
+    /**
+     * 증분 수집: 지난 실행의 워터마크(가장 최신 포지션 id)에 닿으면 페이징을 멈춤.
+     * - 목록은 reg_dt 내림차순이고 id 는 등록 순으로 증가한다는 전제에서,
+     *   워터마크 이하 id 를 만나면 그 뒤는 모두 이미 수집한 포지션으로 판단.
+     * - 워터마크에 닿거나 빈 페이지로 목록이 끝났을 때 워터마크를 갱신. 중간 페이지가 실패하면
+     *   그 사이 포지션을 놓치지 않도록 유지 (다음 실행이 다시 옛 워터마크까지 내려감).
+     * - 워터마크가 있으면 페이지 수 제한 없이 워터마크까지 내려감. 제한에서 멈추고 워터마크를 유지하면
+     *   쌓인 새 포지션이 제한보다 많을 때 매 실행이 같은 최신 페이지만 읽고 따라잡지 못함.
+     * - maxPages 는 첫 실행(워터마크 없음)에만 적용. 놓칠 이전 구간이 없으므로 멈춘 곳까지로 워터마크를 만듦.
+     *
+     * @param source   워터마크를 구분할 소스 이름
+     * @param maxPages 첫 실행의 최대 페이지 수 (0 이면 빈 페이지가 나올 때까지)
+     * @return 워터마크 이후 새로 등록된 포지션
+     */
+    public List<JumpitPositionListDto> crawlIncremental(String url, String source, int maxPages) {
+        return tracer.run(DEDUP_SOURCE, () -> collectIncremental(url, source, maxPages));
+    }
+
+    private List<JumpitPositionListDto> collectIncremental(String url, String source, int maxPages) {
+        RequestRateLimiter limiter = limiterFor(url);
+        long watermark = watermarkStore.get(source);
+        long newest = watermark;
+        boolean failed = false;
+        int pageLimit = watermark > 0 ? 0 : maxPages;
+        List<JumpitPositionListDto> listResult = new ArrayList<>();
+
+        int pageid = 1;
+        int fetched = 0;
+        pages:
+        while (pageLimit == 0 || pageid <= pageLimit) {
             int finalPageid = pageid;
-            List<JumpitPositionListDto> list = RetryableRequestExecutor.executeWithRetry(() ->
-                    getJumpitPositionList(url, finalPageid)
-            );
-            if (list == null || list.isEmpty()) break;
-
-            log.info("list result= "+list.toString());
-            log.info("pageid= "+pageid);
-            listResult.addAll(list);
-            if(pageid==3){break;}//for test
+            JumpitPositionPage page = fetchPage(url, finalPageid, limiter);
+            if (page == null) {
+                failed = true;
+                break;
+            }
+            fetched++;
+            if (page.getPositions().isEmpty()) break;
+
+            for (JumpitPositionListDto position : page.getPositions()) {
+                long id = parseId(position.getId());
+                if (watermark > 0 && id > 0 && id <= watermark) {
+                    log.info("워터마크 도달 source={}, watermark={}, pageid={}", source, watermark, pageid);
+                    break pages;
+                }
+                newest = Math.max(newest, id);
+                listResult.add(position);
+            }
             pageid++;
+        }
 
+        if (failed) {
+            log.warn("증분 수집 중 실패, 워터마크 유지 source={}, watermark={}", source, watermark);
+        } else {
+            watermarkStore.advance(source, newest);
+        }
+        log.info("증분 수집 완료 source={}, 새 포지션={}, 수집 페이지={}", source, listResult.size(), fetched);
+        return dedup(listResult);
+    }
+
+    /**
+     * 한 페이지만 수집 (작업 큐 워커용). 재시도까지 실패하면 RetryExhaustedException.
+     */
+    public JumpitPositionPage crawlPage(String url, int pageid) {
+        return tracer.run("jumpit-list-page", () -> {
+            Observation run = tracer.current();
+            return retryEngine.execute(() -> getJumpitPositionPage(url, pageid, run), limiterFor(url), breakerFor(url));
+        });
+    }
 
+    /**
+     * 같은 id 의 포지션은 처음 것만 남김 (crossRun 이면 이전 실행에서 본 포지션도 제외).
+     */
+    private List<JumpitPositionListDto> dedup(List<JumpitPositionListDto> listResult) {
+        DedupIndex.Run run = dedupIndex.newRun();
+        int before = listResult.size();
+        listResult.removeIf(position -> !run.markIfNew(DEDUP_SOURCE, position.getId()));
+        run.complete();
+        if (listResult.size() < before) {
+            log.info("중복 포지션 제거 {} -> {}", before, listResult.size());
         }
+        emittedCounter.increment(listResult.size());
         return listResult;
     }
 
+    /**
+     * 목록 수집에서 내보낸 포지션 수 (reactive 목록 수집과 같은 카운터).
+     */
+    static Counter emittedCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("crawler.items.emitted")
+                .description("중복 제거 후 내보낸 공고 수")
+                .tag("source", DEDUP_SOURCE)
+                .register(meterRegistry);
+    }
 
-    private List<JumpitPositionListDto> getJumpitPositionList(String url, int pageid) {
-        try {
-            String targeturl = String.format(url, pageid);
-            String json = restTemplate.getForObject(targeturl, String.class);
-            JsonNode root = objectMapper.readTree(json);
-            JsonNode positions = root.path("result").path("positions");
-
-            List<JumpitPositionListDto> result = new ArrayList<>();
-            for (JsonNode pos : positions) {
-                result.add(new JumpitPositionListDto(pos.path("id").asText(), pos.path("closedAt").asText()));
+    @PreDestroy
+    public void shutdown() {
+        pageExecutor.shutdownNow();
+    }
+
+    private void collectSequential(String url, int fromPage, int maxPages, RequestRateLimiter limiter,
+                                   List<JumpitPositionListDto> listResult) {
+        int pageid = fromPage;
+        while (maxPages == 0 || pageid <= maxPages) {
+
+            int finalPageid = pageid;
+            JumpitPositionPage page = fetchPage(url, finalPageid, limiter);
+            if (page == null || page.getPositions().isEmpty()) break;
+
+            // 페이지별 소요 시간/크기는 crawler.http.fetch 로 기록되므로 목록 내용은 디버그로만
+            if (log.isDebugEnabled()) {
+                log.debug("pageid={} list result={}", pageid, page.getPositions());
             }
-            return result;
+            listResult.addAll(page.getPositions());
+            pageid++;
+        }
+    }
 
-        } catch (IOException e) {
-            throw new RuntimeException("JSON 파싱 실패", e); // 감싸서 던지기
+    /**
+     * 재시도까지 실패하면 null (호출 측에서 수집 중단으로 처리).
+     */
+    private JumpitPositionPage fetchPage(String url, int pageid, RequestRateLimiter limiter) {
+        try {
+            return tracer.stage("page", () -> {
+                // 병렬 수집과 같은 요청 경로를 쓰므로 page 스팬을 부모로 직접 넘김
+                Observation page = tracer.current();
+                return retryEngine.execute(() -> getJumpitPositionPage(url, pageid, page), limiter, breakerFor(url));
+            });
+        } catch (RetryExhaustedException e) {
+            log.warn("pageid={} 수집 실패: {}", pageid, e.getMessage());
+            return null;
         }
     }
 
+    private static boolean acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private RequestRateLimiter limiterFor(String url) {
+        return hostRateLimiters.forUrl(String.format(url, 1), jumpitProperties.getRequestsPerSecond());
+    }
+
+    private CircuitBreaker breakerFor(String url) {
+        return circuitBreakers.forUrl(String.format(url, 1));
+    }
+
+    private long parseId(String id) {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * @param parent 요청/파싱 스팬의 부모 (병렬 수집에서는 페이지 워커 스레드에서 호출되므로 직접 넘김)
+     */
+    private JumpitPositionPage getJumpitPositionPage(String url, int pageid, Observation parent) {
+        String targeturl = String.format(url, pageid);
+        // 응답 본문(또는 캐시 본문)을 String 으로 만들지 않고 바이트 스트림에서 바로 토큰 파싱.
+        // 목록은 새 글마다 밀리므로 ttl 캐시를 쓰지 않고 매번 재검증
+        return tracer.stage(parent, "http.fetch", () -> httpFetcher.fetchRevalidated(targeturl,
+                (body, charset) -> tracer.stage("parse", () -> positionParser.parsePage(body))));
+    }
+
 }
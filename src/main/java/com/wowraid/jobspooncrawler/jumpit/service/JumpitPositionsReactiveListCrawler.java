@@ -0,0 +1,155 @@
+package com.wowraid.jobspooncrawler.jumpit.service;
+
+import com.wowraid.jobspooncrawler.dedup.DedupIndex;
+import com.wowraid.jobspooncrawler.http.HttpFetchMetrics;
+import com.wowraid.jobspooncrawler.jumpit.config.JumpitProperties;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionListDto;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionPage;
+import com.wowraid.jobspooncrawler.timer.HostRateLimiters;
+import com.wowraid.jobspooncrawler.timer.RequestRateLimiter;
+import com.wowraid.jobspooncrawler.trace.CrawlTracer;
+import com.wowraid.jobspooncrawler.utility.CircuitBreaker;
+import com.wowraid.jobspooncrawler.utility.HostCircuitBreakers;
+import com.wowraid.jobspooncrawler.utility.RetryEngine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * 공유 WebClient 기반 논블로킹 포지션 목록 크롤러.
+ * - 응답 버퍼를 String 으로 모으지 않고 JumpitPositionStreamParser 로 바로 토큰 파싱.
+ *   버퍼는 maxResponseBytes 까지만 모으고, 넘으면 그 페이지는 실패.
+ * - 재시도까지 실패한 페이지가 있으면 그 앞 페이지까지 흘려보낸 뒤 오류로 끝냄 (목록 끝과 구분).
+ * - 페이지를 받는 대로 페이지 순서를 지켜 DTO 를 흘려보냄.
+ * - 요청 간격은 동기 크롤러와 같은 호스트별 RequestRateLimiter 를 공유하되,
+ *   스레드를 재우지 않고 Mono.delay 로 대기하며, 응답 결과로 속도를 조절.
+ * - 수집 중 목록이 밀려 다음 페이지에 다시 나온 포지션은 DedupIndex 로 걸러냄.
+ * - 페이지별 응답 시간/크기는 동기 수집과 같은 crawler.http.fetch 지표로 기록.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JumpitPositionsReactiveListCrawler {
+
+    private final JumpitPositionStreamParser positionParser = new JumpitPositionStreamParser();
+    private final WebClient crawlerWebClient;
+    private final JumpitProperties jumpitProperties;
+    private final HostRateLimiters hostRateLimiters;
+    private final RetryEngine retryEngine;
+    private final HostCircuitBreakers circuitBreakers;
+    private final DedupIndex dedupIndex;
+    private final HttpFetchMetrics fetchMetrics;
+    private final MeterRegistry meterRegistry;
+    private final CrawlTracer tracer;
+
+    /**
+     * @param url      page 자리에 %d 가 들어간 목록 API URL
+     * @param maxPages 최대 페이지 수 (0 이면 전체)
+     */
+    public Flux<JumpitPositionListDto> crawl(String url, int maxPages) {
+        RequestRateLimiter limiter = hostRateLimiters.forUrl(
+                String.format(url, 1), jumpitProperties.getRequestsPerSecond());
+        CircuitBreaker breaker = circuitBreakers.forUrl(String.format(url, 1));
+        Counter emitted = JumpitPositionsListCrawler.emittedCounter(meterRegistry);
+
+        // 구독마다 새 실행 범위 (실행 스팬은 완료/오류/취소 시 종료)
+        return Flux.using(() -> tracer.startRun(JumpitPositionsListCrawler.DEDUP_SOURCE), (Observation run) -> {
+            DedupIndex.Run dedup = dedupIndex.newRun();
+            return pages(url, maxPages, limiter, breaker, run)
+                    .filter(position -> dedup.markIfNew(JumpitPositionsListCrawler.DEDUP_SOURCE, position.getId()))
+                    .doOnNext(position -> emitted.increment())
+                    // 끝까지 내보낸 실행만 공유 인덱스에 반영 (취소/오류면 다음 실행에서 다시 나옴)
+                    .doOnComplete(dedup::complete);
+        }, Observation::stop);
+    }
+
+    private Flux<JumpitPositionListDto> pages(String url, int maxPages, RequestRateLimiter limiter,
+                                              CircuitBreaker breaker, Observation run) {
+        return fetchPage(url, 1, limiter, breaker, run).flatMapMany(first -> {
+            if (first.getPositions().isEmpty()) return Flux.empty();
+
+            Flux<JumpitPositionPage> rest;
+            if (first.getTotalCount() > 0) {
+                int pageSize = first.getPositions().size();
+                int lastPage = (first.getTotalCount() + pageSize - 1) / pageSize;
+                if (maxPages > 0) lastPage = Math.min(lastPage, maxPages);
+                // 동시에 listConcurrency 페이지까지 요청하되 방출은 페이지 순서대로
+                // 실패도 신호로 바꿔 페이지 순서대로 전달 (앞 페이지를 다 보낸 뒤 오류)
+                rest = Flux.range(2, Math.max(lastPage - 1, 0))
+                        .flatMapSequential(p -> fetchPage(url, p, limiter, breaker, run).materialize(),
+                                jumpitProperties.getListConcurrency())
+                        .dematerialize();
+            } else {
+                // totalCount 가 없으면 빈 페이지가 나올 때까지 한 페이지씩
+                int count = maxPages > 0 ? Math.max(maxPages - 1, 0) : Integer.MAX_VALUE - 2;
+                rest = Flux.range(2, count).concatMap(p -> fetchPage(url, p, limiter, breaker, run));
+            }
+
+            return Flux.concat(Mono.just(first), rest)
+                    .takeWhile(page -> !page.getPositions().isEmpty())
+                    .concatMapIterable(JumpitPositionPage::getPositions);
+        });
+    }
+
+    // 합쳐진 응답 버퍼를 String 변환 없이 바로 토큰 파싱하고 버퍼는 해제
+    private JumpitPositionPage parsePage(DataBuffer buffer) {
+        try (InputStream in = buffer.asInputStream(true)) {
+            return positionParser.parsePage(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSON 파싱 실패", e);
+        }
+    }
+
+    private Mono<JumpitPositionPage> fetchPage(String url, int pageid, RequestRateLimiter limiter,
+                                               CircuitBreaker breaker, Observation run) {
+        URI target = URI.create(String.format(url, pageid));
+        // page 스팬: 슬롯 대기, 재시도, 요청(http.fetch), 파싱(parse) 포함
+        return Mono.using(() -> tracer.startStage(run, "page"), (Observation page) -> fetchPage(target, pageid,
+                limiter, breaker, page), Observation::stop);
+    }
+
+    private Mono<JumpitPositionPage> fetchPage(URI target, int pageid, RequestRateLimiter limiter,
+                                               CircuitBreaker breaker, Observation page) {
+        return retryEngine.retry(Mono.defer(() -> Mono.delay(Duration.ofNanos(limiter.reserve()))
+                        .then(Mono.defer(() -> {
+                            // 응답 시간과 실패 원인을 limiter 에 알려 호스트 속도를 조절
+                            long start = System.nanoTime();
+                            Observation fetch = tracer.startStage(page, "http.fetch");
+                            return DataBufferUtils.join(crawlerWebClient.get()
+                                                    .uri(target)
+                                                    .retrieve()
+                                                    .bodyToFlux(DataBuffer.class),
+                                            jumpitProperties.getMaxResponseBytes())
+                                    .doOnSuccess(buffer -> {
+                                        long elapsed = System.nanoTime() - start;
+                                        limiter.onSuccess(elapsed);
+                                        fetchMetrics.record(target.toString(), elapsed, HttpFetchMetrics.OK,
+                                                buffer == null ? 0 : buffer.readableByteCount());
+                                    })
+                                    .doOnError(e -> {
+                                        limiter.onFailure(e);
+                                        fetchMetrics.record(target.toString(), System.nanoTime() - start,
+                                                HttpFetchMetrics.ERROR, -1);
+                                        fetch.error(e);
+                                    })
+                                    .doFinally(signal -> fetch.stop());
+                        })))
+                        .map(buffer -> tracer.stage(page, "parse", () -> parsePage(buffer))), breaker)
+                .doOnNext(result -> log.info("pageid={} size={}", pageid, result.getPositions().size()))
+                .doOnError(e -> log.error("목록 페이지 수집 실패 pageid={}: {}", pageid, e.getMessage()));
+    }
+}
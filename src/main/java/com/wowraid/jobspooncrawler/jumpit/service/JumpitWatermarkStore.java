@@ -0,0 +1,75 @@
+package com.wowraid.jobspooncrawler.jumpit.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * 목록 소스별 워터마크(지난 실행에서 본 가장 최신 포지션 id) 저장소.
+ * - ${crawler.state-dir}/jumpit-watermarks.properties 에 source=id 형태로 보관하여
+ *   재시작 후에도 증분 크롤링이 이어지도록 함.
+ * - 저장은 임시 파일에 쓴 뒤 교체하여 중간에 죽어도 파일이 깨지지 않게 함.
+ */
+@Slf4j
+@Component
+public class JumpitWatermarkStore {
+
+    private static final String FILE_NAME = "jumpit-watermarks.properties";
+
+    private final Path file;
+    private final Properties watermarks = new Properties();
+
+    public JumpitWatermarkStore(@Value("${crawler.state-dir:./crawler-state}") String stateDir) {
+        this.file = Path.of(stateDir).resolve(FILE_NAME);
+        load();
+    }
+
+    /**
+     * source 의 워터마크 반환 (없으면 0 = 처음 실행).
+     */
+    public synchronized long get(String source) {
+        String value = watermarks.getProperty(source);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    /**
+     * newestId 가 기존 워터마크보다 클 때만 갱신하고 파일에 저장.
+     */
+    public synchronized void advance(String source, long newestId) {
+        if (newestId <= get(source)) return;
+        watermarks.setProperty(source, Long.toString(newestId));
+        save();
+        log.info("[JumpitWatermarkStore] watermark 갱신 source={}, id={}", source, newestId);
+    }
+
+    private void load() {
+        if (!Files.exists(file)) return;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            watermarks.load(reader);
+        } catch (IOException e) {
+            log.warn("[JumpitWatermarkStore] 워터마크 파일 읽기 실패, 처음부터 수집합니다. file={}", file, e);
+        }
+    }
+
+    private void save() {
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(FILE_NAME + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                watermarks.store(writer, "jumpit list watermarks");
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("[JumpitWatermarkStore] 워터마크 저장 실패 file={}", file, e);
+        }
+    }
+}
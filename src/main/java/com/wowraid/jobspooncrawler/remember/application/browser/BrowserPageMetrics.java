@@ -0,0 +1,101 @@
+package com.wowraid.jobspooncrawler.remember.application.browser;
+
+import com.wowraid.jobspooncrawler.remember.config.ChromeProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 페이지 1건 수집 비용 측정.
+ * - crawler.remember.page.load: driver.get 소요 시간
+ * - crawler.remember.renderer.heap: 로딩 직후 렌더러 JS 힙 사용량 (CDP Performance.getMetrics 의 JSHeapUsedSize)
+ * - crawler.remember.page.source / .size: getPageSource 직렬화 시간과 HTML 길이
+ *   (목록 준비 대기 시간은 PageReadinessWaiter 의 crawler.remember.page.ready)
+ * - headless/blocking 태그로 프로파일별 값을 나눠서 비교할 수 있게 함.
+ */
+@Slf4j
+@Component
+public class BrowserPageMetrics {
+
+    private static final String JS_HEAP_USED = "JSHeapUsedSize";
+
+    private final Timer pageLoadTimer;
+    private final DistributionSummary rendererHeap;
+    private final Timer pageSourceTimer;
+    private final DistributionSummary pageSourceSize;
+
+    public BrowserPageMetrics(ChromeProperties chromeProperties, MeterRegistry meterRegistry) {
+        Tags profile = Tags.of(
+                "headless", String.valueOf(chromeProperties.isHeadless()),
+                "blocking", String.valueOf(chromeProperties.isBlockResources()));
+        this.pageLoadTimer = Timer.builder("crawler.remember.page.load")
+                .description("Remember 목록 페이지 로딩 시간")
+                .tags(profile)
+                .register(meterRegistry);
+        this.rendererHeap = DistributionSummary.builder("crawler.remember.renderer.heap")
+                .description("페이지 로딩 직후 렌더러 JS 힙 사용량")
+                .baseUnit("bytes")
+                .tags(profile)
+                .register(meterRegistry);
+        this.pageSourceTimer = Timer.builder("crawler.remember.page.source")
+                .description("getPageSource 로 DOM 을 HTML 로 받는 시간")
+                .tags(profile)
+                .register(meterRegistry);
+        this.pageSourceSize = DistributionSummary.builder("crawler.remember.page.source.size")
+                .description("getPageSource 로 받은 HTML 길이")
+                .baseUnit("chars")
+                .tags(profile)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param loadNanos driver.get 에 걸린 시간
+     */
+    public void record(WebDriver driver, long loadNanos) {
+        pageLoadTimer.record(loadNanos, TimeUnit.NANOSECONDS);
+        long heap = jsHeapUsed(driver);
+        if (heap >= 0) rendererHeap.record(heap);
+    }
+
+    /**
+     * driver.getPageSource 를 호출하고 시간/길이를 기록.
+     */
+    public String pageSource(WebDriver driver) {
+        long start = System.nanoTime();
+        String source = driver.getPageSource();
+        pageSourceTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (source != null) pageSourceSize.record(source.length());
+        return source;
+    }
+
+    /**
+     * @return 렌더러 JS 힙 사용량(bytes), CDP 를 쓸 수 없으면 -1
+     */
+    static long jsHeapUsed(WebDriver driver) {
+        if (!(driver instanceof HasCdp cdp)) return -1;
+        try {
+            Map<String, Object> result = cdp.executeCdpCommand("Performance.getMetrics", Map.of());
+            if (result.get("metrics") instanceof List<?> metrics) {
+                for (Object m : metrics) {
+                    if (m instanceof Map<?, ?> metric && JS_HEAP_USED.equals(metric.get("name"))
+                            && metric.get("value") instanceof Number value) {
+                        return value.longValue();
+                    }
+                }
+            }
+        } catch (WebDriverException e) {
+            log.debug("[BrowserPageMetrics] Performance.getMetrics 실패: {}", e.getMessage());
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,138 @@
+package com.wowraid.jobspooncrawler.remember.application.browser;
+
+import com.wowraid.jobspooncrawler.remember.config.RememberProperties;
+import com.wowraid.jobspooncrawler.remember.dto.JobListingDto;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 청크 페이지에서 스크롤/다음 페이지 이동을 반복하며 목록을 끝까지 수집.
+ * - 매 단계 listSelector 항목 중 아직 읽지 않은 것만 읽고 data-crawler-seen 표시를 남김
+ *   (페이지 소스 전체를 다시 직렬화/파싱하지 않음).
+ * - 이동 후 stepTimeout 안에 새 항목이 나타나지 않거나, 더 스크롤할 곳도 다음 페이지도 없으면 종료.
+ * - 제목/링크는 ListParseService 와 같게 공백을 정리한 텍스트와 href 속성 원문.
+ */
+@Slf4j
+@Component
+public class ListHarvester {
+
+    public enum StopReason { NO_NEW_ITEMS, END_OF_LIST, MAX_STEPS }
+
+    public record Result(List<JobListingDto> items, int steps, StopReason stopReason) {
+
+        // 이동 없이 한 번에 얻은 결과 (API 모드, 페이지 소스 파싱 등)
+        public static Result single(List<JobListingDto> items) {
+            return new Result(items, 0, StopReason.END_OF_LIST);
+        }
+    }
+
+    private static final String SEEN_ATTR = "data-crawler-seen";
+
+    // 아직 읽지 않은 항목만 [제목, href] 로 반환하고 읽음 표시
+    private static final String COLLECT_SCRIPT = """
+            var out = [];
+            document.querySelectorAll(arguments[0]).forEach(function (el) {
+              if (el.hasAttribute('%1$s')) return;
+              el.setAttribute('%1$s', '1');
+              out.push([(el.innerText || el.textContent || '').replace(/\\s+/g, ' ').trim(), el.getAttribute('href') || '']);
+            });
+            return out;
+            """.formatted(SEEN_ATTR);
+
+    // [읽지 않은 항목 수, 마지막 DOM 변경 후 경과 ms]
+    private static final String PROBE_SCRIPT = PageReadinessWaiter.OBSERVER_SCRIPT + """
+            var fresh = 0;
+            document.querySelectorAll(arguments[0]).forEach(function (el) { if (!el.hasAttribute('%s')) fresh++; });
+            return [fresh, performance.now() - w.__crawlerReady.last];
+            """.formatted(SEEN_ATTR);
+
+    // 다음 페이지 버튼이 있으면 클릭, 없으면 맨 아래로 스크롤. 더 갈 곳이 없으면 'END'
+    private static final String ADVANCE_SCRIPT = """
+            if (arguments[0]) {
+              var next = document.querySelector(arguments[0]);
+              if (next && !next.disabled && next.getAttribute('aria-disabled') !== 'true') { next.click(); return 'PAGE'; }
+            }
+            var before = window.scrollY;
+            window.scrollTo(0, document.documentElement.scrollHeight);
+            return window.scrollY > before ? 'SCROLL' : 'END';
+            """;
+
+    private final RememberProperties rememberProperties;
+
+    public ListHarvester(RememberProperties rememberProperties) {
+        this.rememberProperties = rememberProperties;
+    }
+
+    /**
+     * 준비 대기가 끝난 페이지에서 호출.
+     *
+     * @throws JavascriptException listSelector 를 브라우저에서 쓸 수 없는 경우 (Jsoup 전용 문법 등)
+     */
+    public Result harvest(WebDriver driver) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        RememberProperties.Harvest harvest = rememberProperties.getHarvest();
+        String selector = rememberProperties.getListSelector();
+
+        List<JobListingDto> items = new ArrayList<>(collect(js, selector));
+        if (!harvest.isEnabled()) return Result.single(items);
+
+        for (int step = 1; step <= harvest.getMaxSteps(); step++) {
+            if (!advance(driver)) return new Result(items, step, StopReason.END_OF_LIST);
+            if (!awaitFresh(driver, selector)) return new Result(items, step, StopReason.NO_NEW_ITEMS);
+            List<JobListingDto> fresh = collect(js, selector);
+            if (fresh.isEmpty()) return new Result(items, step, StopReason.NO_NEW_ITEMS);
+            items.addAll(fresh);
+        }
+        return new Result(items, harvest.getMaxSteps(), StopReason.MAX_STEPS);
+    }
+
+    /**
+     * 다음 페이지 클릭 또는 스크롤 (NETWORK 모드에서도 추가 목록 요청을 일으키는 데 사용).
+     *
+     * @return 더 이동할 곳이 없으면 false
+     */
+    public boolean advance(WebDriver driver) {
+        String next = rememberProperties.getHarvest().getNextPageSelector();
+        Object moved = ((JavascriptExecutor) driver).executeScript(ADVANCE_SCRIPT,
+                StringUtils.hasText(next) ? next : null);
+        return !"END".equals(moved);
+    }
+
+    // 읽지 않은 항목이 생기고 DOM 이 잠잠해질 때까지 대기. 시간 안에 새 항목이 없으면 false
+    private boolean awaitFresh(WebDriver driver, String selector) {
+        long quietMillis = rememberProperties.getReadyQuietWindow().toMillis();
+        WebDriverWait wait = new WebDriverWait(driver,
+                rememberProperties.getHarvest().getStepTimeout(), rememberProperties.getReadyPollInterval());
+        try {
+            wait.until(d -> PageReadinessWaiter.isReady(
+                    ((JavascriptExecutor) d).executeScript(PROBE_SCRIPT, selector), quietMillis));
+            return true;
+        } catch (TimeoutException e) {
+            // 새 항목이 들어오는 중이었다면 DOM 이 아직 바뀌고 있어도 지금까지 온 것은 읽음
+            Object probe = ((JavascriptExecutor) driver).executeScript(PROBE_SCRIPT, selector);
+            return PageReadinessWaiter.isReady(probe, 0);
+        }
+    }
+
+    private static List<JobListingDto> collect(JavascriptExecutor js, String selector) {
+        Object raw = js.executeScript(COLLECT_SCRIPT, selector);
+        List<JobListingDto> items = new ArrayList<>();
+        if (raw instanceof List<?> rows) {
+            for (Object row : rows) {
+                if (row instanceof List<?> cols && cols.size() == 2) {
+                    items.add(new JobListingDto(String.valueOf(cols.get(0)), String.valueOf(cols.get(1))));
+                }
+            }
+        }
+        return items;
+    }
+}
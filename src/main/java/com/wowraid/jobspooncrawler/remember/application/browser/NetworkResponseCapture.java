@@ -0,0 +1,136 @@
+package com.wowraid.jobspooncrawler.remember.application.browser;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+
+/**
+ * 페이지 로딩 중 XHR/Fetch JSON 응답 캡처 (Chrome DevTools Network 도메인).
+ * - 특정 CDP 버전 패키지(v1xx)에 묶이지 않도록 Command/Event 를 메서드 이름으로 직접 구성.
+ * - 이벤트 리스너에서는 requestId 만 모으고, 본문(Network.getResponseBody)은 호출 스레드에서 가져옴.
+ * - 세션은 풀에서 재사용되므로 close() 에서 리스너를 반드시 정리.
+ */
+@Slf4j
+public class NetworkResponseCapture implements AutoCloseable {
+
+    private static final Event<Map<String, Object>> RESPONSE_RECEIVED =
+            new Event<>("Network.responseReceived", input -> input.read(Json.MAP_TYPE));
+    private static final Event<Map<String, Object>> LOADING_FINISHED =
+            new Event<>("Network.loadingFinished", input -> input.read(Json.MAP_TYPE));
+    private static final Event<Map<String, Object>> LOADING_FAILED =
+            new Event<>("Network.loadingFailed", input -> input.read(Json.MAP_TYPE));
+
+    private final DevTools devTools;
+    // 응답 헤더를 받았지만 본문 수신이 끝나지 않은 요청
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    // 본문 수신까지 끝난 요청 (도착 순서)
+    private final Queue<String> finished = new ConcurrentLinkedQueue<>();
+
+    private NetworkResponseCapture(DevTools devTools, Predicate<String> urlMatcher) {
+        this.devTools = devTools;
+        devTools.addListener(RESPONSE_RECEIVED, params -> {
+            if (!isJsonXhr(params)) return;
+            Map<?, ?> response = (Map<?, ?>) params.get("response");
+            if (urlMatcher.test(String.valueOf(response.get("url")))) {
+                pending.add(String.valueOf(params.get("requestId")));
+            }
+        });
+        devTools.addListener(LOADING_FINISHED, params -> {
+            String requestId = String.valueOf(params.get("requestId"));
+            if (pending.remove(requestId)) finished.add(requestId);
+        });
+        devTools.addListener(LOADING_FAILED, params -> pending.remove(String.valueOf(params.get("requestId"))));
+    }
+
+    /**
+     * driver.get 전에 호출.
+     *
+     * @return DevTools 를 쓸 수 없는 드라이버면 null
+     */
+    public static NetworkResponseCapture start(WebDriver driver, Predicate<String> urlMatcher) {
+        if (!(driver instanceof HasDevTools hasDevTools)) return null;
+        try {
+            DevTools devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(new Command<Void>("Network.enable", Map.of()));
+            return new NetworkResponseCapture(devTools, urlMatcher);
+        } catch (WebDriverException e) {
+            log.warn("[NetworkResponseCapture] DevTools 연결 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean isJsonXhr(Map<String, Object> params) {
+        Object type = params.get("type");
+        if (!"XHR".equals(type) && !"Fetch".equals(type)) return false;
+        if (!(params.get("response") instanceof Map<?, ?> response)) return false;
+        return String.valueOf(response.get("mimeType")).contains("json");
+    }
+
+    /**
+     * 꺼내지 않은 매칭 응답이 하나 이상 끝나고 진행 중인 매칭 요청이 없을 때까지 대기.
+     *
+     * @return 시간 안에 캡처되면 true
+     */
+    public boolean awaitResponses(WebDriver driver, Duration timeout, Duration pollInterval) {
+        try {
+            new WebDriverWait(driver, timeout, pollInterval).until(d -> !finished.isEmpty() && pending.isEmpty());
+            return true;
+        } catch (TimeoutException e) {
+            return !finished.isEmpty();
+        }
+    }
+
+    /**
+     * 지금까지 끝난 응답의 본문을 꺼냄 (꺼낸 응답은 다음 호출에 다시 나오지 않음).
+     *
+     * @return 캡처된 응답 본문 (도착 순서). 본문을 더 이상 받을 수 없는 요청은 건너뜀
+     */
+    public List<String> drainBodies() {
+        List<String> bodies = new ArrayList<>();
+        String requestId;
+        while ((requestId = finished.poll()) != null) {
+            try {
+                Map<String, Object> result = devTools.send(new Command<>("Network.getResponseBody",
+                        Map.of("requestId", requestId), input -> input.<Map<String, Object>>read(Json.MAP_TYPE)));
+                String body = String.valueOf(result.get("body"));
+                if (Boolean.TRUE.equals(result.get("base64Encoded"))) {
+                    body = new String(Base64.getDecoder().decode(body), StandardCharsets.UTF_8);
+                }
+                bodies.add(body);
+            } catch (WebDriverException e) {
+                log.debug("[NetworkResponseCapture] 본문 조회 실패 requestId={}: {}", requestId, e.getMessage());
+            }
+        }
+        return bodies;
+    }
+
+    @Override
+    public void close() {
+        try {
+            devTools.clearListeners();
+            devTools.send(new Command<Void>("Network.disable", Map.of()));
+        } catch (WebDriverException e) {
+            log.debug("[NetworkResponseCapture] 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.wowraid.jobspooncrawler.remember.application.browser;
+
+import com.wowraid.jobspooncrawler.remember.config.RememberProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 목록 페이지 준비 대기.
+ * - 고정 시간 sleep 대신, listSelector 항목이 하나 이상 있고 DOM 변경이 quietWindow 동안 없을 때까지 대기.
+ * - DOM 변경 시각은 페이지에 설치한 MutationObserver 가 기록하고, 주기적으로 스크립트 한 번으로 확인.
+ * - waitMillis 를 넘기면 그때까지의 DOM 으로 진행 (기존과 같이 부분 결과라도 반환).
+ * - 실제 대기 시간은 crawler.remember.page.ready{outcome=ready|timeout} 히스토그램으로 기록.
+ */
+@Slf4j
+@Component
+public class PageReadinessWaiter {
+
+    // 페이지당 한 번 MutationObserver 를 설치해 마지막 DOM 변경 시각을 기록 (ListHarvester 와 공유)
+    static final String OBSERVER_SCRIPT = """
+            var w = window;
+            if (!w.__crawlerReady) {
+              w.__crawlerReady = { last: performance.now() };
+              new MutationObserver(function () { w.__crawlerReady.last = performance.now(); })
+                .observe(document.documentElement || document, { childList: true, subtree: true, characterData: true });
+            }
+            """;
+
+    // [목록 항목 수, 마지막 DOM 변경 후 경과 ms] 반환
+    private static final String PROBE_SCRIPT = OBSERVER_SCRIPT + """
+            var items = arguments[0] ? document.querySelectorAll(arguments[0]).length : 1;
+            return [items, performance.now() - w.__crawlerReady.last];
+            """;
+
+    private final RememberProperties rememberProperties;
+    private final Timer readyTimer;
+    private final Timer timeoutTimer;
+
+    public PageReadinessWaiter(RememberProperties rememberProperties, MeterRegistry meterRegistry) {
+        this.rememberProperties = rememberProperties;
+        this.readyTimer = waitTimer("ready", meterRegistry);
+        this.timeoutTimer = waitTimer("timeout", meterRegistry);
+    }
+
+    private static Timer waitTimer(String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder("crawler.remember.page.ready")
+                .description("목록 페이지 준비까지 기다린 시간")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 준비 조건을 만족하면 true, 최대 대기 시간을 넘기면 false
+     */
+    public boolean await(WebDriver driver) {
+        if (!(driver instanceof JavascriptExecutor)) return true;
+
+        String selector = StringUtils.hasText(rememberProperties.getListSelector())
+                ? rememberProperties.getListSelector() : null;
+        long quietMillis = rememberProperties.getReadyQuietWindow().toMillis();
+        WebDriverWait wait = new WebDriverWait(
+                driver, rememberProperties.getReadyTimeout(), rememberProperties.getReadyPollInterval());
+        wait.ignoring(JavascriptException.class);
+
+        long start = System.nanoTime();
+        try {
+            wait.until(d -> isReady(((JavascriptExecutor) d).executeScript(PROBE_SCRIPT, selector), quietMillis));
+            readyTimer.record(Duration.ofNanos(System.nanoTime() - start));
+            return true;
+        } catch (TimeoutException e) {
+            timeoutTimer.record(Duration.ofNanos(System.nanoTime() - start));
+            log.warn("[PageReadinessWaiter] 준비 대기 시간 초과 ({}ms), 현재 DOM 으로 진행 url={}",
+                    rememberProperties.getReadyTimeout().toMillis(), driver.getCurrentUrl());
+            return false;
+        }
+    }
+
+    static boolean isReady(Object probe, long quietMillis) {
+        if (!(probe instanceof List<?> values) || values.size() < 2) return false;
+        if (!(values.get(0) instanceof Number items) || !(values.get(1) instanceof Number sinceMutation)) return false;
+        return items.longValue() > 0 && sinceMutation.doubleValue() >= quietMillis;
+    }
+}
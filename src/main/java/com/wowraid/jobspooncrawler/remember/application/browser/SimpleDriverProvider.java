@@ -1,98 +1,143 @@
 package com.wowraid.jobspooncrawler.remember.application.browser;
 
+import com.wowraid.jobspooncrawler.remember.config.ChromeProperties;
 import io.github.bonigarcia.wdm.WebDriverManager;
 
-import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
-import org.springframework.beans.factory.annotation.Value;
+import org.openqa.selenium.chromium.HasCdp;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
 public class SimpleDriverProvider {
     /**
-     * 싱글턴(Spring @Component 기본 스코프) 빈에서 공유할 WebDriver 인스턴스.
-     * - 지연 초기화(lazy init): 최초 getDriver() 호출 시 생성.
-     * - 동시성 제어: getDriver()/closeDriver()를 synchronized 로 보호하여
-     *   멀티스레드 환경에서 중복 생성/종료를 방지.
-     *   (크롤러가 멀티스레드로 확장될 가능성이 있으면 ThreadLocal 전략을 별도 검토 필요)
+     * Chrome WebDriver 생성 팩토리.
+     * - 예전에는 앱 전체가 하나의 ChromeDriver 를 synchronized 로 공유했으나,
+     *   이제 세션 보관/재사용/종료는 WebDriverPool 이 맡고 이 클래스는 새 세션 생성만 담당.
+     * - 설정은 crawler.chrome.* (ChromeProperties) 에서 읽음.
      */
-    private WebDriver driver;
+    private final ChromeProperties chromeProperties;
 
-    /**
-     * application.yml 등에 정의된 사용자 에이전트 값을 주입.
-     * 예) application.yml
-     *   crawler:
-     *     chrome:
-     *       user-agent: "Mozilla/5.0 (...) Chrome/138.0.0.0 Safari/537.36"
-     *
-     * 주의:
-     * - 필드명이 대문자지만 상수가 아니라 @Value 주입되는 인스턴스 필드
-     *   (관례상 소문자 카멜케이스 권장이나, 기능상 문제는 없음)
-     */
-    @Value("${crawler.chrome.user-agent}")
-    private String USER_AGENT;
+    // chromedriver 준비(WebDriverManager 다운로드/경로 설정)는 최초 1회만
+    private volatile boolean driverBinaryReady;
+
+    public SimpleDriverProvider(ChromeProperties chromeProperties) {
+        this.chromeProperties = chromeProperties;
+    }
 
     /**
-     * Chrome WebDriver를 획득(필요 시 생성)하는 팩토리 메서드.
-     * - synchronized 로 한 번에 하나의 스레드만 접근 가능하도록 하여
-     *   중복 생성 방지.
-     * - 최초 호출 시:
-     *    1) WebDriverManager 가 OS/아키텍처에 맞는 chromedriver 바이너리 확인/설치
-     *    2) ChromeOptions 에 --user-agent 인자 주입
-     *    3) ChromeDriver 인스턴스 생성 및 로그 남김
-     * - 이후 호출 시: 이미 생성된 driver 반환.
+     * 새 Chrome 세션 생성.
+     * - driverPath 가 있으면 그 chromedriver 를, 없으면 WebDriverManager 가 OS/버전에 맞게 내려받은 것을 사용.
+     * - binaryPath 가 있으면 해당 Chrome 실행 파일 사용.
+     * - userAgent 가 있으면 --user-agent 인자로 주입.
+     * - headless/blockResources 설정에 따라 서버 수집 프로파일 적용.
      */
-    public synchronized WebDriver getDriver() {
-        if (driver == null) {
-            // chromedriver 바이너리 자동 관리(버전 호환 포함).
-            WebDriverManager.chromedriver().setup();
+    public WebDriver createDriver() {
+        prepareDriverBinary();
 
-            // Chrome 실행 옵션 구성.
-            ChromeOptions options = new ChromeOptions();
+        // 실제 브라우저 프로세스를 띄우는 드라이버 생성.
+        WebDriver driver = new ChromeDriver(chromeOptions());
+        if (chromeProperties.isHeadless() || chromeProperties.isBlockResources()) {
+            configureDevTools(driver);
+        }
 
-            // UA 스푸핑: 서버 측 UA 기반 차단 회피나 트래픽 세분화를 위해 사용.
-            // 값에 공백/괄호가 포함되어도 Chrome은 하나의 인자로 인식함.
-            options.addArguments("--user-agent=" + USER_AGENT);
+        // 운영 추적용 로그(UA 확인 포함).
+        log.info("[SimpleDriverProvider] Chrome driver started (headless={}, blockResources={}, UA={})",
+                chromeProperties.isHeadless(), chromeProperties.isBlockResources(), chromeProperties.getUserAgent());
+        return driver;
+    }
 
-            // (주의) 현재는 GUI 모드. 서버(헤드리스) 환경이면 다음 옵션 고려:
-            // options.addArguments("--headless=new", "--no-sandbox", "--disable-dev-shm-usage");
+    /**
+     * Chrome 실행 옵션 구성.
+     * - headless 프로파일: 창 없이 실행하고 GPU/확장/첫 실행 화면/백그라운드 통신을 끄며,
+     *   DOMContentLoaded 까지만 기다림(EAGER). 목록은 이후 준비 대기에서 확인.
+     * - 외부 페이지를 여는 크롤러이므로 렌더러 샌드박스는 기본 유지, noSandbox 를 켠 경우에만 끔.
+     */
+    ChromeOptions chromeOptions() {
+        ChromeOptions options = new ChromeOptions();
+        if (StringUtils.hasText(chromeProperties.getBinaryPath())) {
+            options.setBinary(chromeProperties.getBinaryPath());
+        }
 
-            // 실제 브라우저 프로세스를 띄우는 드라이버 생성.
-            driver = new ChromeDriver(options);
+        // UA 스푸핑: 서버 측 UA 기반 차단 회피나 트래픽 세분화를 위해 사용.
+        // 값에 공백/괄호가 포함되어도 Chrome은 하나의 인자로 인식함.
+        if (StringUtils.hasText(chromeProperties.getUserAgent())) {
+            options.addArguments("--user-agent=" + chromeProperties.getUserAgent());
+        }
 
-            // 운영 추적용 로그(UA 확인 포함).
-            log.info("[SimpleDriverProvider] Chrome driver started (UA={})", USER_AGENT);
+        if (chromeProperties.isHeadless()) {
+            options.addArguments(
+                    "--headless=new",
+                    "--disable-gpu",
+                    "--disable-extensions",
+                    "--no-first-run",
+                    "--no-default-browser-check",
+                    "--disable-background-networking",
+                    "--disable-component-update",
+                    "--disable-default-apps",
+                    "--disable-sync",
+                    "--mute-audio",
+                    // 컨테이너에서 /dev/shm 이 작아 렌더러가 죽는 문제 회피
+                    "--disable-dev-shm-usage",
+                    "--window-size=1280,2000");
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
         }
-        return driver;
+        if (chromeProperties.isNoSandbox()) {
+            options.addArguments("--no-sandbox");
+        }
+        if (chromeProperties.isBlockResources()) {
+            // CDP 차단이 실패해도 이미지는 받지 않도록 렌더러 설정으로 한 번 더 막음
+            options.addArguments("--blink-settings=imagesEnabled=false");
+        }
+        return options;
     }
 
     /**
-     * 컨테이너 종료 시점(정상 셧다운) 콜백.
-     * - Spring 컨텍스트가 내려갈 때 호출되어 브라우저/드라이버 프로세스를 정리.
-     * - synchronized 로 종료 중 동시 접근을 방지.
-     * - try 블록에서 예외가 나더라도 애플리케이션 종료 흐름을 막지 않도록 처리.
-     *
-     * 주의:
-     * - 강제 종료(SIGKILL) 등 비정상 종료 시에는 @PreDestroy 가 실행되지 않을 수 있음.
-     * - 현재 코드는 예외 발생 시에만 driver = null 로 초기화. 정상 종료 후에도
-     *   레퍼런스 해제를 원하면 finally 에서 null 할당을 검토.
+     * CDP 설정: 리소스 차단(Network.setBlockedURLs)과 렌더러 메모리 측정(Performance.getMetrics) 활성화.
+     * - CDP 를 지원하지 않는 드라이버거나 명령이 실패하면 경고만 남기고 그대로 사용.
      */
-    @PreDestroy
-    public synchronized void closeDriver() {
-        if (driver != null) {
-            try {
-                // 브라우저와 세션을 정상 종료(프로세스 포함).
-                driver.quit();
-            } catch (Exception e) {
-                log.warn("[SimpleDriverProvider] Error closing chrome driver", e);
-            }finally{
-                driver = null;
-                log.info("[SimpleDriverProvider] Chrome driver closed");
+    private void configureDevTools(WebDriver driver) {
+        if (!(driver instanceof HasCdp cdp)) return;
+        try {
+            cdp.executeCdpCommand("Performance.enable", Map.of());
+            if (chromeProperties.isBlockResources()) {
+                cdp.executeCdpCommand("Network.enable", Map.of());
+                cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", blockedUrls()));
+            }
+        } catch (WebDriverException e) {
+            log.warn("[SimpleDriverProvider] CDP 설정 실패, 차단 없이 진행: {}", e.getMessage());
+        }
+    }
+
+    List<String> blockedUrls() {
+        List<String> urls = new ArrayList<>(chromeProperties.getBlockedUrlPatterns());
+        for (String host : chromeProperties.getBlockedHosts()) {
+            urls.add("*" + host + "*");
+        }
+        return urls;
+    }
+
+    private void prepareDriverBinary() {
+        if (driverBinaryReady) return;
+        synchronized (this) {
+            if (driverBinaryReady) return;
+            if (StringUtils.hasText(chromeProperties.getDriverPath())) {
+                System.setProperty("webdriver.chrome.driver", chromeProperties.getDriverPath());
+            } else {
+                // chromedriver 바이너리 자동 관리(버전 호환 포함).
+                WebDriverManager.chromedriver().setup();
             }
+            driverBinaryReady = true;
         }
     }
 }
@@ -0,0 +1,186 @@
+package com.wowraid.jobspooncrawler.remember.application.browser;
+
+import com.wowraid.jobspooncrawler.remember.config.ChromeProperties;
+import com.wowraid.jobspooncrawler.utility.CircuitOpenException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 크기가 제한된 WebDriver 세션 풀.
+ * - 동시에 빌려 간 세션 수는 poolSize 를 넘지 않고, 넘으면 borrowTimeout 까지 기다린 뒤 실패.
+ * - 빌려줄 때 세션이 살아 있는지 확인하고, 죽었으면 종료 후 새로 생성.
+ * - 페이지를 maxPageLoads 번 연 세션이나 사용 중 오류가 난 세션은 반납 시 종료 (Chrome 메모리 증가/행 억제).
+ *   대여 횟수가 아니라 recordPageLoad 로 알려 준 실제 페이지 이동 횟수로 셈.
+ * - 세션은 필요할 때만 생성하므로 Remember 크롤링을 하지 않으면 브라우저를 띄우지 않음.
+ */
+@Slf4j
+@Component
+public class WebDriverPool {
+
+    private final Supplier<WebDriver> driverFactory;
+    private final Semaphore permits;
+    private final BlockingDeque<PooledDriver> idle = new LinkedBlockingDeque<>();
+    // 대여 중인 세션 (WebDriver 는 equals 를 보장하지 않으므로 동일성으로 찾음)
+    private final Map<WebDriver, PooledDriver> borrowed = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final long borrowTimeoutNanos;
+    private final int maxPageLoads;
+    private volatile boolean closed;
+
+    @Autowired
+    public WebDriverPool(SimpleDriverProvider driverProvider, ChromeProperties chromeProperties) {
+        this(driverProvider::createDriver, chromeProperties.getPoolSize(),
+                chromeProperties.getBorrowTimeout(), chromeProperties.getMaxPageLoads());
+    }
+
+    WebDriverPool(Supplier<WebDriver> driverFactory, int poolSize, Duration borrowTimeout, int maxPageLoads) {
+        this.driverFactory = driverFactory;
+        this.permits = new Semaphore(poolSize, true);
+        this.borrowTimeoutNanos = borrowTimeout.toNanos();
+        this.maxPageLoads = maxPageLoads;
+    }
+
+    /**
+     * 세션을 빌려 work 를 실행하고 반납. work 에서 예외가 나면 세션을 버리고 예외를 그대로 던짐.
+     * (호스트 차단으로 페이지를 열지 않은 경우는 세션 문제가 아니므로 재사용)
+     */
+    public <T> T execute(Function<WebDriver, T> work) {
+        PooledDriver pooled = borrow();
+        boolean broken = true;
+        try {
+            T result = work.apply(pooled.driver);
+            broken = false;
+            return result;
+        } catch (CircuitOpenException e) {
+            broken = false;
+            throw e;
+        } finally {
+            giveBack(pooled, broken);
+        }
+    }
+
+    /**
+     * 세션 대여 (반드시 giveBack 으로 반납).
+     *
+     * @throws WebDriverPoolException borrowTimeout 안에 세션을 얻지 못하거나 풀이 닫힌 경우
+     */
+    public PooledDriver borrow() {
+        if (closed) throw new WebDriverPoolException("WebDriver 풀이 닫혔습니다");
+        try {
+            if (!permits.tryAcquire(borrowTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new WebDriverPoolException("WebDriver 대여 시간 초과 ("
+                        + TimeUnit.NANOSECONDS.toMillis(borrowTimeoutNanos) + "ms)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverPoolException("WebDriver 대여 중 인터럽트", e);
+        }
+
+        try {
+            PooledDriver pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                if (isHealthy(pooled.driver)) {
+                    borrowed.put(pooled.driver, pooled);
+                    return pooled;
+                }
+                log.warn("[WebDriverPool] 응답 없는 세션 폐기");
+                quietQuit(pooled.driver);
+            }
+            pooled = new PooledDriver(driverFactory.get());
+            borrowed.put(pooled.driver, pooled);
+            return pooled;
+        } catch (RuntimeException e) {
+            // 생성 실패 시 자리 반환
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 대여 중인 세션으로 페이지를 하나 열었음을 기록. 풀에서 빌린 세션이 아니면 무시.
+     */
+    public void recordPageLoad(WebDriver driver) {
+        PooledDriver pooled = borrowed.get(driver);
+        if (pooled != null) pooled.pageLoads++;
+    }
+
+    /**
+     * @param broken 사용 중 오류가 났으면 true (세션을 재사용하지 않고 종료)
+     */
+    public void giveBack(PooledDriver pooled, boolean broken) {
+        borrowed.remove(pooled.driver);
+        try {
+            if (closed || broken || pooled.pageLoads >= maxPageLoads) {
+                if (!broken && pooled.pageLoads >= maxPageLoads) {
+                    log.info("[WebDriverPool] 페이지를 {}번 연 세션 교체", pooled.pageLoads);
+                }
+                quietQuit(pooled.driver);
+            } else {
+                idle.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 컨테이너 종료 시 놀고 있는 세션을 모두 종료. 빌려 간 세션은 반납 시 종료됨.
+     */
+    @PreDestroy
+    public void close() {
+        closed = true;
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            quietQuit(pooled.driver);
+        }
+        log.info("[WebDriverPool] 풀 종료");
+    }
+
+    // 현재 창 핸들 조회로 세션 생존 확인 (브라우저가 죽었거나 세션이 끊기면 예외)
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void quietQuit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            log.warn("[WebDriverPool] Error closing chrome driver", e);
+        }
+    }
+
+    /**
+     * 대여한 세션과 페이지 이동 횟수.
+     */
+    public static final class PooledDriver {
+        private final WebDriver driver;
+        // 한 번에 한 스레드만 빌려 쓰므로 volatile 로 충분
+        private volatile int pageLoads;
+
+        private PooledDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        public WebDriver driver() {
+            return driver;
+        }
+    }
+}
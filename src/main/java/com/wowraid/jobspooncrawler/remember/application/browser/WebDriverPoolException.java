@@ -0,0 +1,15 @@
+package com.wowraid.jobspooncrawler.remember.application.browser;
+
+/**
+ * WebDriverPool 에서 세션을 빌리지 못했을 때의 예외.
+ */
+public class WebDriverPoolException extends RuntimeException {
+
+    public WebDriverPoolException(String message) {
+        super(message);
+    }
+
+    public WebDriverPoolException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
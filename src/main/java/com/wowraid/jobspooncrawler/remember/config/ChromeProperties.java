@@ -0,0 +1,60 @@
+package com.wowraid.jobspooncrawler.remember.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter @Setter
+@Validated
+@ConfigurationProperties(prefix = "crawler.chrome")
+public class ChromeProperties {
+
+    // Chrome 실행 파일 경로 (비어 있으면 기본 설치본)
+    private String binaryPath;
+
+    // chromedriver 경로 (비어 있으면 WebDriverManager 가 내려받음)
+    private String driverPath;
+
+    private String userAgent;
+
+    // 동시에 띄울 최대 브라우저 세션 수
+    @Positive
+    private int poolSize = 2;
+
+    // 세션을 빌릴 때 기다릴 최대 시간
+    @NotNull
+    private Duration borrowTimeout = Duration.ofSeconds(60);
+
+    // 세션 하나로 이만큼 페이지를 연 뒤에는 종료하고 새로 띄움 (Chrome 메모리 증가 억제)
+    @Positive
+    private int maxPageLoads = 50;
+
+    // 서버 수집용 프로파일: 창 없이 실행하고 GPU/확장/첫 실행 화면 등을 끔
+    private boolean headless = true;
+
+    // Chrome 렌더러 샌드박스 끄기 (root 로 실행하는 컨테이너처럼 샌드박스를 쓸 수 없는 환경에서만 켤 것)
+    private boolean noSandbox = false;
+
+    // CDP 네트워크 차단 사용 여부 (목록 파싱에는 DOM 만 필요하므로 이미지/폰트/미디어/분석 스크립트는 받지 않음)
+    private boolean blockResources = true;
+
+    // Network.setBlockedURLs 에 넘길 URL 패턴 ('*' 와일드카드)
+    @NotNull
+    private List<String> blockedUrlPatterns = new ArrayList<>(List.of(
+            "*.png", "*.jpg", "*.jpeg", "*.gif", "*.webp", "*.svg", "*.ico",
+            "*.woff", "*.woff2", "*.ttf", "*.otf",
+            "*.mp4", "*.webm", "*.mp3"));
+
+    // 통째로 막을 분석/광고 호스트
+    @NotNull
+    private List<String> blockedHosts = new ArrayList<>(List.of(
+            "google-analytics.com", "googletagmanager.com", "doubleclick.net",
+            "facebook.net", "hotjar.com", "clarity.ms"));
+}
@@ -1,11 +1,16 @@
 package com.wowraid.jobspooncrawler.remember.config;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 @Getter @Setter
 @Validated
 @ConfigurationProperties(prefix = "crawler.remember")
@@ -14,7 +19,121 @@ public class RememberProperties {
     @NotBlank
     private String baseUrl;        // <-- camelCase
 
+    // 목록 준비 대기의 최대 시간 (이 시간이 지나면 그때까지의 HTML 로 진행)
     private long waitMillis;
 
     private String listSelector;
-}
\ No newline at end of file
+
+    // listSelector 항목이 있고 DOM 변경이 이 시간 동안 없으면 준비된 것으로 봄
+    @NotNull
+    private Duration readyQuietWindow = Duration.ofMillis(300);
+
+    // 준비 여부 확인 주기
+    @NotNull
+    private Duration readyPollInterval = Duration.ofMillis(50);
+
+    /**
+     * 준비 대기 최대 시간 (waitMillis 가 없으면 10초).
+     */
+    public Duration getReadyTimeout() {
+        return waitMillis > 0 ? Duration.ofMillis(waitMillis) : Duration.ofSeconds(10);
+    }
+
+    // 목록 수집 방식 (DOM: 렌더링 후 HTML 파싱, NETWORK: 브라우저의 목록 XHR 응답 캡처, API: 브라우저 없이 목록 API 직접 호출)
+    @NotNull
+    private FetchMode mode = FetchMode.DOM;
+
+    @Valid
+    private Api api = new Api();
+
+    @Valid
+    private Harvest harvest = new Harvest();
+
+    @Valid
+    private Chunking chunking = new Chunking();
+
+    public enum FetchMode { DOM, NETWORK, API }
+
+    /**
+     * 목록 JSON API 계약 (NETWORK / API 모드 공통).
+     * - 경로는 모두 JSON Pointer ("/data", "/title").
+     */
+    @Getter @Setter
+    public static class Api {
+
+        // 캡처할 응답 URL 에 포함된 문자열 (NETWORK 모드)
+        @NotBlank
+        private String responseUrlPattern = "/job_postings";
+
+        // API 모드에서 호출할 URL ({query} 에 인코딩된 검색 쿼리가 들어감), 비어 있으면 API 모드 사용 불가
+        private String requestUrlTemplate;
+
+        // API 모드에서 목록 API 호스트에 허용할 초당 요청 수
+        @Positive
+        private double requestsPerSecond = 1.0;
+
+        // 응답에서 공고 배열 위치
+        @NotNull
+        private String itemsPointer = "/data";
+
+        // 공고 항목 안의 제목 위치
+        @NotNull
+        private String titlePointer = "/title";
+
+        // 공고 항목 안의 id 위치 (상세 URL 생성용)
+        @NotNull
+        private String idPointer = "/id";
+
+        // 상세 URL 형식 ({id} 치환)
+        @NotBlank
+        private String detailUrlTemplate = "https://career.rememberapp.co.kr/job/posting/{id}";
+    }
+
+    /**
+     * 한 청크 페이지에서 스크롤/다음 페이지로 목록을 끝까지 모으는 설정.
+     */
+    @Getter @Setter
+    public static class Harvest {
+
+        // false 면 첫 화면에 보이는 목록만 수집 (기존 동작)
+        private boolean enabled = true;
+
+        // 청크당 최대 스크롤/페이지 이동 횟수
+        @Positive
+        private int maxSteps = 20;
+
+        // 스크롤/페이지 이동 후 새 항목을 기다릴 최대 시간 (넘기면 더 없는 것으로 보고 종료)
+        @NotNull
+        private Duration stepTimeout = Duration.ofSeconds(3);
+
+        // 페이지네이션 버튼 셀렉터 (있으면 스크롤 대신 클릭, 비어 있으면 무한 스크롤)
+        private String nextPageSelector;
+    }
+
+    /**
+     * 키워드 청크 구성 (KeywordChunkPlanner).
+     * - 지난 실행의 키워드별 결과 수를 기준으로, 결과가 적은 키워드는 묶고 많은 키워드는 따로 보냄.
+     */
+    @Getter @Setter
+    public static class Chunking {
+
+        // 청크 하나(페이지 로드 1회)에 담을 목표 예상 결과 수
+        @Positive
+        private int targetItemsPerChunk = 100;
+
+        // 청크 하나에 넣을 최대 키워드 수 (검색 쿼리 길이 제한)
+        @Positive
+        private int maxKeywordsPerChunk = 10;
+
+        // 통계가 없는 키워드의 청크 크기 (기존 고정 크기)
+        @Positive
+        private int defaultChunkSize = 5;
+
+        // 결과 수 추정치 갱신 비율 (새 관측값 가중치, 0~1)
+        @Positive
+        private double smoothing = 0.5;
+
+        // 청크 결과가 이 수 이상이면 상한에 걸린 것으로 보고 추정치를 키움 (0 이면 harvest 가 maxSteps 에 닿은 경우만)
+        private int resultCap = 0;
+    }
+}
@@ -1,9 +1,14 @@
 package com.wowraid.jobspooncrawler.remember.controller;
 
+import com.wowraid.jobspooncrawler.remember.dto.ChunkCoverageDto;
 import com.wowraid.jobspooncrawler.remember.dto.JobListingDto;
+import com.wowraid.jobspooncrawler.remember.dto.KeywordPlanDto;
 import com.wowraid.jobspooncrawler.remember.service.CrawlerService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 @Slf4j
@@ -30,19 +35,41 @@ public class CrawlerController {
     }
     // HTTP GET 요청을 '/url' 엔드포인트에 매핑
     @GetMapping("/url")
-    public List<JobListingDto> RememberPostingUrl () {
+    public Mono<List<JobListingDto>> RememberPostingUrl () {
         // 1) 메서드 진입 로그
         log.info("[RememberPostingUrl] Start");
-        try {
-            // 2) Blocking 메서드 직접 호출
-            List<JobListingDto> pageSource = crawlerService.fetchLiElements();
-            // 3) 결과 반환
-            return pageSource;
-        } catch (Exception ex) {
-            // 4) 예외 처리 및 복구 흐름
-            log.error("[RememberPostingUrl] Error fetching URL", ex);
-            return null;
-        }
+        // 2) 이벤트 루프를 막지 않도록 수집 결과를 Mono 로 반환 (Selenium 작업은 remember-chunk 스케줄러에서 실행)
+        return crawlerService.collectListings()
+                .onErrorResume(ex -> {
+                    // 3) 예외 처리 및 복구 흐름
+                    log.error("[RememberPostingUrl] Error fetching URL", ex);
+                    return Mono.empty();
+                });
     }
 
+    // 청크가 파싱되는 대로 공고를 흘려보냄 (Accept 에 따라 NDJSON 또는 SSE)
+    @GetMapping(value = "/url/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<JobListingDto> RememberPostingStream() {
+        log.info("[RememberPostingStream] Start");
+        return crawlerService.streamListings()
+                .doOnError(ex -> log.error("[RememberPostingStream] Error streaming listings", ex));
+    }
+
+    // 마지막 /url 수집의 키워드 청크별 수집 건수/이동 횟수/소요 시간
+    @GetMapping("/url/coverage")
+    public List<ChunkCoverageDto> RememberCoverage() {
+        return crawlerService.getLastCoverage();
+    }
+
+    // 현재 추정치로 만든 다음 키워드 청크 계획 (예상 로드 수)
+    @GetMapping("/url/plan")
+    public KeywordPlanDto RememberKeywordPlan() {
+        return crawlerService.previewKeywordPlan();
+    }
+
+    // 마지막 수집의 키워드 청크 계획과 실제 로드 수
+    @GetMapping("/url/plan/last")
+    public KeywordPlanDto RememberLastKeywordPlan() {
+        return crawlerService.getLastKeywordPlan();
+    }
 }
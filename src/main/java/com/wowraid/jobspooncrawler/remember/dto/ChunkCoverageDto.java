@@ -0,0 +1,17 @@
+package com.wowraid.jobspooncrawler.remember.dto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 키워드 청크 1개의 수집 결과 요약 (수집 건수/스크롤·페이지 이동 횟수/소요 시간/종료 사유).
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChunkCoverageDto {
+    private final String url;
+    private final String mode;
+    private final int items;
+    private final int steps;
+    private final long elapsedMillis;
+    private final String stopReason;
+}
@@ -0,0 +1,20 @@
+package com.wowraid.jobspooncrawler.remember.dto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 키워드 청크 1개의 계획과 (실행 후) 실제 결과.
+ * - predictedItems 가 null 이면 통계가 없어 기본 크기로 묶은 청크.
+ * - actualItems / actualSteps 는 실행 전 미리보기에서는 null.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChunkPlanDto {
+    private final String level1;
+    private final List<String> keywords;
+    private final Long predictedItems;
+    private final Integer actualItems;
+    private final Integer actualSteps;
+}
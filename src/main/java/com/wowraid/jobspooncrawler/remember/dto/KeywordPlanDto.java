@@ -0,0 +1,20 @@
+package com.wowraid.jobspooncrawler.remember.dto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 키워드 청크 계획 요약.
+ * - predictedLoads: 계획한 청크 수 (청크마다 페이지 로드 1회)
+ * - actualLoads: 실제 로드 수 (청크별 첫 로드 + 스크롤/다음 페이지 이동), 실행 전에는 null
+ * - baselineLoads: 고정 크기(defaultChunkSize)로 나눴을 때의 청크 수
+ */
+@Getter
+@RequiredArgsConstructor
+public class KeywordPlanDto {
+    private final int predictedLoads;
+    private final Integer actualLoads;
+    private final int baselineLoads;
+    private final List<ChunkPlanDto> chunks;
+}
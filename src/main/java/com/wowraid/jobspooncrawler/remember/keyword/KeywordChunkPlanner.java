@@ -0,0 +1,189 @@
+package com.wowraid.jobspooncrawler.remember.keyword;
+
+import com.wowraid.jobspooncrawler.remember.config.RememberProperties;
+import com.wowraid.jobspooncrawler.remember.dto.ChunkCoverageDto;
+import com.wowraid.jobspooncrawler.remember.dto.ChunkPlanDto;
+import com.wowraid.jobspooncrawler.remember.dto.KeywordPlanDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 키워드 청크 계획.
+ * - 지난 실행에서 관측한 키워드별 결과 수 추정치(KeywordYieldStore)로 청크를 구성.
+ *   추정치가 큰 키워드부터 targetItemsPerChunk 를 넘지 않는 첫 청크에 넣고(first-fit decreasing),
+ *   혼자서 목표를 넘는 키워드는 자기 청크만 가짐. 결과가 없던 키워드는 남는 자리에 함께 묶임.
+ * - 통계가 없는 키워드는 기존처럼 defaultChunkSize 개씩 묶어 모든 키워드를 빠짐없이 조회.
+ * - 실행 후 청크 결과 수를 키워드에 나눠 추정치를 갱신. 상한에 걸린 청크는 실제보다 많다고 보고 키워서
+ *   다음 계획에서 나뉘도록 함.
+ */
+@Slf4j
+@Component
+public class KeywordChunkPlanner {
+
+    // 상한에 걸린 청크의 관측값 보정 배수
+    private static final double SATURATION_BOOST = 2.0;
+
+    /**
+     * @param predictedItems 예상 결과 수, 통계 없는 키워드 청크면 null
+     */
+    public record KeywordChunk(String level1, List<String> keywords, Double predictedItems) {
+    }
+
+    private record Candidate(String keyword, int order, double estimate) {
+    }
+
+    private static final class Bin {
+        final List<Candidate> members = new ArrayList<>();
+        double total;
+    }
+
+    private final KeywordYieldStore yieldStore;
+    private final RememberProperties.Chunking chunking;
+    private volatile KeywordPlanDto lastPlan;
+
+    public KeywordChunkPlanner(KeywordYieldStore yieldStore, RememberProperties rememberProperties) {
+        this.yieldStore = yieldStore;
+        this.chunking = rememberProperties.getChunking();
+    }
+
+    public List<KeywordChunk> plan(String level1, List<String> keywords) {
+        List<Candidate> known = new ArrayList<>();
+        List<String> unknown = new ArrayList<>();
+        for (int i = 0; i < keywords.size(); i++) {
+            String keyword = keywords.get(i);
+            if (keyword == null || keyword.isBlank()) continue;
+            Double estimate = yieldStore.get(level1, keyword);
+            if (estimate == null) unknown.add(keyword);
+            else known.add(new Candidate(keyword, i, estimate));
+        }
+
+        known.sort(Comparator.comparingDouble(Candidate::estimate).reversed());
+        List<Bin> bins = new ArrayList<>();
+        for (Candidate candidate : known) {
+            Bin target = null;
+            for (Bin bin : bins) {
+                if (bin.members.size() < chunking.getMaxKeywordsPerChunk()
+                        && bin.total + candidate.estimate() <= chunking.getTargetItemsPerChunk()) {
+                    target = bin;
+                    break;
+                }
+            }
+            if (target == null) {
+                target = new Bin();
+                bins.add(target);
+            }
+            target.members.add(candidate);
+            target.total += candidate.estimate();
+        }
+
+        List<KeywordChunk> chunks = new ArrayList<>();
+        for (Bin bin : bins) {
+            // 같은 계획이면 같은 쿼리가 되도록 원래 키워드 순서로 정렬
+            List<String> members = bin.members.stream()
+                    .sorted(Comparator.comparingInt(Candidate::order))
+                    .map(Candidate::keyword)
+                    .toList();
+            chunks.add(new KeywordChunk(level1, members, bin.total));
+        }
+        int size = chunking.getDefaultChunkSize();
+        for (int start = 0; start < unknown.size(); start += size) {
+            chunks.add(new KeywordChunk(level1,
+                    List.copyOf(unknown.subList(start, Math.min(start + size, unknown.size()))), null));
+        }
+        return chunks;
+    }
+
+    /**
+     * 실행 전 미리보기 (현재 추정치로 만든 계획).
+     *
+     * @param keywordsByLevel1 level1 → level2 키워드 목록
+     */
+    public KeywordPlanDto preview(Map<String, List<String>> keywordsByLevel1) {
+        List<KeywordChunk> chunks = new ArrayList<>();
+        keywordsByLevel1.forEach((level1, keywords) -> chunks.addAll(plan(level1, keywords)));
+        return toDto(chunks, null);
+    }
+
+    /**
+     * 실행 결과로 키워드별 추정치를 갱신하고 저장.
+     *
+     * @param coverage chunks 와 같은 순서의 청크별 결과
+     * @return 계획과 실제 결과를 합친 요약 (getLastPlan 으로도 조회 가능)
+     */
+    public KeywordPlanDto record(List<KeywordChunk> chunks, List<ChunkCoverageDto> coverage) {
+        for (int i = 0; i < chunks.size(); i++) {
+            ChunkCoverageDto result = coverage.get(i);
+            if ("FAILED".equals(result.getStopReason())) continue;
+            update(chunks.get(i), result);
+        }
+        yieldStore.save();
+        KeywordPlanDto plan = toDto(chunks, coverage);
+        lastPlan = plan;
+        log.info("[KeywordChunkPlanner] predictedLoads={}, actualLoads={}, baselineLoads={}",
+                plan.getPredictedLoads(), plan.getActualLoads(), plan.getBaselineLoads());
+        return plan;
+    }
+
+    /**
+     * @return 마지막 실행의 계획/실제 결과, 실행한 적 없으면 null
+     */
+    public KeywordPlanDto getLastPlan() {
+        return lastPlan;
+    }
+
+    private void update(KeywordChunk chunk, ChunkCoverageDto result) {
+        boolean saturated = "MAX_STEPS".equals(result.getStopReason())
+                || (chunking.getResultCap() > 0 && result.getItems() >= chunking.getResultCap());
+        double observed = saturated ? result.getItems() * SATURATION_BOOST : result.getItems();
+
+        // 청크 결과를 이전 추정치 비율로 키워드에 나눔 (추정치가 없으면 균등)
+        List<String> keywords = chunk.keywords();
+        double[] weights = new double[keywords.size()];
+        double totalWeight = 0;
+        boolean allKnown = true;
+        for (int i = 0; i < keywords.size(); i++) {
+            Double prior = yieldStore.get(chunk.level1(), keywords.get(i));
+            if (prior == null) allKnown = false;
+            weights[i] = prior == null ? 0 : prior;
+            totalWeight += weights[i];
+        }
+        double alpha = Math.min(1.0, chunking.getSmoothing());
+        for (int i = 0; i < keywords.size(); i++) {
+            double share = allKnown && totalWeight > 0
+                    ? observed * weights[i] / totalWeight
+                    : observed / keywords.size();
+            Double prior = yieldStore.get(chunk.level1(), keywords.get(i));
+            double next = prior == null ? share : alpha * share + (1 - alpha) * prior;
+            yieldStore.put(chunk.level1(), keywords.get(i), next);
+        }
+    }
+
+    private KeywordPlanDto toDto(List<KeywordChunk> chunks, List<ChunkCoverageDto> coverage) {
+        List<ChunkPlanDto> rows = new ArrayList<>(chunks.size());
+        Integer actualLoads = coverage == null ? null : 0;
+        for (int i = 0; i < chunks.size(); i++) {
+            KeywordChunk chunk = chunks.get(i);
+            ChunkCoverageDto result = coverage == null ? null : coverage.get(i);
+            Long predicted = chunk.predictedItems() == null ? null : Math.round(chunk.predictedItems());
+            rows.add(new ChunkPlanDto(chunk.level1(), chunk.keywords(), predicted,
+                    result == null ? null : result.getItems(), result == null ? null : result.getSteps()));
+            if (result != null) actualLoads += 1 + result.getSteps();
+        }
+        return new KeywordPlanDto(chunks.size(), actualLoads, baselineLoads(chunks), rows);
+    }
+
+    private int baselineLoads(List<KeywordChunk> chunks) {
+        Map<String, Integer> keywordsPerLevel1 = new LinkedHashMap<>();
+        for (KeywordChunk chunk : chunks) {
+            keywordsPerLevel1.merge(chunk.level1(), chunk.keywords().size(), Integer::sum);
+        }
+        int size = chunking.getDefaultChunkSize();
+        return keywordsPerLevel1.values().stream().mapToInt(n -> (n + size - 1) / size).sum();
+    }
+}
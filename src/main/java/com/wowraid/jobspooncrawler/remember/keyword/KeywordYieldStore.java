@@ -0,0 +1,72 @@
+package com.wowraid.jobspooncrawler.remember.keyword;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * 키워드별 예상 결과 수(지난 실행들의 지수 평활 평균) 저장소.
+ * - ${crawler.state-dir}/remember-keyword-yield.properties 에 "level1|level2=추정치" 형태로 보관.
+ * - 저장은 임시 파일에 쓴 뒤 교체하여 중간에 죽어도 파일이 깨지지 않게 함.
+ */
+@Slf4j
+@Component
+public class KeywordYieldStore {
+
+    private static final String FILE_NAME = "remember-keyword-yield.properties";
+
+    private final Path file;
+    private final Properties yields = new Properties();
+
+    public KeywordYieldStore(@Value("${crawler.state-dir:./crawler-state}") String stateDir) {
+        this.file = Path.of(stateDir).resolve(FILE_NAME);
+        load();
+    }
+
+    /**
+     * @return 추정치, 관측한 적 없으면 null
+     */
+    public synchronized Double get(String level1, String level2) {
+        String value = yields.getProperty(key(level1, level2));
+        return value != null ? Double.valueOf(value) : null;
+    }
+
+    public synchronized void put(String level1, String level2, double estimate) {
+        yields.setProperty(key(level1, level2), Double.toString(estimate));
+    }
+
+    public synchronized void save() {
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(FILE_NAME + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                yields.store(writer, "remember keyword yield estimates");
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("[KeywordYieldStore] 추정치 저장 실패 file={}", file, e);
+        }
+    }
+
+    private static String key(String level1, String level2) {
+        return level1 + "|" + level2.trim();
+    }
+
+    private void load() {
+        if (!Files.exists(file)) return;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            yields.load(reader);
+        } catch (IOException e) {
+            log.warn("[KeywordYieldStore] 추정치 파일 읽기 실패, 기본 청크 크기로 시작합니다. file={}", file, e);
+        }
+    }
+}
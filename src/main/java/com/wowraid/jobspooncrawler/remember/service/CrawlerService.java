@@ -1,81 +1,487 @@
 package com.wowraid.jobspooncrawler.remember.service;
 
-import com.wowraid.jobspooncrawler.remember.application.browser.SimpleDriverProvider;
+import com.wowraid.jobspooncrawler.dedup.DedupIndex;
+import com.wowraid.jobspooncrawler.remember.application.browser.BrowserPageMetrics;
+import com.wowraid.jobspooncrawler.remember.application.browser.ListHarvester;
+import com.wowraid.jobspooncrawler.remember.application.browser.NetworkResponseCapture;
+import com.wowraid.jobspooncrawler.remember.application.browser.PageReadinessWaiter;
+import com.wowraid.jobspooncrawler.remember.application.browser.WebDriverPool;
+import com.wowraid.jobspooncrawler.remember.config.ChromeProperties;
 import com.wowraid.jobspooncrawler.remember.config.RememberProperties;
+import com.wowraid.jobspooncrawler.remember.dto.ChunkCoverageDto;
 import com.wowraid.jobspooncrawler.remember.dto.JobListingDto;
+import com.wowraid.jobspooncrawler.remember.dto.KeywordPlanDto;
+import com.wowraid.jobspooncrawler.remember.keyword.KeywordChunkPlanner;
+import com.wowraid.jobspooncrawler.trace.CrawlTracer;
 import com.wowraid.jobspooncrawler.remember.keyword.RememberKeywordService;
-import lombok.RequiredArgsConstructor;
-
+import com.wowraid.jobspooncrawler.utility.CircuitBreaker;
+import com.wowraid.jobspooncrawler.utility.CircuitOpenException;
+import com.wowraid.jobspooncrawler.utility.HostCircuitBreakers;
+import com.wowraid.jobspooncrawler.utility.RetryExhaustedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CrawlerService {
-    private static final int CHUNK_SIZE=5;
+    // 처리할 카테고리 목록 정의.
+    private static final List<String> CATEGORIES = List.of("SW개발", "AI·데이터");
+    // 중복 제거 키를 구분하는 소스 이름
+    public static final String DEDUP_SOURCE = "remember-list";
+    // 수집에 실패한 청크의 커버리지 stopReason
+    private static final String FAILED = "FAILED";
     private final RememberKeywordService keywordService;
-    private final SimpleDriverProvider simpleDriverProvider;
+    private final WebDriverPool driverPool;
     private final RememberProperties rememberProperties;
     private final ListParseService listParseService;
-    private WebDriver driver; //WebDriver 재사용을 위한 변수처리
+    // 호스트가 죽었을 때 청크마다 페이지 로딩/대기를 반복하지 않도록 차단
+    private final HostCircuitBreakers circuitBreakers;
+    // 키워드 청크를 WebDriver 풀 크기만큼 동시에 수집 (Selenium 블로킹 작업 전용, 이벤트 루프와 분리)
+    private final Scheduler chunkScheduler;
+    private final int chunkConcurrency;
+    // 페이지 로딩 시간/렌더러 메모리 (브라우저 프로파일 비교용)
+    private final BrowserPageMetrics pageMetrics;
+    // 고정 sleep 대신 목록이 그려지고 DOM 이 멈출 때까지만 대기
+    private final PageReadinessWaiter readinessWaiter;
+    // NETWORK 모드: 캡처한 목록 JSON 을 DTO 로 변환 / API 모드: 브라우저 없이 목록 API 호출
+    private final ListingJsonMapper listingJsonMapper;
+    private final ListingApiClient listingApiClient;
+    // 스크롤/페이지 이동하며 새 항목만 읽는 수집 루프
+    private final ListHarvester listHarvester;
+    private final MeterRegistry meterRegistry;
+    // 지난 실행의 키워드별 결과 수로 청크를 묶고/나눔 (고정 CHUNK_SIZE 대체)
+    private final KeywordChunkPlanner chunkPlanner;
+    // 여러 청크(level2)에 걸쳐 나오는 같은 공고는 한 번만 반환
+    private final DedupIndex dedupIndex;
+    // 중복 제거 후 내보낸 공고 수
+    private final Counter emittedCounter;
+    // 실행/청크/페이지 단계별 스팬 (느려진 단계 확인용)
+    private final CrawlTracer tracer;
+    // 마지막 수집의 청크별 커버리지 (청크 순서)
+    private volatile List<ChunkCoverageDto> lastCoverage = List.of();
+
+    public CrawlerService(RememberKeywordService keywordService, WebDriverPool driverPool,
+                          RememberProperties rememberProperties, ListParseService listParseService,
+                          HostCircuitBreakers circuitBreakers, ChromeProperties chromeProperties,
+                          BrowserPageMetrics pageMetrics, PageReadinessWaiter readinessWaiter,
+                          ListingJsonMapper listingJsonMapper, ListingApiClient listingApiClient,
+                          ListHarvester listHarvester, MeterRegistry meterRegistry,
+                          KeywordChunkPlanner chunkPlanner, DedupIndex dedupIndex, CrawlTracer tracer) {
+        this.chunkPlanner = chunkPlanner;
+        this.tracer = tracer;
+        this.dedupIndex = dedupIndex;
+        this.listHarvester = listHarvester;
+        this.meterRegistry = meterRegistry;
+        this.pageMetrics = pageMetrics;
+        this.readinessWaiter = readinessWaiter;
+        this.listingJsonMapper = listingJsonMapper;
+        this.listingApiClient = listingApiClient;
+        this.keywordService = keywordService;
+        this.driverPool = driverPool;
+        this.rememberProperties = rememberProperties;
+        this.listParseService = listParseService;
+        this.circuitBreakers = circuitBreakers;
+        this.chunkConcurrency = chromeProperties.getPoolSize();
+        this.chunkScheduler = Schedulers.newBoundedElastic(chunkConcurrency, Integer.MAX_VALUE, "remember-chunk");
+        this.emittedCounter = Counter.builder("crawler.items.emitted")
+                .description("중복 제거 후 내보낸 공고 수")
+                .tag("source", DEDUP_SOURCE)
+                .register(meterRegistry);
+    }
 
     /**
      * URL에서 페이지 소스를 가져와 <li> 요소들만 반환하는 통합 메서드.
+     * - 청크별 페이지 수집은 WebDriver 풀의 세션들에서 병렬로 진행하고, 결과는 청크 순서대로 합침.
+     * - 한 청크가 실패해도 나머지 청크 결과는 반환.
+     * - crawler.remember.mode 에 따라 DOM 파싱 / XHR 응답 캡처 / API 직접 호출 중 하나로 수집.
+     * - 여러 청크에서 나온 같은 공고(상세 URL 기준)는 처음 것만 남김.
+     * - 블로킹 호출이므로 이벤트 루프 스레드에서는 collectListings / streamListings 를 사용.
+     * - 기다리는 중 인터럽트되면 남은 청크는 취소하고, 이미 세션에서 돌고 있는 청크가 끝난 뒤에 CancellationException.
+     *   (예약 수집의 maxRuntime 초과 시 다음 실행이 아직 정리 중인 브라우저 작업과 겹치지 않도록)
      */
     public List<JobListingDto> fetchLiElements() {
-        WebDriver webdriver = simpleDriverProvider.getDriver();
-        List<JobListingDto> allResults = new ArrayList<>();// 전체 결과를 저장할 리스트 초기화.
-        List<String> categories = List.of("SW개발", "AI·데이터");// 처리할 카테고리 목록 정의.
-
-        for (String level1 : categories) {// 각 카테고리에 대해 반복.
-            List<String> level2keywords = keywordService.getLevel2keywords(level1);// level1에 해당하는 level2 키워드 목록 조회.
-            // 키워드를 CHUNK_SIZE 단위로 슬라이스하여 처리.
-            for (int start = 0; start < level2keywords.size(); start+=CHUNK_SIZE) {
-                int end = Math.min(start + CHUNK_SIZE, level2keywords.size());
-                List<String> chunk = level2keywords.subList(start, end);
-                // 청크 키워드로 검색 쿼리 생성 및 URL 인코딩.
-                String encodedQuery = keywordService.toQueryString(level1, chunk);
-                // baseUrl과 인코딩된 쿼리를 결합하여 최종 URL 생성.
-                String url = rememberProperties.getBaseUrl() + "?search=" + encodedQuery;
-                log.info("Fetching url: " + url);
-                // 해당 URL로부터 페이지 소스 획득.
-                String html = fetchPageSource(webdriver,url);
-                // HTML에서 <li> 요소를 파싱하여 DTO 리스트로 변환.
-                List<JobListingDto> parsed = listParseService.parse(html);
-                // 파싱 결과를 전체 결과에 추가.
-                allResults.addAll(parsed);
+        ChunkWork work = new ChunkWork();
+        CompletableFuture<List<JobListingDto>> result = listings(true, work).collectList().toFuture();
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            work.cancel();
+            result.cancel(true);
+            work.awaitRunning();
+            Thread.currentThread().interrupt();
+            CancellationException cancelled = new CancellationException("Remember 목록 수집 중단");
+            cancelled.initCause(e);
+            throw cancelled;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * fetchLiElements 의 논블로킹 버전 (청크 순서 유지, 전체 결과를 한 번에 반환).
+     */
+    public Mono<List<JobListingDto>> collectListings() {
+        return listings(true, new ChunkWork()).collectList();
+    }
+
+    /**
+     * fetchLiElements 의 스트리밍 버전. 청크가 파싱되는 대로(완료 순서) 공고를 흘려보냄.
+     * - Selenium 작업은 WebDriver 풀 크기로 제한된 remember-chunk 스케줄러에서 실행.
+     * - 동시에 풀 크기만큼의 청크만 수집하고, 내보낸 청크 결과는 붙잡아 두지 않으므로
+     *   청크 수가 많아도 메모리 사용량이 늘지 않음.
+     * - 구독할 때마다 새로 수집하고, 완료되면 커버리지/키워드 추정치를 갱신.
+     */
+    public Flux<JobListingDto> streamListings() {
+        return listings(false, new ChunkWork());
+    }
+
+    private Flux<JobListingDto> listings(boolean chunkOrder, ChunkWork work) {
+        // 구독마다 실행 스팬 하나 (완료/오류/취소 시 종료)
+        return Flux.using(() -> tracer.startRun(DEDUP_SOURCE), (Observation run) -> {
+            List<KeywordChunkPlanner.KeywordChunk> chunks = tracer.stage(run, "plan", this::planChunks);
+
+            RememberProperties.FetchMode mode = effectiveMode();
+            // 청크별 커버리지 (청크 순서, 공고 목록은 담지 않음)
+            ChunkCoverageDto[] coverage = new ChunkCoverageDto[chunks.size()];
+            DedupIndex.Run dedup = dedupIndex.newRun();
+            Function<Integer, Flux<JobListingDto>> fetch = i -> Mono.fromCallable(() -> work.run(
+                            () -> fetchChunk(run, chunks.get(i), mode)))
+                    .subscribeOn(chunkScheduler)
+                    .doOnNext(result -> coverage[i] = result.coverage())
+                    .flatMapIterable(ChunkResult::items);
+
+            Flux<Integer> indexes = Flux.range(0, chunks.size());
+            Flux<JobListingDto> items = chunkOrder
+                    ? indexes.flatMapSequential(fetch, chunkConcurrency)
+                    : indexes.flatMap(fetch, chunkConcurrency);
+            return items
+                    // 상세 URL 이 없는 항목은 구분할 수 없으므로 그대로 둠
+                    .filter(item -> item.getDetailurl() == null || item.getDetailurl().isBlank()
+                            || dedup.markIfNew(DEDUP_SOURCE, item.getDetailurl()))
+                    .doOnNext(item -> emittedCounter.increment())
+                    .doOnError(run::error)
+                    .doOnComplete(() -> {
+                        // 끝까지 내보낸 실행만 공유 인덱스에 반영 (취소된 스트림/오류 응답의 공고는 다음 실행에서 다시 나옴)
+                        dedup.complete();
+                        recordChunkCoverage(chunks, Arrays.asList(coverage));
+                    });
+        }, Observation::stop);
+    }
+
+    /**
+     * 한 번의 수집에서 세션을 쓰고 있는 청크 작업 추적.
+     * 취소 후에는 새 청크를 시작하지 않고, 이미 시작한 청크가 끝날 때까지 기다릴 수 있음.
+     */
+    private static final class ChunkWork {
+        // 등록된 파티: 기다리는 쪽 1 + 실행 중인 청크 수
+        private final Phaser running = new Phaser(1);
+        private volatile boolean cancelled;
+
+        ChunkResult run(Supplier<ChunkResult> chunk) {
+            running.register();
+            try {
+                // 취소 뒤에 스케줄러가 꺼낸 청크는 세션을 빌리지 않음
+                return cancelled ? new ChunkResult(List.of(), null) : chunk.get();
+            } finally {
+                running.arriveAndDeregister();
             }
         }
-        // 누적된 전체 결과 반환.
-        return allResults;
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        void awaitRunning() {
+            running.arriveAndAwaitAdvance();
+        }
     }
+
+    /**
+     * 카테고리별 level2 키워드를 예상 결과 수 기준으로 묶은 청크 목록.
+     */
+    public List<KeywordChunkPlanner.KeywordChunk> planChunks() {
+        List<KeywordChunkPlanner.KeywordChunk> chunks = new ArrayList<>();
+        keywordsByCategory().forEach((level1, keywords) -> chunks.addAll(chunkPlanner.plan(level1, keywords)));
+        return chunks;
+    }
+
+    /**
+     * 청크 하나 수집 (작업 큐 워커용). 호출한 스레드에서 바로 수집하며, 실패하면 IllegalStateException.
+     * 중복 제거와 커버리지 기록은 호출 측이 작업 단위로 처리 (recordChunkCoverage).
+     */
+    public ChunkResult fetchChunkListings(String level1, List<String> keywords) {
+        return tracer.run("remember-chunk", () -> {
+            String query = tracer.stage("keyword.query", () -> keywordService.toQueryString(level1, keywords));
+            ChunkResult result = fetchChunk(query, effectiveMode());
+            if (FAILED.equals(result.coverage().getStopReason())) {
+                throw new IllegalStateException("청크 수집 실패 url=" + result.coverage().getUrl());
+            }
+            return result;
+        });
+    }
+
+    /**
+     * 한 번의 수집 결과로 키워드별 추정치를 갱신 (다음 실행 계획에 반영).
+     *
+     * @param coverage chunks 와 같은 순서의 청크별 결과
+     */
+    public void recordChunkCoverage(List<KeywordChunkPlanner.KeywordChunk> chunks, List<ChunkCoverageDto> coverage) {
+        chunkPlanner.record(chunks, coverage);
+        lastCoverage = List.copyOf(coverage);
+    }
+
+    /**
+     * 현재 추정치로 만든 다음 실행 계획 (예상 로드 수 포함).
+     */
+    public KeywordPlanDto previewKeywordPlan() {
+        return chunkPlanner.preview(keywordsByCategory());
+    }
+
+    /**
+     * 마지막 실행의 계획과 실제 로드 수, 실행한 적 없으면 null.
+     */
+    public KeywordPlanDto getLastKeywordPlan() {
+        return chunkPlanner.getLastPlan();
+    }
+
+    private Map<String, List<String>> keywordsByCategory() {
+        Map<String, List<String>> keywords = new LinkedHashMap<>();
+        for (String level1 : CATEGORIES) {// 각 카테고리에 대해 level1에 해당하는 level2 키워드 목록 조회.
+            keywords.put(level1, keywordService.getLevel2keywords(level1));
+        }
+        return keywords;
+    }
+
+    /**
+     * 마지막 fetchLiElements 의 청크별 수집 건수/이동 횟수/소요 시간.
+     */
+    public List<ChunkCoverageDto> getLastCoverage() {
+        return lastCoverage;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        chunkScheduler.dispose();
+    }
+
+    private RememberProperties.FetchMode effectiveMode() {
+        RememberProperties.FetchMode mode = rememberProperties.getMode();
+        if (mode == RememberProperties.FetchMode.API && !listingApiClient.isConfigured()) {
+            log.warn("[fetchLiElements] API 모드지만 request-url-template 이 없어 NETWORK 모드로 수집");
+            return RememberProperties.FetchMode.NETWORK;
+        }
+        return mode;
+    }
+
+    /**
+     * 청크 하나의 공고와 커버리지.
+     */
+    public record ChunkResult(List<JobListingDto> items, ChunkCoverageDto coverage) {
+    }
+
+    // 청크 스케줄러 스레드에서 실행되므로 실행 스팬을 부모로 직접 넘겨받음
+    private ChunkResult fetchChunk(Observation run, KeywordChunkPlanner.KeywordChunk chunk,
+                                   RememberProperties.FetchMode mode) {
+        return tracer.stage(run, "chunk", () -> {
+            // 청크 키워드로 검색 쿼리 생성 및 URL 인코딩.
+            String query = tracer.stage("keyword.query",
+                    () -> keywordService.toQueryString(chunk.level1(), chunk.keywords()));
+            return fetchChunk(query, mode);
+        });
+    }
+
+    private ChunkResult fetchChunk(String encodedQuery, RememberProperties.FetchMode mode) {
+        // baseUrl과 인코딩된 쿼리를 결합하여 최종 URL 생성.
+        String url = rememberProperties.getBaseUrl() + "?search=" + encodedQuery;
+        log.info("Fetching url: " + url);
+        long start = System.nanoTime();
+        ListHarvester.Result result;
+        try {
+            result = switch (mode) {
+                case API -> ListHarvester.Result.single(
+                        tracer.stage("api.fetch", () -> listingApiClient.fetch(encodedQuery)));
+                // 풀에서 세션을 빌려 수집 (오류 난 세션은 풀이 폐기). browser 단계의 self 시간은 대부분 세션 대기.
+                case NETWORK -> tracer.stage("browser", () -> driverPool.execute(driver -> fetchCaptured(driver, url)));
+                case DOM -> tracer.stage("browser", () -> driverPool.execute(driver -> harvestPage(driver, url)));
+            };
+        } catch (RetryExhaustedException | CircuitOpenException | IllegalStateException e) {
+            log.error("[fetchLiElements] chunk 수집 실패 url={}: {}", url, e.getMessage());
+            result = null;
+        } catch (RuntimeException e) {
+            log.error("[fetchLiElements] chunk 수집 실패 url={}", url, e);
+            result = null;
+        }
+        return new ChunkResult(result == null ? List.of() : result.items(),
+                recordCoverage(url, mode, result, System.nanoTime() - start));
+    }
+
+    private ChunkCoverageDto recordCoverage(String url, RememberProperties.FetchMode mode,
+                                            ListHarvester.Result result, long elapsedNanos) {
+        String modeTag = mode.name().toLowerCase();
+        String stop = result == null ? FAILED : result.stopReason().name();
+        int items = result == null ? 0 : result.items().size();
+        int steps = result == null ? 0 : result.steps();
+        Timer.builder("crawler.remember.chunk.duration")
+                .description("키워드 청크 1개 수집 시간")
+                .tags("mode", modeTag, "stop", stop)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("crawler.remember.chunk.items")
+                .description("키워드 청크 1개에서 수집한 공고 수")
+                .tag("mode", modeTag)
+                .register(meterRegistry)
+                .record(items);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        log.info("[fetchLiElements] chunk coverage items={}, steps={}, stop={}, elapsedMs={}, url={}",
+                items, steps, stop, elapsedMillis, url);
+        return new ChunkCoverageDto(url, modeTag, items, steps, elapsedMillis, stop);
+    }
+
+    /**
+     * 페이지를 열고 스크롤/다음 페이지로 목록을 끝까지 수집 (새로 나타난 항목만 읽음).
+     * - listSelector 를 브라우저에서 쓸 수 없으면 페이지 소스 파싱으로 대체.
+     */
+    ListHarvester.Result harvestPage(WebDriver driver, String url) {
+        loadPage(driver, url);
+        return harvestLoaded(driver);
+    }
+
+    /**
+     * 이미 연 페이지가 준비되길 기다린 뒤 목록을 수집 (JavascriptException 이면 페이지 소스 파싱으로 대체).
+     */
+    private ListHarvester.Result harvestLoaded(WebDriver driver) {
+        tracer.stage("page.ready", () -> readinessWaiter.await(driver));
+        try {
+            return tracer.stage("harvest", () -> listHarvester.harvest(driver));
+        } catch (JavascriptException e) {
+            log.warn("[harvestLoaded] 브라우저에서 목록 셀렉터 실행 실패, 페이지 소스 파싱으로 대체: {}", e.getMessage());
+            String pageSource = tracer.stage("page.source", () -> pageMetrics.pageSource(driver));
+            return ListHarvester.Result.single(tracer.stage("parse", () -> listParseService.parse(pageSource)));
+        }
+    }
+
+    /**
+     * 페이지를 열면서 목록 XHR JSON 응답을 캡처해 바로 DTO 로 변환.
+     * - 이후 스크롤/다음 페이지로 추가 목록 요청을 일으키고, 새 응답이 없을 때까지 반복.
+     * - 캡처가 불가능하거나(DevTools 미지원) 매칭 응답이 없으면 DOM 수집으로 대체.
+     */
+    ListHarvester.Result fetchCaptured(WebDriver driver, String url) {
+        String pattern = rememberProperties.getApi().getResponseUrlPattern();
+        NetworkResponseCapture capture =
+                NetworkResponseCapture.start(driver, responseUrl -> responseUrl.contains(pattern));
+        if (capture == null) {
+            return harvestPage(driver, url);
+        }
+        try (capture) {
+            loadPage(driver, url);
+            List<JobListingDto> results = new ArrayList<>();
+            if (tracer.stage("capture", () -> capture.awaitResponses(driver,
+                    rememberProperties.getReadyTimeout(), rememberProperties.getReadyPollInterval()))) {
+                results.addAll(tracer.stage("parse", () -> mapBodies(capture)));
+            }
+            if (results.isEmpty()) {
+                log.info("[fetchCaptured] 목록 응답을 캡처하지 못해 DOM 수집으로 대체 url={}", url);
+                return harvestLoaded(driver);
+            }
+
+            RememberProperties.Harvest harvest = rememberProperties.getHarvest();
+            if (!harvest.isEnabled()) return ListHarvester.Result.single(results);
+            for (int step = 1; step <= harvest.getMaxSteps(); step++) {
+                if (!listHarvester.advance(driver)) {
+                    return new ListHarvester.Result(results, step, ListHarvester.StopReason.END_OF_LIST);
+                }
+                List<JobListingDto> fresh = capture.awaitResponses(driver,
+                        harvest.getStepTimeout(), rememberProperties.getReadyPollInterval())
+                        ? mapBodies(capture) : List.of();
+                if (fresh.isEmpty()) {
+                    return new ListHarvester.Result(results, step, ListHarvester.StopReason.NO_NEW_ITEMS);
+                }
+                results.addAll(fresh);
+            }
+            return new ListHarvester.Result(results, harvest.getMaxSteps(), ListHarvester.StopReason.MAX_STEPS);
+        }
+    }
+
+    private List<JobListingDto> mapBodies(NetworkResponseCapture capture) {
+        List<JobListingDto> items = new ArrayList<>();
+        for (String body : capture.drainBodies()) {
+            items.addAll(listingJsonMapper.map(body));
+        }
+        return items;
+    }
+
     public String fetchPageSource(WebDriver driver, String url) {
+        loadPage(driver, url);
+        // 목록 항목이 있고 DOM 이 잠잠해질 때까지 대기 (최대 waitMillis, 초과 시 현재 DOM 으로 진행)
+        tracer.stage("page.ready", () -> readinessWaiter.await(driver));
+        String pageSource = tracer.stage("page.source", () -> pageMetrics.pageSource(driver));
+        String pageTitle  = driver.getTitle();
+        log.info("[fetchPageSource] Page fetched. title=\"{}\", sourceLength={}",
+                pageTitle, pageSource.length());
+        return pageSource;
+    }
+
+    /**
+     * 서킷 브레이커 확인 후 페이지 이동, 로딩 시간/렌더러 메모리 기록.
+     *
+     * @throws CircuitOpenException 호스트가 차단 중이면 (청크는 빈 결과가 아닌 실패로 기록)
+     */
+    private void loadPage(WebDriver driver, String url) {
+        CircuitBreaker breaker = circuitBreakers.forUrl(url);
+        if (!breaker.tryAcquirePermission()) {
+            log.warn("[fetchPageSource] Circuit open, skip url={}", url);
+            throw new CircuitOpenException(breaker.getHost());
+        }
+        log.info("[fetchPageSource] Start ,url={}", url);
+        // 세션 교체 주기는 실제로 페이지를 연 횟수로 셈 (차단으로 건너뛴 대여는 제외)
+        driverPool.recordPageLoad(driver);
+        long loadStart = System.nanoTime();
         try {
-            log.info("[fetchPageSource] Start ,url={}", url);
-            driver.get(url);
-            log.info("[fetchPageSource] Page loaded: {}", driver.getCurrentUrl());
-            Thread.sleep(rememberProperties.getWaitMillis()); // WebDriverWait로 개선 예정
-            String pageSource = driver.getPageSource();
-            String pageTitle  = driver.getTitle();
-            log.info("[fetchPageSource] Page fetched. title=\"{}\", sourceLength={}",
-                    pageTitle, pageSource.length());
-            return pageSource;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("[fetchPageSource] Interrupted while sleeping", e);
-            return "";
+            tracer.stage("page.load", () -> {
+                driver.get(url);
+                return null;
+            });
+        } catch (WebDriverException e) {
+            // 페이지 로딩 실패/타임아웃은 호스트 장애로 기록
+            breaker.onFailure();
+            throw e;
         }
+        breaker.onSuccess();
+        pageMetrics.record(driver, System.nanoTime() - loadStart);
+        log.info("[fetchPageSource] Page loaded: {}", driver.getCurrentUrl());
     }
 
     //Selenium Manager로 Chrome을 실행만 합니다.
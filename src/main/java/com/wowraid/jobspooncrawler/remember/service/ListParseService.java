@@ -2,40 +2,78 @@ package com.wowraid.jobspooncrawler.remember.service;
 
 import com.wowraid.jobspooncrawler.remember.config.RememberProperties;
 import com.wowraid.jobspooncrawler.remember.dto.JobListingDto;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 목록 페이지 HTML 에서 공고 제목/링크 추출.
+ * - 셀렉터는 한 번 컴파일해 두고 설정이 바뀔 때만 다시 파싱.
+ * - 페이지 1장 파싱 시간은 crawler.remember.list.parse 로 기록.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ListParseService {
 
     private final RememberProperties rememberProperties;
+    private final Timer parseTimer;
+    // 마지막으로 컴파일한 셀렉터 (설정이 바뀌지 않으면 재사용)
+    private volatile CompiledSelector compiled;
+
+    public ListParseService(RememberProperties rememberProperties, MeterRegistry meterRegistry) {
+        this.rememberProperties = rememberProperties;
+        this.parseTimer = Timer.builder("crawler.remember.list.parse")
+                .description("목록 페이지 1장 HTML 파싱/추출 시간")
+                .register(meterRegistry);
+    }
+
+    private record CompiledSelector(String query, Evaluator evaluator) {
+    }
+
     /**
-     * HTML 문자열에서 모든 <li> 요소의 텍스트를 추출하는 메서드.
+     * HTML 문자열에서 listSelector 에 매칭되는 모든 요소의 텍스트/href 를 추출하는 메서드.
      */
     public List<JobListingDto> parse(String html) {
-        // Jsoup 파서로 HTML 문서 객체 생성.
-        Document doc = Jsoup.parse(html);
-        // 모든 <li> 요소 선택.
-        Elements items = doc.select(rememberProperties.getListSelector());
-        // 요소별 텍스트를 저장할 리스트 생성.
-        List<JobListingDto> results = new ArrayList<>();
-        // 각 <li> 요소의 텍스트 추출 및 리스트에 추가.
-        for (Element li : items) {
-            String title=li.text();
-            String href=li.attr("href");
-            log.info("title= "+title+" href= "+href);
-            results.add(new JobListingDto(title,href));
+        Evaluator evaluator = selector(rememberProperties.getListSelector());
+        return parseTimer.record(() -> {
+            // Jsoup 파서로 HTML 문서 객체 생성.
+            Document doc = Jsoup.parse(html);
+            // 셀렉터에 매칭되는 요소 선택.
+            Elements items = doc.select(evaluator);
+            // 요소별 텍스트를 저장할 리스트 생성.
+            List<JobListingDto> results = new ArrayList<>(items.size());
+            for (Element item : items) {
+                results.add(toDto(item));
+            }
+            return results;
+        });
+    }
+
+    private static JobListingDto toDto(Element item) {
+        String title = item.text();
+        String href = item.attr("href");
+        if (log.isDebugEnabled()) {
+            log.debug("title={} href={}", title, href);
+        }
+        return new JobListingDto(title, href);
+    }
+
+    private Evaluator selector(String query) {
+        CompiledSelector current = compiled;
+        if (current == null || !current.query().equals(query)) {
+            current = new CompiledSelector(query, QueryParser.parse(query));
+            compiled = current;
         }
-        return results;
+        return current.evaluator();
     }
 }
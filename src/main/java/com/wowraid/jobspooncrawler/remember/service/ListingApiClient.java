@@ -0,0 +1,64 @@
+package com.wowraid.jobspooncrawler.remember.service;
+
+import com.wowraid.jobspooncrawler.http.CachingHttpFetcher;
+import com.wowraid.jobspooncrawler.remember.config.RememberProperties;
+import com.wowraid.jobspooncrawler.remember.dto.JobListingDto;
+import com.wowraid.jobspooncrawler.timer.HostRateLimiters;
+import com.wowraid.jobspooncrawler.utility.HostCircuitBreakers;
+import com.wowraid.jobspooncrawler.utility.RetryEngine;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * 브라우저 없이 Remember 목록 API 를 직접 호출 (crawler.remember.mode=api).
+ * - 요청 URL 은 crawler.remember.api.request-url-template 의 {query} 에 인코딩된 검색 쿼리를 넣어 만듦.
+ * - 호스트별 속도 제한/서킷 브레이커/재시도는 Jumpit 수집과 같은 RetryEngine 경로를 사용.
+ * - 응답은 ListingJsonMapper 로 바로 DTO 변환 (HTML 렌더링/직렬화/재파싱 없음).
+ */
+@Service
+public class ListingApiClient {
+
+    private final CachingHttpFetcher httpFetcher;
+    private final ListingJsonMapper jsonMapper;
+    private final RememberProperties.Api api;
+    private final HostRateLimiters hostRateLimiters;
+    private final HostCircuitBreakers circuitBreakers;
+    private final RetryEngine retryEngine;
+    private final HttpHeaders requestHeaders = new HttpHeaders();
+
+    public ListingApiClient(CachingHttpFetcher httpFetcher, ListingJsonMapper jsonMapper,
+                            RememberProperties rememberProperties, HostRateLimiters hostRateLimiters,
+                            HostCircuitBreakers circuitBreakers, RetryEngine retryEngine) {
+        this.httpFetcher = httpFetcher;
+        this.jsonMapper = jsonMapper;
+        this.api = rememberProperties.getApi();
+        this.hostRateLimiters = hostRateLimiters;
+        this.circuitBreakers = circuitBreakers;
+        this.retryEngine = retryEngine;
+        this.requestHeaders.setAccept(List.of(MediaType.APPLICATION_JSON));
+    }
+
+    public boolean isConfigured() {
+        return StringUtils.hasText(api.getRequestUrlTemplate());
+    }
+
+    /**
+     * @param encodedQuery URL 인코딩된 검색 쿼리 (목록 페이지의 search 파라미터와 같은 값)
+     * @throws com.wowraid.jobspooncrawler.utility.RetryExhaustedException 재시도 후에도 실패한 경우
+     */
+    public List<JobListingDto> fetch(String encodedQuery) {
+        if (!isConfigured()) {
+            throw new IllegalStateException("crawler.remember.api.request-url-template 이 설정되지 않음");
+        }
+        String url = api.getRequestUrlTemplate().replace("{query}", encodedQuery);
+        return retryEngine.execute(
+                // 검색 결과 목록도 수시로 바뀌므로 ttl 캐시 없이 재검증만
+                () -> httpFetcher.fetchRevalidated(url, requestHeaders, (body, charset) -> jsonMapper.map(body)),
+                hostRateLimiters.forUrl(url, api.getRequestsPerSecond()),
+                circuitBreakers.forUrl(url));
+    }
+}
@@ -0,0 +1,58 @@
+package com.wowraid.jobspooncrawler.remember.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wowraid.jobspooncrawler.remember.config.RememberProperties;
+import com.wowraid.jobspooncrawler.remember.dto.JobListingDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 목록 API JSON 을 JobListingDto 로 변환.
+ * - 배열/필드 위치는 crawler.remember.api.* 의 JSON Pointer 로 설정 (API 응답 형식이 바뀌면 설정만 수정).
+ * - 제목이 없는 항목은 건너뜀. 형식이 맞지 않는 응답은 빈 목록.
+ */
+@Slf4j
+@Component
+public class ListingJsonMapper {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final RememberProperties.Api api;
+
+    public ListingJsonMapper(RememberProperties rememberProperties) {
+        this.api = rememberProperties.getApi();
+    }
+
+    public List<JobListingDto> map(String json) {
+        try {
+            return map(mapper.readTree(json));
+        } catch (IOException e) {
+            log.warn("[ListingJsonMapper] JSON 파싱 실패: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    public List<JobListingDto> map(InputStream json) throws IOException {
+        return map(mapper.readTree(json));
+    }
+
+    private List<JobListingDto> map(JsonNode root) {
+        JsonNode items = root == null ? null : root.at(api.getItemsPointer());
+        if (items == null || !items.isArray()) return List.of();
+
+        List<JobListingDto> results = new ArrayList<>(items.size());
+        for (JsonNode item : items) {
+            String title = item.at(api.getTitlePointer()).asText("");
+            if (title.isBlank()) continue;
+            String id = item.at(api.getIdPointer()).asText("");
+            String detailUrl = id.isEmpty() ? "" : api.getDetailUrlTemplate().replace("{id}", id);
+            results.add(new JobListingDto(title, detailUrl));
+        }
+        return results;
+    }
+}
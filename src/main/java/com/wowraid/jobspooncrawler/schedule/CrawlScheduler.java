@@ -0,0 +1,237 @@
+package com.wowraid.jobspooncrawler.schedule;
+
+import com.wowraid.jobspooncrawler.schedule.config.CrawlScheduleProperties;
+import com.wowraid.jobspooncrawler.schedule.dto.CrawlRunDto;
+import com.wowraid.jobspooncrawler.schedule.dto.CrawlSourceStatusDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 소스별 반복 수집 예약.
+ * - 소스마다 cron 또는 interval + jitter 로 실행 (비싼 Remember 브라우저 수집은 드물게, Jumpit JSON 은 자주).
+ * - 같은 소스는 겹쳐 실행하지 않음. 이전 실행이 아직 진행 중이면 이번 실행은 SKIPPED 로 기록.
+ * - 수동 실행은 예약 스레드가 아닌 별도 스레드에서 기다리므로, 긴 수동 실행이 예약 실행을 밀어내지 않음.
+ * - maxRuntime 을 넘기면 실행 스레드를 인터럽트하고 TIMEOUT 으로 기록.
+ *   인터럽트에 반응하지 않는 작업이면 실제로 끝날 때까지 다음 실행은 계속 건너뜀.
+ * - 최근 실행 기록(시간, 건수, 결과)은 소스별로 historySize 개까지 보관하고
+ *   crawler.schedule.run{source,outcome} / crawler.schedule.items{source} 로도 기록.
+ */
+@Slf4j
+@Service
+public class CrawlScheduler {
+
+    private final CrawlScheduleProperties properties;
+    private final Map<String, ScheduledCrawl> crawls = new LinkedHashMap<>();
+    private final MeterRegistry meterRegistry;
+    // 예약 시각 관리 + 실행 시간 감시 (실제 수집은 runExecutor 에서)
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+    private final ExecutorService runExecutor = Executors.newCachedThreadPool(new CustomizableThreadFactory("crawl-run-"));
+    // 수동 실행의 완료/시간 초과 대기 (taskScheduler 스레드는 예약 실행 전용)
+    private final ExecutorService manualExecutor = Executors.newCachedThreadPool(new CustomizableThreadFactory("crawl-manual-"));
+    private final Map<String, AtomicBoolean> running = new ConcurrentHashMap<>();
+    private final Map<String, ScheduledFuture<?>> scheduled = new ConcurrentHashMap<>();
+    private final Map<String, Deque<CrawlRunDto>> history = new ConcurrentHashMap<>();
+
+    public CrawlScheduler(CrawlScheduleProperties properties, List<ScheduledCrawl> crawls, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        crawls.forEach(crawl -> this.crawls.put(crawl.source(), crawl));
+        taskScheduler.setPoolSize(Math.max(1, crawls.size()));
+        taskScheduler.setThreadNamePrefix("crawl-schedule-");
+        taskScheduler.initialize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            log.info("[CrawlScheduler] 예약 수집 꺼짐 (crawler.schedule.enabled=false)");
+            return;
+        }
+        properties.getSources().forEach((source, config) -> {
+            if (!crawls.containsKey(source)) {
+                log.warn("[CrawlScheduler] 알 수 없는 소스 source={}, 가능한 소스={}", source, crawls.keySet());
+                return;
+            }
+            if (!config.isEnabled()) return;
+            JitteredTrigger trigger;
+            try {
+                trigger = new JitteredTrigger(config.getCron(), config.getInterval(), config.getInitialDelay(),
+                        config.getJitter(), Clock.systemDefaultZone());
+            } catch (IllegalArgumentException e) {
+                log.warn("[CrawlScheduler] 예약 설정 오류 source={}: {}", source, e.getMessage());
+                return;
+            }
+            scheduled.put(source, taskScheduler.schedule(() -> run(source, CrawlRunDto.Trigger.SCHEDULED), trigger));
+            log.info("[CrawlScheduler] 예약 source={}, cadence={}, jitter={}, maxRuntime={}",
+                    source, cadence(config), config.getJitter(), config.getMaxRuntime());
+        });
+    }
+
+    /**
+     * 지금 바로 한 번 실행 (백그라운드).
+     *
+     * @return 시작했으면 true, 같은 소스가 이미 실행 중이면 false
+     * @throws IllegalArgumentException 알 수 없는 소스
+     */
+    public boolean triggerNow(String source) {
+        if (!crawls.containsKey(source)) throw new IllegalArgumentException("알 수 없는 소스: " + source);
+        if (isRunning(source)) return false;
+        manualExecutor.execute(() -> run(source, CrawlRunDto.Trigger.MANUAL));
+        return true;
+    }
+
+    public List<CrawlSourceStatusDto> status() {
+        List<CrawlSourceStatusDto> result = new ArrayList<>();
+        for (String source : crawls.keySet()) {
+            CrawlScheduleProperties.Source config = properties.getSources().get(source);
+            ScheduledFuture<?> future = scheduled.get(source);
+            Long nextRunAt = future == null || future.isDone()
+                    ? null : System.currentTimeMillis() + future.getDelay(TimeUnit.MILLISECONDS);
+            List<CrawlRunDto> last = history(source, 1);
+            result.add(new CrawlSourceStatusDto(source, future != null, config == null ? null : cadence(config),
+                    isRunning(source), nextRunAt, last.isEmpty() ? null : last.get(0)));
+        }
+        return result;
+    }
+
+    /**
+     * 최근 실행 기록 (최신순).
+     *
+     * @param source null 이면 모든 소스
+     */
+    public List<CrawlRunDto> history(String source, int limit) {
+        List<CrawlRunDto> runs = new ArrayList<>();
+        history.forEach((key, deque) -> {
+            if (source != null && !source.equals(key)) return;
+            synchronized (deque) {
+                runs.addAll(deque);
+            }
+        });
+        return runs.stream()
+                .sorted(Comparator.comparingLong(CrawlRunDto::getStartedAt).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        taskScheduler.shutdown();
+        manualExecutor.shutdownNow();
+        runExecutor.shutdownNow();
+    }
+
+    ThreadPoolTaskScheduler taskScheduler() {
+        return taskScheduler;
+    }
+
+    CrawlRunDto run(String source, CrawlRunDto.Trigger trigger) {
+        ScheduledCrawl crawl = crawls.get(source);
+        AtomicBoolean flag = running.computeIfAbsent(source, key -> new AtomicBoolean());
+        long startedAt = System.currentTimeMillis();
+        if (!flag.compareAndSet(false, true)) {
+            return record(new CrawlRunDto(source, trigger, CrawlRunDto.Outcome.SKIPPED, startedAt, 0, null,
+                    "이전 실행이 아직 진행 중"));
+        }
+
+        long start = System.nanoTime();
+        Future<Integer> future = runExecutor.submit(() -> {
+            try {
+                return crawl.run();
+            } finally {
+                // 시간 초과로 포기한 실행도 실제로 끝난 뒤에야 다음 실행을 허용
+                flag.set(false);
+            }
+        });
+        CrawlRunDto.Outcome outcome;
+        Integer items = null;
+        String error = null;
+        try {
+            items = future.get(maxRuntime(source).toMillis(), TimeUnit.MILLISECONDS);
+            outcome = CrawlRunDto.Outcome.SUCCESS;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            outcome = CrawlRunDto.Outcome.TIMEOUT;
+            error = "maxRuntime " + maxRuntime(source) + " 초과";
+        } catch (ExecutionException e) {
+            outcome = CrawlRunDto.Outcome.FAILED;
+            error = String.valueOf(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            outcome = CrawlRunDto.Outcome.FAILED;
+            error = "예약 스레드 중단";
+        }
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return record(new CrawlRunDto(source, trigger, outcome, startedAt, durationMillis, items, error));
+    }
+
+    private CrawlRunDto record(CrawlRunDto run) {
+        Deque<CrawlRunDto> deque = history.computeIfAbsent(run.getSource(), key -> new ArrayDeque<>());
+        synchronized (deque) {
+            deque.addLast(run);
+            while (deque.size() > properties.getHistorySize()) deque.removeFirst();
+        }
+        Timer.builder("crawler.schedule.run")
+                .description("예약/수동 수집 1회 실행 시간")
+                .tags("source", run.getSource(), "outcome", run.getOutcome().name())
+                .register(meterRegistry)
+                .record(run.getDurationMillis(), TimeUnit.MILLISECONDS);
+        if (run.getItems() != null) {
+            DistributionSummary.builder("crawler.schedule.items")
+                    .description("수집 1회에서 얻은 항목 수")
+                    .tag("source", run.getSource())
+                    .register(meterRegistry)
+                    .record(run.getItems());
+        }
+        if (run.getOutcome() == CrawlRunDto.Outcome.SUCCESS) {
+            log.info("[CrawlScheduler] source={}, trigger={}, items={}, duration={}ms",
+                    run.getSource(), run.getTrigger(), run.getItems(), run.getDurationMillis());
+        } else {
+            log.warn("[CrawlScheduler] source={}, trigger={}, outcome={}, error={}",
+                    run.getSource(), run.getTrigger(), run.getOutcome(), run.getError());
+        }
+        return run;
+    }
+
+    private boolean isRunning(String source) {
+        AtomicBoolean flag = running.get(source);
+        return flag != null && flag.get();
+    }
+
+    private Duration maxRuntime(String source) {
+        CrawlScheduleProperties.Source config = properties.getSources().get(source);
+        return (config != null ? config : new CrawlScheduleProperties.Source()).getMaxRuntime();
+    }
+
+    private static String cadence(CrawlScheduleProperties.Source config) {
+        if (config.getCron() != null && !config.getCron().isBlank()) return config.getCron();
+        return config.getInterval() == null ? null : config.getInterval().toString();
+    }
+}
@@ -0,0 +1,57 @@
+package com.wowraid.jobspooncrawler.schedule;
+
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * cron 또는 고정 간격에 0 ~ jitter 의 무작위 지연을 더한 트리거.
+ * - interval: 이전 실행이 끝난 시각 기준 (실행이 길어져도 밀린 실행이 몰리지 않음).
+ * - cron: 마지막 실행 예정 시각(지연 전) 다음의 cron 시각.
+ */
+class JitteredTrigger implements Trigger {
+
+    private final CronExpression cron;
+    private final Duration interval;
+    private final Duration initialDelay;
+    private final Duration jitter;
+    private final Clock clock;
+    // 지연을 더하기 전의 마지막 cron 시각
+    private volatile Instant lastBase;
+
+    JitteredTrigger(String cron, Duration interval, Duration initialDelay, Duration jitter, Clock clock) {
+        this.cron = cron != null && !cron.isBlank() ? CronExpression.parse(cron) : null;
+        this.interval = interval;
+        this.initialDelay = initialDelay;
+        this.jitter = jitter;
+        this.clock = clock;
+        if (this.cron == null && (interval == null || interval.isZero() || interval.isNegative())) {
+            throw new IllegalArgumentException("cron 또는 양수 interval 이 필요합니다");
+        }
+    }
+
+    @Override
+    public Instant nextExecution(TriggerContext context) {
+        Instant base;
+        if (cron != null) {
+            Instant from = lastBase != null ? lastBase : clock.instant();
+            base = cron.next(from.atZone(ZoneId.systemDefault())).toInstant();
+            lastBase = base;
+        } else {
+            Instant completed = context.lastCompletion();
+            base = completed == null ? clock.instant().plus(initialDelay) : completed.plus(interval);
+        }
+        return base.plus(randomJitter());
+    }
+
+    private Duration randomJitter() {
+        long bound = jitter.toMillis();
+        return bound > 0 ? Duration.ofMillis(ThreadLocalRandom.current().nextLong(bound + 1)) : Duration.ZERO;
+    }
+}
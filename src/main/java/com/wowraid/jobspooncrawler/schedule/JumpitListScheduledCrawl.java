@@ -0,0 +1,28 @@
+package com.wowraid.jobspooncrawler.schedule;
+
+import com.wowraid.jobspooncrawler.jumpit.controller.CrawlController;
+import com.wowraid.jobspooncrawler.jumpit.service.JumpitPositionsListCrawler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Jumpit 목록 증분 수집 (JSON API, 저렴하므로 자주 실행). /jumpit/list?incremental=true 와 같은 워터마크 사용.
+ * 페이지 수 제한 없이 워터마크까지 수집 (첫 실행은 목록 끝까지 훑어 워터마크를 만듦).
+ */
+@Component
+@RequiredArgsConstructor
+public class JumpitListScheduledCrawl implements ScheduledCrawl {
+
+    private final JumpitPositionsListCrawler listCrawler;
+
+    @Override
+    public String source() {
+        return "jumpit-list";
+    }
+
+    @Override
+    public int run() {
+        return listCrawler.crawlIncremental(CrawlController.POSITION_LIST_BASE_URL, CrawlController.LIST_SOURCE, 0)
+                .size();
+    }
+}
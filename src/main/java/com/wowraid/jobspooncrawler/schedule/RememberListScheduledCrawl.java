@@ -0,0 +1,26 @@
+package com.wowraid.jobspooncrawler.schedule;
+
+import com.wowraid.jobspooncrawler.remember.service.CrawlerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remember 목록 수집 (브라우저 사용, 비싸므로 드물게 실행). /api/url 과 같은 수집.
+ * maxRuntime 초과로 인터럽트되면 세션에서 돌고 있는 청크가 끝난 뒤에 반환하므로, 그 전에는 다음 실행이 시작되지 않음.
+ */
+@Component
+@RequiredArgsConstructor
+public class RememberListScheduledCrawl implements ScheduledCrawl {
+
+    private final CrawlerService crawlerService;
+
+    @Override
+    public String source() {
+        return "remember-list";
+    }
+
+    @Override
+    public int run() {
+        return crawlerService.fetchLiElements().size();
+    }
+}
@@ -0,0 +1,19 @@
+package com.wowraid.jobspooncrawler.schedule;
+
+/**
+ * 예약 실행할 수 있는 수집 (소스 하나).
+ */
+public interface ScheduledCrawl {
+
+    /**
+     * crawler.schedule.sources 의 키
+     */
+    String source();
+
+    /**
+     * 수집 한 번 실행 (블로킹).
+     *
+     * @return 수집한 항목 수
+     */
+    int run() throws Exception;
+}
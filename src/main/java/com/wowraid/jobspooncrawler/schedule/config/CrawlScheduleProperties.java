@@ -0,0 +1,54 @@
+package com.wowraid.jobspooncrawler.schedule.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter @Setter
+@Validated
+@ConfigurationProperties(prefix = "crawler.schedule")
+public class CrawlScheduleProperties {
+
+    // false 면 예약 실행 없음 (수동 실행 API 는 사용 가능)
+    private boolean enabled = false;
+
+    // 소스별로 보관할 최근 실행 기록 수
+    @Positive
+    private int historySize = 100;
+
+    // 소스 이름(jumpit-list, remember-list) → 실행 주기
+    @Valid
+    private Map<String, Source> sources = new LinkedHashMap<>();
+
+    @Getter @Setter
+    public static class Source {
+
+        private boolean enabled = true;
+
+        // cron 식 (초 분 시 일 월 요일), 있으면 interval 보다 우선
+        private String cron;
+
+        // 이전 실행이 끝난 뒤 다음 실행까지 간격 (cron 이 없을 때)
+        private Duration interval;
+
+        // 실행 시각에 더할 0 ~ jitter 사이의 무작위 지연 (여러 인스턴스/소스가 같은 시각에 몰리지 않게)
+        @NotNull
+        private Duration jitter = Duration.ZERO;
+
+        // 이 시간을 넘기면 실행을 중단(인터럽트)하고 TIMEOUT 으로 기록
+        @NotNull
+        private Duration maxRuntime = Duration.ofMinutes(30);
+
+        // interval 방식의 첫 실행 지연
+        @NotNull
+        private Duration initialDelay = Duration.ofMinutes(1);
+    }
+}
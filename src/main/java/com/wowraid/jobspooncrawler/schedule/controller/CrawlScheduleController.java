@@ -0,0 +1,46 @@
+package com.wowraid.jobspooncrawler.schedule.controller;
+
+import com.wowraid.jobspooncrawler.schedule.CrawlScheduler;
+import com.wowraid.jobspooncrawler.schedule.dto.CrawlRunDto;
+import com.wowraid.jobspooncrawler.schedule.dto.CrawlSourceStatusDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/schedule")
+public class CrawlScheduleController {
+
+    private final CrawlScheduler crawlScheduler;
+
+    public CrawlScheduleController(CrawlScheduler crawlScheduler) {
+        this.crawlScheduler = crawlScheduler;
+    }
+
+    // 소스별 주기, 실행 중 여부, 다음 실행 시각, 마지막 실행
+    @GetMapping
+    public List<CrawlSourceStatusDto> status() {
+        return crawlScheduler.status();
+    }
+
+    // 최근 실행 기록 (최신순, source 가 없으면 전체)
+    @GetMapping("/runs")
+    public List<CrawlRunDto> runs(@RequestParam(required = false) String source,
+                                  @RequestParam(defaultValue = "50") int limit) {
+        return crawlScheduler.history(source, limit);
+    }
+
+    // 지금 한 번 실행 (이미 실행 중이면 409)
+    @PostMapping("/{source}/run")
+    public ResponseEntity<Void> runNow(@PathVariable String source) {
+        try {
+            return crawlScheduler.triggerNow(source)
+                    ? ResponseEntity.accepted().build()
+                    : ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
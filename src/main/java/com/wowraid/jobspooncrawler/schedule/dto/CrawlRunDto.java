@@ -0,0 +1,25 @@
+package com.wowraid.jobspooncrawler.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 예약/수동 실행 한 번의 기록.
+ */
+@Getter
+@AllArgsConstructor
+public class CrawlRunDto {
+
+    public enum Trigger { SCHEDULED, MANUAL }
+
+    public enum Outcome { SUCCESS, FAILED, TIMEOUT, SKIPPED }
+
+    private final String source;
+    private final Trigger trigger;
+    private final Outcome outcome;
+    private final long startedAt;
+    private final long durationMillis;
+    // 수집한 항목 수, 실패/중단/건너뜀이면 null
+    private final Integer items;
+    private final String error;
+}
@@ -0,0 +1,20 @@
+package com.wowraid.jobspooncrawler.schedule.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 소스별 예약 상태.
+ */
+@Getter
+@AllArgsConstructor
+public class CrawlSourceStatusDto {
+    private final String source;
+    private final boolean scheduled;
+    // cron 식 또는 interval (예: "PT30M")
+    private final String cadence;
+    private final boolean running;
+    // 다음 예약 실행 시각 (epoch millis), 예약되지 않았으면 null
+    private final Long nextRunAt;
+    private final CrawlRunDto lastRun;
+}
@@ -0,0 +1,58 @@
+package com.wowraid.jobspooncrawler.timer;
+
+import com.wowraid.jobspooncrawler.timer.config.RateLimitProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 호스트별 RequestRateLimiter 보관소.
+ * - 같은 호스트를 호출하는 크롤러(동기/리액티브)가 하나의 요청 예산을 공유하도록 빈으로 관리.
+ * - 각 limiter 는 최초 요청 속도에서 시작해 RateLimitProperties 범위 안에서 응답에 따라 조절됨.
+ * - 현재 속도는 crawler.ratelimit.rate{host}, 요청 전 슬롯 대기 시간은 crawler.politeness.delay{host} 로 노출.
+ */
+@Component
+public class HostRateLimiters {
+
+    private final Map<String, RequestRateLimiter> limiters = new ConcurrentHashMap<>();
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public HostRateLimiters() {
+        this(new RateLimitProperties(), new SimpleMeterRegistry());
+    }
+
+    @Autowired
+    public HostRateLimiters(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * url 의 호스트에 해당하는 limiter 반환 (최초 호출 시 permitsPerSecond 를 기준 속도로 생성).
+     */
+    public RequestRateLimiter forUrl(String url, double permitsPerSecond) {
+        String host = URI.create(url).getHost();
+        return limiters.computeIfAbsent(host, h -> create(h, permitsPerSecond));
+    }
+
+    private RequestRateLimiter create(String host, double permitsPerSecond) {
+        Timer delayTimer = Timer.builder("crawler.politeness.delay")
+                .description("요청 전 다음 슬롯까지 기다린 시간")
+                .tag("host", host)
+                .register(meterRegistry);
+        RequestRateLimiter limiter = new RequestRateLimiter(permitsPerSecond, properties, delayTimer);
+        Gauge.builder("crawler.ratelimit.rate", limiter, RequestRateLimiter::getRate)
+                .description("호스트별 현재 초당 허용 요청 수")
+                .tag("host", host)
+                .register(meterRegistry);
+        return limiter;
+    }
+}
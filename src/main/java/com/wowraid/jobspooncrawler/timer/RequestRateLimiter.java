@@ -0,0 +1,206 @@
+package com.wowraid.jobspooncrawler.timer;
+
+import com.wowraid.jobspooncrawler.timer.config.RateLimitProperties;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 초당 요청 수 예산을 지키는 요청 간격 제어기 (AIMD 적응형).
+ * - 요청 "전"에 reserve() 로 다음 슬롯을 예약하고, 돌려받은 시간만큼 호출 쪽에서 대기.
+ * - 요청 후 onSuccess / onFailure 로 결과를 알려 주면
+ *   정상 응답마다 속도를 조금씩 올리고(덧셈), 429·5xx·타임아웃·느린 응답이면 곱셈으로 낮춤.
+ * - 연속 실패로 한 번에 바닥까지 떨어지지 않도록, 감소는 직전 감소 후 1초(또는 현재 간격) 안에는 한 번만 적용.
+ * - 슬롯 예약만 ReentrantLock 안에서 하고 대기는 락 밖(호출 쪽)에서 하므로 가상 스레드에서 캐리어를 고정(pinning)하지 않음.
+ * - 단일 인자 생성자는 적응 없이 고정 속도로 동작.
+ * - delayTimer 를 주면 예약마다 슬롯까지의 대기 시간(정중함 지연)을 기록.
+ */
+@Slf4j
+public class RequestRateLimiter {
+
+    private static final long DECREASE_COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final double LATENCY_EWMA_WEIGHT = 0.2;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final double minRate;
+    private final double maxRate;
+    private final double increaseStep;
+    private final double decreaseFactor;
+    private final double throttledDecreaseFactor;
+    private final long slowLatencyNanos;
+    private final Timer delayTimer;
+
+    private double rate;
+    private long intervalNanos;
+    private long nextFreeNanos = System.nanoTime();
+    private long lastDecreaseNanos = Long.MIN_VALUE;
+    private double latencyEwmaNanos;
+
+    public RequestRateLimiter(double permitsPerSecond) {
+        this(permitsPerSecond, permitsPerSecond, permitsPerSecond, 0, 1.0, 1.0, Long.MAX_VALUE, null);
+    }
+
+    public RequestRateLimiter(double permitsPerSecond, RateLimitProperties properties) {
+        this(permitsPerSecond, properties, null);
+    }
+
+    RequestRateLimiter(double permitsPerSecond, RateLimitProperties properties, Timer delayTimer) {
+        this(permitsPerSecond,
+                permitsPerSecond * properties.getMinRateFactor(),
+                permitsPerSecond * properties.getMaxRateFactor(),
+                permitsPerSecond * properties.getIncreaseStep(),
+                properties.getDecreaseFactor(),
+                properties.getThrottledDecreaseFactor(),
+                properties.getSlowLatency().toNanos(),
+                delayTimer);
+    }
+
+    private RequestRateLimiter(double permitsPerSecond, double minRate, double maxRate, double increaseStep,
+                               double decreaseFactor, double throttledDecreaseFactor, long slowLatencyNanos,
+                               Timer delayTimer) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond 는 0보다 커야 합니다: " + permitsPerSecond);
+        }
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.increaseStep = increaseStep;
+        this.decreaseFactor = decreaseFactor;
+        this.throttledDecreaseFactor = throttledDecreaseFactor;
+        this.slowLatencyNanos = slowLatencyNanos;
+        this.delayTimer = delayTimer;
+        setRate(permitsPerSecond);
+    }
+
+    /**
+     * 다음 슬롯을 예약하고, 그 슬롯까지 남은 대기 시간(ns)을 반환.
+     * 스레드를 재우지 않으므로 리액티브 파이프라인에서는 Mono.delay 로 대기할 때 사용.
+     */
+    public long reserve() {
+        long waitNanos;
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextFreeNanos);
+            nextFreeNanos = slot + intervalNanos;
+            waitNanos = slot - now;
+        } finally {
+            lock.unlock();
+        }
+        if (delayTimer != null) delayTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        return waitNanos;
+    }
+
+    /**
+     * 정상 응답: 응답 시간 이동평균이 slowLatency 를 넘으면 속도를 낮추고, 아니면 increaseStep 만큼 올림.
+     */
+    public void onSuccess(long latencyNanos) {
+        lock.lock();
+        try {
+            latencyEwmaNanos = latencyEwmaNanos == 0
+                    ? latencyNanos
+                    : latencyEwmaNanos + LATENCY_EWMA_WEIGHT * (latencyNanos - latencyEwmaNanos);
+            if (latencyEwmaNanos > slowLatencyNanos) {
+                decrease(decreaseFactor, "느린 응답");
+            } else if (rate < maxRate) {
+                setRate(Math.min(maxRate, rate + increaseStep));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실패 응답: 429/503 은 크게, 그 밖의 5xx 와 연결 오류/타임아웃은 작게 속도를 낮춤.
+     * Retry-After(초) 가 있으면 그 시간 동안 다음 슬롯을 내주지 않음.
+     * 4xx(429 제외)나 파싱 오류처럼 서버 부하와 무관한 실패는 속도에 반영하지 않음.
+     */
+    public void onFailure(Throwable error) {
+        int status = statusOf(error);
+        lock.lock();
+        try {
+            if (status == 429 || status == 503) {
+                decrease(throttledDecreaseFactor, "HTTP " + status);
+                long retryAfterNanos = retryAfterNanos(error);
+                if (retryAfterNanos > 0) {
+                    nextFreeNanos = Math.max(nextFreeNanos, System.nanoTime() + retryAfterNanos);
+                }
+            } else if (status >= 500 || (status < 0 && isConnectionFailure(error))) {
+                decrease(decreaseFactor, status >= 500 ? "HTTP " + status : "연결 실패");
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 초당 허용 요청 수.
+     */
+    public double getRate() {
+        lock.lock();
+        try {
+            return rate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void decrease(double factor, String reason) {
+        long now = System.nanoTime();
+        if (lastDecreaseNanos != Long.MIN_VALUE
+                && now - lastDecreaseNanos < Math.max(DECREASE_COOLDOWN_NANOS, intervalNanos)) {
+            return;
+        }
+        lastDecreaseNanos = now;
+        double before = rate;
+        setRate(Math.max(minRate, rate * factor));
+        if (rate < before) {
+            log.info("요청 속도 낮춤 ({}) {} -> {} req/s", reason, String.format("%.2f", before), String.format("%.2f", rate));
+        }
+    }
+
+    private void setRate(double permitsPerSecond) {
+        this.rate = permitsPerSecond;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+    }
+
+    private static int statusOf(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof RestClientResponseException e) return e.getStatusCode().value();
+            if (t instanceof WebClientResponseException e) return e.getStatusCode().value();
+        }
+        return -1;
+    }
+
+    private static boolean isConnectionFailure(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof ResourceAccessException || t instanceof WebClientRequestException
+                    || t instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long retryAfterNanos(Throwable error) {
+        HttpHeaders headers = null;
+        for (Throwable t = error; t != null && headers == null; t = t.getCause()) {
+            if (t instanceof RestClientResponseException e) headers = e.getResponseHeaders();
+            if (t instanceof WebClientResponseException e) headers = e.getHeaders();
+        }
+        String value = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (value == null) return 0;
+        try {
+            return TimeUnit.SECONDS.toNanos(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return 0; // HTTP-date 형식은 무시하고 속도 감소만 적용
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.wowraid.jobspooncrawler.timer.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 호스트별 적응형(AIMD) 요청 속도 설정.
+ * - 기준 속도는 각 크롤러 설정(예: crawler.jumpit.requests-per-second)이고, 여기 값은 그 배수/비율.
+ */
+@Getter @Setter
+@Validated
+@ConfigurationProperties(prefix = "crawler.rate-limit")
+public class RateLimitProperties {
+
+    // 기준 속도 대비 최저 속도 배수
+    @Positive
+    @DecimalMax("1.0")
+    private double minRateFactor = 0.1;
+
+    // 기준 속도 대비 최고 속도 배수 (응답이 건강하면 여기까지 올림)
+    @DecimalMin("1.0")
+    private double maxRateFactor = 2.0;
+
+    // 정상 응답 한 번마다 올릴 속도 (기준 속도 대비 비율)
+    @Positive
+    private double increaseStep = 0.05;
+
+    // 5xx / 타임아웃 / 느린 응답 시 곱할 값
+    @Positive
+    @DecimalMax("1.0")
+    private double decreaseFactor = 0.7;
+
+    // 429 / 503 시 곱할 값
+    @Positive
+    @DecimalMax("1.0")
+    private double throttledDecreaseFactor = 0.5;
+
+    // 응답 시간 이동평균이 이보다 길면 느린 것으로 보고 속도를 낮춤
+    @NotNull
+    private Duration slowLatency = Duration.ofSeconds(3);
+}
@@ -0,0 +1,149 @@
+package com.wowraid.jobspooncrawler.trace;
+
+import com.wowraid.jobspooncrawler.trace.config.CrawlTraceProperties;
+import com.wowraid.jobspooncrawler.trace.dto.CrawlTraceDto;
+import com.wowraid.jobspooncrawler.trace.dto.SpanDto;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationView;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * crawler.run / crawler.stage 관측을 실행별 스팬 트리로 모아 최근 keepRuns 개를 메모리에 보관.
+ * - 부모 관측의 Context 에 붙은 SpanNode 아래에 자식을 추가하므로, 실행 밖에서 시작한 단계는 기록하지 않음.
+ * - 루트가 끝나는 시점에 트리를 DTO 로 고정. 그때까지 안 끝난 단계는 루트 종료 시각까지로 자르고 unfinished 로 표시.
+ * - folded: 단계 경로별 self 시간(µs)을 합친 folded stack 텍스트 (flamegraph.pl, speedscope 입력 형식).
+ */
+@Component
+public class CrawlTraceRecorder implements ObservationHandler<Observation.Context> {
+
+    private static final String UNFINISHED = "unfinished";
+
+    private final CrawlTraceProperties properties;
+    private final Deque<CrawlTraceDto> runs = new ArrayDeque<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public CrawlTraceRecorder(CrawlTraceProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return properties.isEnabled()
+                && (CrawlTracer.RUN.equals(context.getName()) || CrawlTracer.STAGE.equals(context.getName()));
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        long now = System.nanoTime();
+        if (CrawlTracer.RUN.equals(context.getName())) {
+            context.put(SpanNode.class, SpanNode.root(tag(context, CrawlTracer.SOURCE_KEY), now, System.currentTimeMillis()));
+            return;
+        }
+        ObservationView parent = context.getParentObservation();
+        SpanNode parentNode = parent == null ? null : parent.getContextView().get(SpanNode.class);
+        if (parentNode == null) return;
+        SpanNode node = parentNode.addChild(tag(context, CrawlTracer.STAGE_KEY), now, properties.getMaxSpansPerRun());
+        if (node != null) context.put(SpanNode.class, node);
+    }
+
+    @Override
+    public void onError(Observation.Context context) {
+        SpanNode node = context.get(SpanNode.class);
+        if (node == null || context.getError() == null) return;
+        synchronized (node.root) {
+            node.error = context.getError().toString();
+        }
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        SpanNode node = context.get(SpanNode.class);
+        if (node == null) return;
+        long now = System.nanoTime();
+        CrawlTraceDto trace;
+        synchronized (node.root) {
+            node.endNanos = now;
+            if (node != node.root) return;
+            trace = new CrawlTraceDto(sequence.incrementAndGet(), node.name, node.startedAtMillis,
+                    millis(now - node.startNanos), node.spanCount, node.truncated, toDto(node, node.startNanos, now));
+        }
+        synchronized (runs) {
+            runs.addFirst(trace);
+            while (runs.size() > properties.getKeepRuns()) runs.removeLast();
+        }
+    }
+
+    /**
+     * 최근 실행 (최신순).
+     *
+     * @param source null 이면 모든 소스
+     */
+    public List<CrawlTraceDto> recent(String source, int limit) {
+        List<CrawlTraceDto> result = new ArrayList<>();
+        synchronized (runs) {
+            for (CrawlTraceDto run : runs) {
+                if (result.size() >= limit) break;
+                if (source == null || source.equals(run.getSource())) result.add(run);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 최근 실행들의 folded stack ("source;stage;stage self마이크로초" 한 줄씩, 같은 경로는 합산).
+     */
+    public String folded(String source, int limit) {
+        Map<String, Long> stacks = new LinkedHashMap<>();
+        for (CrawlTraceDto run : recent(source, limit)) {
+            fold(run.getRoot(), run.getRoot().getName(), stacks);
+        }
+        StringBuilder out = new StringBuilder();
+        stacks.forEach((stack, micros) -> out.append(stack).append(' ').append(micros).append('\n'));
+        return out.toString();
+    }
+
+    private static void fold(SpanDto span, String path, Map<String, Long> stacks) {
+        long selfMicros = Math.round(span.getSelfMillis() * 1000);
+        if (selfMicros > 0) stacks.merge(path, selfMicros, Long::sum);
+        for (SpanDto child : span.getChildren()) {
+            fold(child, path + ";" + child.getName(), stacks);
+        }
+    }
+
+    // 루트 락을 잡은 상태에서 호출
+    private static SpanDto toDto(SpanNode node, long rootStartNanos, long rootEndNanos) {
+        long duration = durationNanos(node, rootEndNanos);
+        List<SpanDto> children = new ArrayList<>(node.children.size());
+        long childTotal = 0;
+        for (SpanNode child : node.children) {
+            children.add(toDto(child, rootStartNanos, rootEndNanos));
+            childTotal += durationNanos(child, rootEndNanos);
+        }
+        String error = node.error != null ? node.error : node.endNanos >= 0 ? null : UNFINISHED;
+        return new SpanDto(node.name, millis(node.startNanos - rootStartNanos), millis(duration),
+                millis(Math.max(0, duration - childTotal)), error, children);
+    }
+
+    private static long durationNanos(SpanNode node, long rootEndNanos) {
+        return Math.max(0, (node.endNanos >= 0 ? node.endNanos : rootEndNanos) - node.startNanos);
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private static String tag(Observation.Context context, String key) {
+        KeyValue keyValue = context.getLowCardinalityKeyValue(key);
+        return keyValue != null ? keyValue.getValue() : context.getName();
+    }
+}
@@ -0,0 +1,83 @@
+package com.wowraid.jobspooncrawler.trace;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수집 실행/단계 추적 (Micrometer Observation).
+ * - run: 한 번의 수집 실행 (crawler.run{source}). 다른 관측 안에서 시작해도 항상 새 트리의 루트.
+ * - stage: 실행 안의 단계 (crawler.stage{stage}). 기본은 현재 스레드의 관측을 부모로 쓰고,
+ *   스레드를 넘어가는 작업(청크 스케줄러, 재시도/페이지 워커)은 부모를 직접 넘김.
+ * - 관측은 CrawlTraceRecorder 가 실행별 스팬 트리로 모으고, actuator 의 관측 핸들러가 같은 이름의 타이머로도 기록.
+ * - 레지스트리가 NOOP 이면 본문만 실행.
+ */
+@Component
+public class CrawlTracer {
+
+    public static final String RUN = "crawler.run";
+    public static final String STAGE = "crawler.stage";
+    static final String SOURCE_KEY = "source";
+    static final String STAGE_KEY = "stage";
+
+    private final ObservationRegistry registry;
+
+    public CrawlTracer(ObservationRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 새 실행을 시작해 본문을 실행 (본문 안의 stage 는 이 실행의 자식).
+     */
+    public <T, E extends Throwable> T run(String source, Observation.CheckedCallable<T, E> body) throws E {
+        return runObservation(source).observeChecked(body);
+    }
+
+    /**
+     * 새 실행을 시작만 함 (리액티브 파이프라인용, 끝나면 호출 측에서 stop).
+     */
+    public Observation startRun(String source) {
+        return runObservation(source).start();
+    }
+
+    /**
+     * 현재 스레드의 관측을 부모로 단계 실행.
+     */
+    public <T, E extends Throwable> T stage(String name, Observation.CheckedCallable<T, E> body) throws E {
+        return stage(registry.getCurrentObservation(), name, body);
+    }
+
+    /**
+     * @param parent 다른 스레드에서 넘겨받은 부모 관측 (null 이면 실행 밖의 단계로 보고 트리에 남기지 않음)
+     */
+    public <T, E extends Throwable> T stage(Observation parent, String name,
+                                            Observation.CheckedCallable<T, E> body) throws E {
+        return stageObservation(parent, name).observeChecked(body);
+    }
+
+    /**
+     * 단계를 시작만 함 (리액티브 파이프라인용, 끝나면 호출 측에서 stop).
+     */
+    public Observation startStage(Observation parent, String name) {
+        return stageObservation(parent, name).start();
+    }
+
+    /**
+     * 스레드를 넘기기 전에 부모로 넘겨 줄 현재 관측.
+     */
+    public Observation current() {
+        return registry.getCurrentObservation();
+    }
+
+    private Observation runObservation(String source) {
+        return Observation.createNotStarted(RUN, registry)
+                .parentObservation(null)
+                .lowCardinalityKeyValue(SOURCE_KEY, source);
+    }
+
+    private Observation stageObservation(Observation parent, String name) {
+        return Observation.createNotStarted(STAGE, registry)
+                .parentObservation(parent)
+                .lowCardinalityKeyValue(STAGE_KEY, name);
+    }
+}
@@ -0,0 +1,52 @@
+package com.wowraid.jobspooncrawler.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기록 중인 스팬 (관측 Context 에 붙여 두고 자식 관측이 부모를 찾는 데 씀).
+ * 자식 추가와 종료는 여러 스레드에서 일어나므로 루트 노드로 동기화.
+ */
+final class SpanNode {
+
+    final String name;
+    final SpanNode root;
+    final long startNanos;
+    final List<SpanNode> children = new ArrayList<>();
+    long endNanos = -1;
+    String error;
+
+    // 루트 전용
+    long startedAtMillis;
+    int spanCount;
+    boolean truncated;
+
+    private SpanNode(String name, SpanNode root, long startNanos) {
+        this.name = name;
+        this.root = root != null ? root : this;
+        this.startNanos = startNanos;
+    }
+
+    static SpanNode root(String name, long startNanos, long startedAtMillis) {
+        SpanNode node = new SpanNode(name, null, startNanos);
+        node.startedAtMillis = startedAtMillis;
+        node.spanCount = 1;
+        return node;
+    }
+
+    /**
+     * @return 추가한 자식, 실행당 최대 스팬 수를 넘었으면 null
+     */
+    SpanNode addChild(String childName, long childStartNanos, int maxSpans) {
+        synchronized (root) {
+            if (root.spanCount >= maxSpans) {
+                root.truncated = true;
+                return null;
+            }
+            root.spanCount++;
+            SpanNode child = new SpanNode(childName, root, childStartNanos);
+            children.add(child);
+            return child;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.wowraid.jobspooncrawler.trace.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Getter @Setter
+@Validated
+@ConfigurationProperties(prefix = "crawler.trace")
+public class CrawlTraceProperties {
+
+    // false 면 스팬 트리를 모으지 않음 (crawler.run / crawler.stage 타이머는 그대로)
+    private boolean enabled = true;
+
+    // 메모리에 남겨 둘 최근 실행 수
+    @Positive
+    private int keepRuns = 20;
+
+    // 실행 하나에 기록할 최대 스팬 수 (넘으면 나머지 단계는 버리고 truncated 로 표시)
+    @Positive
+    private int maxSpansPerRun = 5000;
+}
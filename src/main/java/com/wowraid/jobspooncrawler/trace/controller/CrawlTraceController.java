@@ -0,0 +1,36 @@
+package com.wowraid.jobspooncrawler.trace.controller;
+
+import com.wowraid.jobspooncrawler.trace.CrawlTraceRecorder;
+import com.wowraid.jobspooncrawler.trace.dto.CrawlTraceDto;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/traces")
+public class CrawlTraceController {
+
+    private final CrawlTraceRecorder traceRecorder;
+
+    public CrawlTraceController(CrawlTraceRecorder traceRecorder) {
+        this.traceRecorder = traceRecorder;
+    }
+
+    // 최근 실행의 단계별 스팬 트리 (최신순, source 가 없으면 전체)
+    @GetMapping
+    public List<CrawlTraceDto> traces(@RequestParam(required = false) String source,
+                                      @RequestParam(defaultValue = "5") int limit) {
+        return traceRecorder.recent(source, limit);
+    }
+
+    // 최근 실행을 합친 folded stack (flamegraph.pl / speedscope 에 그대로 넣어 flame graph 로 확인)
+    @GetMapping(value = "/folded", produces = MediaType.TEXT_PLAIN_VALUE)
+    public String folded(@RequestParam(required = false) String source,
+                         @RequestParam(defaultValue = "5") int limit) {
+        return traceRecorder.folded(source, limit);
+    }
+}
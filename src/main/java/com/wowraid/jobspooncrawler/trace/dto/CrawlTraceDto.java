@@ -0,0 +1,21 @@
+package com.wowraid.jobspooncrawler.trace.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 수집 실행 한 번의 스팬 트리.
+ */
+@Getter
+@AllArgsConstructor
+public class CrawlTraceDto {
+
+    private final long id;
+    private final String source;
+    private final long startedAt;
+    private final double durationMillis;
+    private final int spanCount;
+    // maxSpansPerRun 을 넘어 일부 단계를 버렸으면 true
+    private final boolean truncated;
+    private final SpanDto root;
+}
@@ -0,0 +1,24 @@
+package com.wowraid.jobspooncrawler.trace.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 스팬 트리의 한 단계.
+ */
+@Getter
+@AllArgsConstructor
+public class SpanDto {
+
+    private final String name;
+    // 실행 시작 기준 시작 시각
+    private final double offsetMillis;
+    private final double durationMillis;
+    // 자식 단계를 뺀 시간 (병렬 자식이 겹치면 0)
+    private final double selfMillis;
+    // 실패한 단계의 예외, 실행이 끝날 때까지 안 끝난 단계는 "unfinished"
+    private final String error;
+    private final List<SpanDto> children;
+}
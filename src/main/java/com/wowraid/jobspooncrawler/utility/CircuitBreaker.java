@@ -0,0 +1,154 @@
+package com.wowraid.jobspooncrawler.utility;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 호스트 하나에 대한 차단기 (CLOSED → OPEN → HALF_OPEN → CLOSED).
+ * - CLOSED: 모두 허용. 연속 실패가 failureThreshold 에 닿으면 OPEN.
+ * - OPEN: openDuration 동안 요청을 보내지 않고 바로 실패.
+ * - HALF_OPEN: 시험 요청 1건만 허용. 성공하면 CLOSED, 실패하면 다시 OPEN.
+ *   시험 요청 결과가 openDuration 안에 오지 않으면(취소 등) 다음 시험 요청을 허용.
+ * - 요청 전 tryAcquirePermission(), 요청 후 onSuccess / onFailure 를 호출.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    // 메트릭 값으로 ordinal 을 쓰므로 순서 유지 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final String host;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private long probeStartedNanos;
+
+    public CircuitBreaker(String host, int failureThreshold, long openNanos) {
+        this.host = host;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openNanos;
+    }
+
+    /**
+     * 요청 허가를 받고, 거절되면 CircuitOpenException.
+     */
+    public void acquirePermission() {
+        if (!tryAcquirePermission()) throw new CircuitOpenException(host);
+    }
+
+    /**
+     * @return 요청을 보내도 되면 true (false 면 보내지 않고 바로 실패시킬 것)
+     */
+    public boolean tryAcquirePermission() {
+        boolean permitted = permit();
+        if (!permitted) rejected.incrementAndGet();
+        return permitted;
+    }
+
+    private boolean permit() {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (now - openedAtNanos < openNanos) return false;
+                    transition(State.HALF_OPEN);
+                    probeStartedNanos = now;
+                    return true;
+                default:
+                    // 시험 요청이 이미 나가 있으면 거절 (결과 없이 오래되면 새 시험 요청 허용)
+                    if (now - probeStartedNanos < openNanos) return false;
+                    probeStartedNanos = now;
+                    return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            consecutiveFailures = 0;
+            if (state != State.CLOSED) transition(State.CLOSED);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호스트 장애로 볼 실패(5xx, 연결 오류, 타임아웃 등).
+     */
+    public void onFailure() {
+        lock.lock();
+        try {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                openedAtNanos = System.nanoTime();
+                transition(State.OPEN);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실패 원인에 따라 기록. 4xx·파싱 오류처럼 재시도 대상이 아닌 실패는 호스트 상태를 알 수 없으므로
+     * 상태를 바꾸지 않고, 시험 요청이었다면 다음 시험 요청을 바로 허용.
+     */
+    public void onFailure(Throwable error) {
+        if (error instanceof CircuitOpenException) return;
+        if (RetryEngine.isRetryable(error)) {
+            onFailure();
+        } else {
+            releaseProbe();
+        }
+    }
+
+    private void releaseProbe() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) probeStartedNanos = System.nanoTime() - openNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 차단으로 거절한 요청 수
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    private void transition(State to) {
+        if (to == State.OPEN) {
+            log.warn("[CircuitBreaker] host={} {} -> OPEN (연속 실패 {}회, {}초 차단)",
+                    host, state, consecutiveFailures, TimeUnit.NANOSECONDS.toSeconds(openNanos));
+        } else {
+            log.info("[CircuitBreaker] host={} {} -> {}", host, state, to);
+        }
+        state = to;
+    }
+}
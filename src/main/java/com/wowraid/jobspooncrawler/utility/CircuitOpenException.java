@@ -0,0 +1,17 @@
+package com.wowraid.jobspooncrawler.utility;
+
+import lombok.Getter;
+
+/**
+ * 호스트 차단기가 열려 있어 요청을 보내지 않고 바로 실패시킬 때의 예외.
+ */
+@Getter
+public class CircuitOpenException extends RuntimeException {
+
+    private final String host;
+
+    public CircuitOpenException(String host) {
+        super("호스트 차단 중 (circuit open): " + host);
+        this.host = host;
+    }
+}
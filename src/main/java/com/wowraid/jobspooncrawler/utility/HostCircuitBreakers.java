@@ -0,0 +1,64 @@
+package com.wowraid.jobspooncrawler.utility;
+
+import com.wowraid.jobspooncrawler.utility.config.CircuitBreakerProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 호스트별 CircuitBreaker 보관소.
+ * - 같은 호스트를 호출하는 경로(Jumpit HTTP, Remember Selenium)가 하나의 차단기를 공유.
+ * - 상태는 crawler.circuit.state{host} (0=CLOSED, 1=HALF_OPEN, 2=OPEN),
+ *   차단으로 거절한 요청 수는 crawler.circuit.rejected{host} 로 노출.
+ */
+@Component
+public class HostCircuitBreakers {
+
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final CircuitBreakerProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public HostCircuitBreakers() {
+        this(new CircuitBreakerProperties(), new SimpleMeterRegistry());
+    }
+
+    @Autowired
+    public HostCircuitBreakers(CircuitBreakerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public CircuitBreaker forUrl(String url) {
+        return breakers.computeIfAbsent(hostOf(url), this::create);
+    }
+
+    private CircuitBreaker create(String host) {
+        CircuitBreaker breaker = new CircuitBreaker(host, properties.getFailureThreshold(),
+                properties.getOpenDuration().toNanos());
+        Gauge.builder("crawler.circuit.state", breaker, b -> b.getState().ordinal())
+                .description("호스트 차단기 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                .tag("host", host)
+                .register(meterRegistry);
+        FunctionCounter.builder("crawler.circuit.rejected", breaker, CircuitBreaker::getRejectedCount)
+                .description("차단기가 열려 있어 보내지 않은 요청 수")
+                .tag("host", host)
+                .register(meterRegistry);
+        return breaker;
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host : url;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.wowraid.jobspooncrawler.utility;
+
+import com.wowraid.jobspooncrawler.utility.config.RetryProperties;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 전역 재시도 예산 (토큰 버킷).
+ * - 가득 찬 상태로 시작해, 첫 시도마다 budgetRatio 만큼, 시간이 지나면 초당 budgetMinPerSecond 만큼
+ *   토큰이 쌓이고 재시도마다 1개를 씀.
+ * - 한 호스트가 계속 실패해도 전체 재시도량이 요청량의 일정 비율을 넘지 않아 부하가 배로 불어나지 않음.
+ */
+class RetryBudget {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final double ratio;
+    private final double minPerSecond;
+    private final double maxTokens;
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+
+    RetryBudget(RetryProperties properties) {
+        this.ratio = properties.getBudgetRatio();
+        this.minPerSecond = properties.getBudgetMinPerSecond();
+        this.maxTokens = properties.getBudgetMaxTokens();
+        this.tokens = maxTokens;
+    }
+
+    void onRequest() {
+        lock.lock();
+        try {
+            refill();
+            tokens = Math.min(maxTokens, tokens + ratio);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean tryAcquire() {
+        lock.lock();
+        try {
+            refill();
+            if (tokens < 1.0) return false;
+            tokens -= 1.0;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double seconds = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        lastRefillNanos = now;
+        tokens = Math.min(maxTokens, tokens + seconds * minPerSecond);
+    }
+}
@@ -0,0 +1,280 @@
+package com.wowraid.jobspooncrawler.utility;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.wowraid.jobspooncrawler.timer.RequestRateLimiter;
+import com.wowraid.jobspooncrawler.utility.config.RetryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 공통 재시도 엔진 (CompletableFuture / Mono).
+ * - 비동기(executeAsync / Mono)는 재시도 대기와 limiter 슬롯 대기를 스레드를 재우지 않고 타이머
+ *   (delayedExecutor / Mono.delay)로 예약. 블로킹(execute)은 호출한 스레드에서 시도/대기를 직접 진행.
+ * - 대기 시간은 full jitter: 0 ~ min(maxDelay, baseDelay * 2^(n-1)) 사이 무작위.
+ * - 5xx·408·429·연결 오류/타임아웃만 재시도하고, 그 밖의 4xx·파싱 오류 등은 바로 실패.
+ * - 재시도는 전역 RetryBudget 토큰을 써야 하므로 실패하는 호스트가 부하를 불리지 못함.
+ * - 차단기(CircuitBreaker)를 넘기면 시도마다 허가를 받고, 열려 있으면 요청 없이 바로 실패.
+ * - 포기하면 null 대신 RetryExhaustedException 으로 실패. 블로킹 호출이 인터럽트되면(예약 실행 시간 초과,
+ *   종료) 재시도 포기로 세지 않고 CancellationException 으로 실패하며 인터럽트 상태를 유지.
+ * - 재시도 횟수는 crawler.retry.retries, 포기한 호출은 crawler.retry.exhausted{reason} 로 기록.
+ */
+@Slf4j
+@Component
+public class RetryEngine {
+
+    private final RetryProperties properties;
+    private final RetryBudget budget;
+    private final Counter retryCounter;
+    private final Map<RetryExhaustedException.Reason, Counter> exhaustedCounters =
+            new EnumMap<>(RetryExhaustedException.Reason.class);
+
+    public RetryEngine(RetryProperties properties) {
+        this(properties, new SimpleMeterRegistry());
+    }
+
+    @Autowired
+    public RetryEngine(RetryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.budget = new RetryBudget(properties);
+        this.retryCounter = Counter.builder("crawler.retry.retries")
+                .description("실패 후 예약한 재시도 수")
+                .register(meterRegistry);
+        for (RetryExhaustedException.Reason reason : RetryExhaustedException.Reason.values()) {
+            exhaustedCounters.put(reason, Counter.builder("crawler.retry.exhausted")
+                    .description("재시도를 포기하고 실패한 호출 수")
+                    .tag("reason", reason.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 블로킹 호출용: 호출한 스레드에서 시도하고 대기하며, 포기하면 RetryExhaustedException.
+     *
+     * @param limiter 요청 대상 호스트의 limiter (null 이면 속도 제한 없음)
+     */
+    public <T> T execute(Supplier<T> task, RequestRateLimiter limiter) {
+        return execute(task, limiter, null, RetryEngine::isRetryable);
+    }
+
+    /**
+     * @param breaker 요청 대상 호스트의 차단기 (열려 있으면 요청 없이 CIRCUIT_OPEN 으로 실패)
+     */
+    public <T> T execute(Supplier<T> task, RequestRateLimiter limiter, CircuitBreaker breaker) {
+        return execute(task, limiter, breaker, RetryEngine::isRetryable);
+    }
+
+    /**
+     * @throws CancellationException 대기/시도 중 인터럽트된 경우 (인터럽트 상태 유지)
+     */
+    public <T> T execute(Supplier<T> task, RequestRateLimiter limiter, CircuitBreaker breaker,
+                         Predicate<Throwable> retryable) {
+        Call<T> call = new Call<>(task, limiter, breaker, null, retryable);
+        budget.onRequest();
+        for (int attempt = 1; ; attempt++) {
+            // 차단 중이면 limiter 슬롯도 쓰지 않고 바로 실패
+            if (breaker != null && !breaker.tryAcquirePermission()) {
+                throw exhausted(attempt, RetryExhaustedException.Reason.CIRCUIT_OPEN,
+                        new CircuitOpenException(breaker.getHost()));
+            }
+            sleep(limiter != null ? limiter.reserve() : 0);
+            try {
+                return invoke(call);
+            } catch (RuntimeException e) {
+                // 인터럽트로 끊긴 시도는 호스트 실패가 아니라 취소
+                if (Thread.currentThread().isInterrupted()) throw cancelled(e);
+                RetryExhaustedException.Reason giveUp = giveUpReason(e, attempt, retryable);
+                if (giveUp != null) throw exhausted(attempt, giveUp, e);
+                retryCounter.increment();
+                long delayNanos = backoffNanos(attempt);
+                log.warn("요청 실패, {}ms 후 재시도 (시도 {} / {}): {}",
+                        TimeUnit.NANOSECONDS.toMillis(delayNanos), attempt, properties.getMaxAttempts(), e.getMessage());
+                sleep(delayNanos);
+            }
+        }
+    }
+
+    /**
+     * @param executor 시도(블로킹 작업)를 실행할 Executor
+     * @return 성공 값 또는 RetryExhaustedException 으로 완료되는 future.
+     *         cancel 하면 아직 시작하지 않은 시도와 예약된 재시도는 요청 없이 버림 (진행 중인 시도는 끝까지 실행)
+     */
+    public <T> CompletableFuture<T> executeAsync(Supplier<T> task, RequestRateLimiter limiter,
+                                                 CircuitBreaker breaker, Executor executor) {
+        return executeAsync(task, limiter, breaker, executor, RetryEngine::isRetryable);
+    }
+
+    public <T> CompletableFuture<T> executeAsync(Supplier<T> task, RequestRateLimiter limiter, CircuitBreaker breaker,
+                                                 Executor executor, Predicate<Throwable> retryable) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        budget.onRequest();
+        attempt(new Call<>(task, limiter, breaker, executor, retryable), 1, result);
+        return result;
+    }
+
+    /**
+     * Mono 에 같은 재시도 정책을 적용 (구독할 때마다 첫 시도로 보고 예산을 쌓음).
+     */
+    public <T> Mono<T> retry(Mono<T> source) {
+        return Mono.defer(() -> {
+            budget.onRequest();
+            return source.retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                int attempt = (int) signal.totalRetries() + 1;
+                RetryExhaustedException.Reason giveUp = giveUpReason(signal.failure(), attempt, RetryEngine::isRetryable);
+                if (giveUp != null) {
+                    return Mono.error(exhausted(attempt, giveUp, signal.failure()));
+                }
+                retryCounter.increment();
+                return Mono.delay(Duration.ofNanos(backoffNanos(attempt)));
+            })));
+        });
+    }
+
+    /**
+     * retry(source) 에 차단기를 더함: 시도마다 허가를 받고 결과를 차단기에 기록.
+     */
+    public <T> Mono<T> retry(Mono<T> source, CircuitBreaker breaker) {
+        return retry(Mono.defer(() -> {
+            if (!breaker.tryAcquirePermission()) return Mono.error(new CircuitOpenException(breaker.getHost()));
+            return source.doOnSuccess(value -> breaker.onSuccess()).doOnError(breaker::onFailure);
+        }));
+    }
+
+    // 한 번의 executeAsync 호출에서 시도마다 같이 쓰는 값
+    private record Call<T>(Supplier<T> task, RequestRateLimiter limiter, CircuitBreaker breaker,
+                           Executor executor, Predicate<Throwable> retryable) {
+    }
+
+    private <T> void attempt(Call<T> call, int attempt, CompletableFuture<T> result) {
+        // 호출 측에서 취소했으면 limiter 슬롯도 쓰지 않음
+        if (result.isDone()) return;
+        // 차단 중이면 limiter 슬롯도 쓰지 않고 바로 실패
+        if (call.breaker() != null && !call.breaker().tryAcquirePermission()) {
+            result.completeExceptionally(exhausted(attempt,
+                    RetryExhaustedException.Reason.CIRCUIT_OPEN, new CircuitOpenException(call.breaker().getHost())));
+            return;
+        }
+        long waitNanos = call.limiter() != null ? call.limiter().reserve() : 0;
+        Executor runner = waitNanos > 0
+                ? CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS, call.executor())
+                : call.executor();
+
+        // 슬롯을 기다리는 사이 취소되면 요청하지 않음
+        CompletableFuture.supplyAsync(() -> result.isDone() ? null : invoke(call), runner).whenComplete((value, error) -> {
+            if (result.isDone()) return;
+            if (error == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            RetryExhaustedException.Reason giveUp = giveUpReason(cause, attempt, call.retryable());
+            if (giveUp != null) {
+                result.completeExceptionally(exhausted(attempt, giveUp, cause));
+                return;
+            }
+            retryCounter.increment();
+            long delayNanos = backoffNanos(attempt);
+            log.warn("요청 실패, {}ms 후 재시도 (시도 {} / {}): {}",
+                    TimeUnit.NANOSECONDS.toMillis(delayNanos), attempt, properties.getMaxAttempts(), cause.getMessage());
+            CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS, call.executor())
+                    .execute(() -> attempt(call, attempt + 1, result));
+        });
+    }
+
+    // 응답 시간과 실패 원인을 limiter / 차단기에 알려 호스트 상태를 반영
+    private static <T> T invoke(Call<T> call) {
+        long start = System.nanoTime();
+        try {
+            T value = call.task().get();
+            if (call.limiter() != null) call.limiter().onSuccess(System.nanoTime() - start);
+            if (call.breaker() != null) call.breaker().onSuccess();
+            return value;
+        } catch (RuntimeException e) {
+            if (call.limiter() != null) call.limiter().onFailure(e);
+            if (call.breaker() != null) call.breaker().onFailure(e);
+            throw e;
+        }
+    }
+
+    private static void sleep(long nanos) {
+        if (nanos <= 0) return;
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cancelled(e);
+        }
+    }
+
+    private static CancellationException cancelled(Throwable cause) {
+        CancellationException cancelled = new CancellationException("재시도 대기/요청 중 인터럽트");
+        cancelled.initCause(cause);
+        return cancelled;
+    }
+
+    private RetryExhaustedException exhausted(int attempt, RetryExhaustedException.Reason reason, Throwable cause) {
+        exhaustedCounters.get(reason).increment();
+        return new RetryExhaustedException(attempt, reason, cause);
+    }
+
+    // 재시도하지 않을 이유 (재시도 가능하면 null). 예산은 재시도를 확정할 때만 씀
+    private RetryExhaustedException.Reason giveUpReason(Throwable error, int attempt, Predicate<Throwable> retryable) {
+        if (error instanceof CircuitOpenException) return RetryExhaustedException.Reason.CIRCUIT_OPEN;
+        if (!retryable.test(error)) return RetryExhaustedException.Reason.NON_RETRYABLE;
+        if (attempt >= properties.getMaxAttempts()) return RetryExhaustedException.Reason.MAX_ATTEMPTS;
+        if (!budget.tryAcquire()) {
+            log.warn("재시도 예산 소진, 재시도하지 않음: {}", error.getMessage());
+            return RetryExhaustedException.Reason.BUDGET_EXHAUSTED;
+        }
+        return null;
+    }
+
+    long backoffNanos(int attempt) {
+        long base = properties.getBaseDelay().toNanos();
+        long cap = properties.getMaxDelay().toNanos();
+        long ceiling = attempt >= 31 ? cap : Math.min(cap, base << (attempt - 1));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * 5xx·408·429 와 연결 오류/타임아웃만 재시도 대상.
+     */
+    public static boolean isRetryable(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            int status = -1;
+            if (t instanceof RestClientResponseException e) status = e.getStatusCode().value();
+            if (t instanceof WebClientResponseException e) status = e.getStatusCode().value();
+            if (status > 0) return status >= 500 || status == 408 || status == 429;
+            // JSON 파싱 오류도 IOException 이지만 같은 응답이면 결과가 같으므로 제외
+            if (t instanceof JsonProcessingException) return false;
+            if (t instanceof ResourceAccessException || t instanceof WebClientRequestException
+                    || t instanceof IOException || t instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
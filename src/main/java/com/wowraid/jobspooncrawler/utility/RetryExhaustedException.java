@@ -0,0 +1,31 @@
+package com.wowraid.jobspooncrawler.utility;
+
+import lombok.Getter;
+
+/**
+ * RetryEngine 이 더 이상 재시도하지 않고 포기했을 때의 실패.
+ * - cause 는 마지막 시도의 원래 예외.
+ */
+@Getter
+public class RetryExhaustedException extends RuntimeException {
+
+    public enum Reason {
+        // 4xx 등 재시도해도 결과가 같은 실패
+        NON_RETRYABLE,
+        // 최대 시도 횟수 도달
+        MAX_ATTEMPTS,
+        // 전역 재시도 예산 소진
+        BUDGET_EXHAUSTED,
+        // 호스트 차단기가 열려 있어 요청하지 않음
+        CIRCUIT_OPEN
+    }
+
+    private final int attempts;
+    private final Reason reason;
+
+    public RetryExhaustedException(int attempts, Reason reason, Throwable cause) {
+        super("요청 실패 (시도 " + attempts + "회, " + reason + "): " + cause.getMessage(), cause);
+        this.attempts = attempts;
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,24 @@
+package com.wowraid.jobspooncrawler.utility.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter @Setter
+@Validated
+@ConfigurationProperties(prefix = "crawler.circuit-breaker")
+public class CircuitBreakerProperties {
+
+    // 연속 실패가 이 횟수에 닿으면 차단(OPEN)
+    @Positive
+    private int failureThreshold = 5;
+
+    // 차단 유지 시간. 지나면 시험 요청 1건만 허용(HALF_OPEN)
+    @NotNull
+    private Duration openDuration = Duration.ofSeconds(30);
+}
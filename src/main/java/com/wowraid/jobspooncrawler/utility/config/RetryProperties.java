@@ -0,0 +1,40 @@
+package com.wowraid.jobspooncrawler.utility.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter @Setter
+@Validated
+@ConfigurationProperties(prefix = "crawler.retry")
+public class RetryProperties {
+
+    // 첫 시도를 포함한 최대 시도 횟수
+    @Positive
+    private int maxAttempts = 3;
+
+    // n 번째 재시도 대기 상한 = min(maxDelay, baseDelay * 2^(n-1)), 실제 대기는 0~상한 사이 무작위 (full jitter)
+    @NotNull
+    private Duration baseDelay = Duration.ofMillis(500);
+
+    @NotNull
+    private Duration maxDelay = Duration.ofSeconds(10);
+
+    // 요청 1건마다 쌓이는 재시도 예산 (0.2 = 요청 5건당 재시도 1회)
+    @PositiveOrZero
+    private double budgetRatio = 0.2;
+
+    // 요청이 없어도 초당 채워지는 최소 재시도 예산
+    @PositiveOrZero
+    private double budgetMinPerSecond = 1.0;
+
+    // 쌓아 둘 수 있는 최대 재시도 예산
+    @Positive
+    private double budgetMaxTokens = 20;
+}
@@ -1,8 +1,22 @@
 
 package com.wowraid.jobspooncrawler;
 
+import com.wowraid.jobspooncrawler.http.CachingHttpFetcher;
+import com.wowraid.jobspooncrawler.http.HttpResponseCache;
+import com.wowraid.jobspooncrawler.http.config.HttpCacheProperties;
+import com.wowraid.jobspooncrawler.jumpit.config.JumpitProperties;
 import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionFeatureDto;
+import com.wowraid.jobspooncrawler.jumpit.extractor.JumpitFeatureDomWalkExtractor;
+import com.wowraid.jobspooncrawler.jumpit.extractor.JumpitFeatureJsonExtractor;
+import com.wowraid.jobspooncrawler.jumpit.extractor.JumpitPositionJsonLocator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import com.wowraid.jobspooncrawler.jumpit.service.JumpitPositionsFeatureCrawler;
+import com.wowraid.jobspooncrawler.timer.HostRateLimiters;
+import com.wowraid.jobspooncrawler.trace.CrawlTracer;
+import com.wowraid.jobspooncrawler.utility.HostCircuitBreakers;
+import com.wowraid.jobspooncrawler.utility.RetryEngine;
+import com.wowraid.jobspooncrawler.utility.config.RetryProperties;
+import io.micrometer.observation.ObservationRegistry;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.Test;
@@ -15,7 +29,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class JobspoonCrawlerApplicationTests {
 
-    private final JumpitPositionsFeatureCrawler crawler = new JumpitPositionsFeatureCrawler();
+    private final JumpitPositionJsonLocator jsonLocator = new JumpitPositionJsonLocator();
+    private final JumpitPositionsFeatureCrawler crawler = new JumpitPositionsFeatureCrawler(
+            new JumpitFeatureJsonExtractor(jsonLocator), new JumpitFeatureDomWalkExtractor(jsonLocator),
+            new CachingHttpFetcher(HttpResponseCache.NONE, new HttpCacheProperties(), new SimpleMeterRegistry()),
+            new HostRateLimiters(), new JumpitProperties(), new RetryEngine(new RetryProperties()),
+            new HostCircuitBreakers(),
+            new SimpleMeterRegistry(), new CrawlTracer(ObservationRegistry.NOOP));
 
     @Test
     void parse_snapshot_html() throws IOException {
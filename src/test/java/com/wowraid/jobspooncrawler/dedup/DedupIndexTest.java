@@ -0,0 +1,106 @@
+package com.wowraid.jobspooncrawler.dedup;
+
+import com.wowraid.jobspooncrawler.dedup.config.DedupProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DedupIndexTest {
+
+    @TempDir
+    Path stateDir;
+
+    private DedupIndex index(boolean crossRun, DedupProperties.Mode mode, SimpleMeterRegistry registry) {
+        DedupProperties props = new DedupProperties();
+        props.setCrossRun(crossRun);
+        props.setMode(mode);
+        props.setExpectedItems(10_000);
+        return new DedupIndex(props, stateDir.toString(), registry);
+    }
+
+    @Test
+    @DisplayName("한 실행 안에서는 같은 공고를 한 번만 통과시키고 건너뛴 수를 기록한다")
+    void dedupsWithinRun() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DedupIndex index = index(false, DedupProperties.Mode.EXACT, registry);
+
+        DedupIndex.Run run = index.newRun();
+        assertThat(run.markIfNew("jumpit-list", "1")).isTrue();
+        assertThat(run.markIfNew("jumpit-list", "1")).isFalse();
+        assertThat(run.markIfNew("remember-list", "1")).isTrue();
+
+        // crossRun 이 꺼져 있으면 다음 실행은 처음부터
+        assertThat(index.newRun().markIfNew("jumpit-list", "1")).isTrue();
+        assertThat(registry.get("crawler.dedup.duplicates").tag("source", "jumpit-list").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("crossRun 이면 이전 실행(재시작 포함)에서 본 공고를 건너뛴다")
+    void persistsAcrossRuns() {
+        DedupIndex first = index(true, DedupProperties.Mode.EXACT, new SimpleMeterRegistry());
+        DedupIndex.Run run = first.newRun();
+        run.mark("jumpit-detail", "https://jumpit.saramin.co.kr/position/1");
+        first.save();
+
+        DedupIndex restarted = index(true, DedupProperties.Mode.EXACT, new SimpleMeterRegistry());
+        DedupIndex.Run next = restarted.newRun();
+        assertThat(next.isSeen("jumpit-detail", "https://jumpit.saramin.co.kr/position/1/")).isTrue();
+        assertThat(next.isSeen("jumpit-detail", "https://jumpit.saramin.co.kr/position/2")).isFalse();
+        assertThat(restarted.sharedSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("crossRun 에서 markIfNew 로 통과한 공고는 실행을 complete 한 뒤에만 다음 실행에서 걸러진다")
+    void sharesEmittedPostingsOnlyAfterComplete() {
+        DedupIndex index = index(true, DedupProperties.Mode.EXACT, new SimpleMeterRegistry());
+
+        DedupIndex.Run cancelled = index.newRun();
+        assertThat(cancelled.markIfNew("remember-list", "/job/1")).isTrue();
+        index.save();
+        // 끝나지 않은 실행의 공고는 공유/저장되지 않음
+        assertThat(index.newRun().markIfNew("remember-list", "/job/1")).isTrue();
+        assertThat(index(true, DedupProperties.Mode.EXACT, new SimpleMeterRegistry()).sharedSize()).isZero();
+
+        DedupIndex.Run completed = index.newRun();
+        assertThat(completed.markIfNew("remember-list", "/job/1")).isTrue();
+        completed.complete();
+        assertThat(index.newRun().markIfNew("remember-list", "/job/1")).isFalse();
+        assertThat(index(true, DedupProperties.Mode.EXACT, new SimpleMeterRegistry()).sharedSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Bloom 모드도 저장 후 다시 읽으며, 넣은 키는 항상 본 것으로 판단한다")
+    void bloomModeHasNoFalseNegatives() {
+        DedupIndex first = index(true, DedupProperties.Mode.BLOOM, new SimpleMeterRegistry());
+        DedupIndex.Run run = first.newRun();
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(run.markIfNew("jumpit-list", Integer.toString(i))).isTrue();
+        }
+        run.complete();
+
+        DedupIndex.Run next = index(true, DedupProperties.Mode.BLOOM, new SimpleMeterRegistry()).newRun();
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(next.isSeen("jumpit-list", Integer.toString(i))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("LongHashSet 은 커지면서도 0 키를 포함한 모든 키를 유지한다")
+    void longHashSetGrowsAndKeepsZero() {
+        LongHashSet set = new LongHashSet(4);
+        assertThat(set.add(0L)).isTrue();
+        assertThat(set.add(0L)).isFalse();
+        for (long key = 1; key <= 1_000; key++) {
+            set.add(PostingKey.mix(key));
+        }
+        assertThat(set.size()).isEqualTo(1_001);
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.contains(PostingKey.mix(500))).isTrue();
+    }
+}
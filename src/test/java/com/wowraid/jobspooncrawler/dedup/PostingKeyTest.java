@@ -0,0 +1,25 @@
+package com.wowraid.jobspooncrawler.dedup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingKeyTest {
+
+    @Test
+    @DisplayName("scheme/host 대소문자, www, fragment, utm 파라미터, 끝 슬래시는 같은 공고로 본다")
+    void normalizesEquivalentUrls() {
+        assertThat(PostingKey.normalize("HTTPS://WWW.Jumpit.saramin.co.kr/position/51050679/?utm_source=x&ref=a#top"))
+                .isEqualTo("https://jumpit.saramin.co.kr/position/51050679?ref=a");
+        assertThat(PostingKey.of("jumpit-detail", "https://jumpit.saramin.co.kr/position/1"))
+                .isEqualTo(PostingKey.of("jumpit-detail", " https://www.jumpit.saramin.co.kr/position/1/#apply"));
+    }
+
+    @Test
+    @DisplayName("경로 대소문자와 소스 이름이 다르면 다른 키가 된다")
+    void keepsPathCaseAndSource() {
+        assertThat(PostingKey.normalize("https://a.com/Job/1")).isEqualTo("https://a.com/Job/1");
+        assertThat(PostingKey.of("jumpit-list", "1")).isNotEqualTo(PostingKey.of("remember-list", "1"));
+    }
+}
@@ -0,0 +1,127 @@
+package com.wowraid.jobspooncrawler.http;
+
+import com.wowraid.jobspooncrawler.http.config.HttpCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class CachingHttpFetcherTest {
+
+    private static final String URL = "https://jumpit-api.saramin.co.kr/api/positions?page=1";
+    private static final String BODY = "{\"result\":{\"positions\":[]}}";
+
+    @TempDir
+    Path dir;
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MockRestServiceServer server;
+    private CachingHttpFetcher fetcher;
+
+    @BeforeEach
+    void setUp() {
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        HttpCacheProperties properties = new HttpCacheProperties();
+        properties.setTtl(Duration.ofMinutes(10));
+        Clock clock = Clock.fixed(Instant.parse("2025-08-01T00:00:00Z"), ZoneOffset.UTC);
+        fetcher = new CachingHttpFetcher(restTemplate, new FileHttpResponseCache(dir), properties, meterRegistry,
+                new HttpFetchMetrics(meterRegistry), clock);
+    }
+
+    @Test
+    @DisplayName("ETag 가 있던 응답은 If-None-Match 로 재검증하고 304 면 저장된 본문을 쓴다")
+    void fetch_revalidatesWithEtag() {
+        HttpHeaders etag = new HttpHeaders();
+        etag.setETag("\"v1\"");
+        server.expect(requestTo(URL)).andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(etag));
+        server.expect(requestTo(URL)).andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        String first = fetcher.fetch(URL, (body, charset) -> new String(body.readAllBytes(), charset));
+        String second = fetcher.fetch(URL, (body, charset) -> new String(body.readAllBytes(), charset));
+
+        server.verify();
+        assertThat(second).isEqualTo(first).isEqualTo(BODY);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("revalidated")).isEqualTo(1);
+        assertThat(meterRegistry.get("crawler.http.cache.bytes.saved").counter().count())
+                .isEqualTo(BODY.length());
+        String host = "jumpit-api.saramin.co.kr";
+        assertThat(meterRegistry.get("crawler.http.fetch").tags("host", host, "outcome", "ok").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("crawler.http.fetch").tags("host", host, "outcome", "not_modified").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("crawler.http.fetch.bytes").tag("host", host).summary().totalAmount())
+                .isEqualTo(BODY.length());
+    }
+
+    @Test
+    @DisplayName("검증자가 없는 응답은 TTL 안이면 요청 없이 저장된 본문을 쓴다")
+    void fetch_servesWithinTtlWithoutRequest() {
+        server.expect(requestTo(URL)).andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON));
+
+        fetcher.fetch(URL, (body, charset) -> new String(body.readAllBytes(), charset));
+        String cached = fetcher.fetch(URL, (body, charset) -> new String(body.readAllBytes(), charset));
+
+        server.verify();
+        assertThat(cached).isEqualTo(BODY);
+        assertThat(count("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("목록용 수집은 검증자 없는 응답을 TTL 로 재사용하지 않고 매번 요청한다")
+    void fetchRevalidated_ignoresTtl() {
+        server.expect(requestTo(URL)).andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(URL)).andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        fetcher.fetchRevalidated(URL, (body, charset) -> new String(body.readAllBytes(), charset));
+        String second = fetcher.fetchRevalidated(URL, (body, charset) -> new String(body.readAllBytes(), charset));
+
+        server.verify();
+        assertThat(second).isEqualTo("{}");
+        assertThat(count("miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("목록용 수집도 ETag 가 있으면 재검증해 304 면 저장된 본문을 쓴다")
+    void fetchRevalidated_revalidatesWithEtag() {
+        HttpHeaders etag = new HttpHeaders();
+        etag.setETag("\"v1\"");
+        server.expect(requestTo(URL)).andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(etag));
+        server.expect(requestTo(URL)).andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        fetcher.fetchRevalidated(URL, (body, charset) -> new String(body.readAllBytes(), charset));
+        String second = fetcher.fetchRevalidated(URL, (body, charset) -> new String(body.readAllBytes(), charset));
+
+        server.verify();
+        assertThat(second).isEqualTo(BODY);
+        assertThat(count("revalidated")).isEqualTo(1);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("crawler.http.cache.requests").tag("result", result).counter().count();
+    }
+}
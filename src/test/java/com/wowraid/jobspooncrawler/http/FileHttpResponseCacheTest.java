@@ -0,0 +1,49 @@
+package com.wowraid.jobspooncrawler.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileHttpResponseCacheTest {
+
+    private static final String URL = "https://jumpit.saramin.co.kr/position/51050679";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("저장한 응답은 재시작 후에도 본문과 검증자가 그대로 읽힌다")
+    void put_thenGet_roundTrips() {
+        byte[] body = "<html>본문</html>".getBytes(StandardCharsets.UTF_8);
+        new FileHttpResponseCache(dir).put(
+                new CachedResponse(URL, "\"v1\"", null, "text/html;charset=UTF-8", 1000L, body));
+
+        CachedResponse cached = new FileHttpResponseCache(dir).get(URL);
+
+        assertThat(cached).isNotNull();
+        assertThat(cached.getBody()).isEqualTo(body);
+        assertThat(cached.getEtag()).isEqualTo("\"v1\"");
+        assertThat(cached.getLastModified()).isNull();
+        assertThat(cached.getStoredAt()).isEqualTo(1000L);
+        assertThat(cached.charset()).isEqualTo(StandardCharsets.UTF_8);
+        assertThat(new FileHttpResponseCache(dir).get(URL + "?other")).isNull();
+    }
+
+    @Test
+    @DisplayName("손상된 캐시 파일은 미스로 처리하고 지운다")
+    void get_returnsNull_whenFileCorrupted() throws IOException {
+        FileHttpResponseCache cache = new FileHttpResponseCache(dir);
+        Path file = cache.fileFor(URL);
+        Files.write(file, new byte[] {1, 2, 3});
+
+        assertThat(cache.get(URL)).isNull();
+        assertThat(file).doesNotExist();
+    }
+}
@@ -0,0 +1,78 @@
+package com.wowraid.jobspooncrawler.job.service;
+
+import com.wowraid.jobspooncrawler.job.config.CrawlJobProperties;
+import com.wowraid.jobspooncrawler.job.dto.CrawlJobDto;
+import com.wowraid.jobspooncrawler.job.entity.CrawlJob;
+import com.wowraid.jobspooncrawler.job.entity.WorkItem;
+import com.wowraid.jobspooncrawler.job.store.CrawlJobStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CrawlJobServiceTest {
+
+    @TempDir
+    Path stateDir;
+
+    // 상세 URL 을 그대로 결과로 돌려주는 가짜 처리기 (처리한 대상 기록)
+    private static WorkItemHandler detailHandler(Set<String> handled) {
+        return new WorkItemHandler() {
+            @Override
+            public WorkItem.Kind kind() {
+                return WorkItem.Kind.JUMPIT_DETAIL;
+            }
+
+            @Override
+            public Outcome handle(String jobId, Map<String, String> params, WorkItem item) {
+                handled.add(item.getTarget());
+                return Outcome.of(List.of(Map.of("url", item.getTarget())));
+            }
+        };
+    }
+
+    private CrawlJobService service(CrawlJobStore store, Set<String> handled) {
+        return new CrawlJobService(store, new CrawlJobProperties(), List.of(detailHandler(handled)), null);
+    }
+
+    @Test
+    @DisplayName("작업은 바로 id 를 돌려주고, 중간에 재시작해도 완료된 항목은 다시 처리하지 않는다")
+    void resumesAfterRestart() throws Exception {
+        CrawlJobProperties props = new CrawlJobProperties();
+        Set<String> beforeRestart = ConcurrentHashMap.newKeySet();
+        CrawlJobStore store = new CrawlJobStore(props, stateDir.toString());
+        CrawlJobService first = service(store, beforeRestart);
+
+        CrawlJobDto submitted = first.submitJumpitFeatures(List.of("1", "2", "3", "2"));
+        assertThat(submitted.getTotalItems()).isEqualTo(3);
+        assertThat(submitted.getPendingItems()).isEqualTo(3);
+        // 워커를 띄우지 않고 첫 항목만 처리한 뒤 종료
+        first.process(new CrawlJobStore.ItemRef(submitted.getId(), 0));
+        first.shutdown();
+
+        Set<String> afterRestart = ConcurrentHashMap.newKeySet();
+        CrawlJobService restarted = service(new CrawlJobStore(props, stateDir.toString()), afterRestart);
+        restarted.start();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (restarted.find(submitted.getId()).orElseThrow().getStatus() != CrawlJob.Status.COMPLETED
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        restarted.shutdown();
+
+        assertThat(restarted.find(submitted.getId()).orElseThrow().getStatus()).isEqualTo(CrawlJob.Status.COMPLETED);
+        assertThat(beforeRestart).containsExactly("1");
+        assertThat(afterRestart).containsExactlyInAnyOrder("2", "3");
+        assertThat(Files.readAllLines(restarted.results(submitted.getId()).orElseThrow())).hasSize(3);
+    }
+}
@@ -0,0 +1,51 @@
+package com.wowraid.jobspooncrawler.job.service;
+
+import com.wowraid.jobspooncrawler.dedup.DedupIndex;
+import com.wowraid.jobspooncrawler.dedup.config.DedupProperties;
+import com.wowraid.jobspooncrawler.job.entity.WorkItem;
+import com.wowraid.jobspooncrawler.jumpit.config.JumpitProperties;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionFeatureDto;
+import com.wowraid.jobspooncrawler.jumpit.service.JumpitPositionsFeatureCrawler;
+import com.wowraid.jobspooncrawler.timer.HostRateLimiters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JumpitDetailHandlerTest {
+
+    @TempDir
+    Path stateDir;
+
+    @Test
+    @DisplayName("crossRun 이면 이전 실행에서 받은 상세 페이지는 요청하지 않고 건너뛴다")
+    void skipsDetailSeenInEarlierRun() throws Exception {
+        DedupProperties props = new DedupProperties();
+        props.setCrossRun(true);
+        DedupIndex dedupIndex = new DedupIndex(props, stateDir.toString(), new SimpleMeterRegistry());
+        JumpitPositionsFeatureCrawler featureCrawler = mock(JumpitPositionsFeatureCrawler.class);
+        when(featureCrawler.crawl(anyString(), any())).thenReturn(JumpitPositionFeatureDto.builder().title("백엔드").build());
+        JumpitDetailHandler handler = new JumpitDetailHandler(featureCrawler, new HostRateLimiters(),
+                new JumpitProperties(), dedupIndex);
+
+        WorkItemHandler.Outcome first = handler.handle("job-1", Map.of(), WorkItem.of(WorkItem.Kind.JUMPIT_DETAIL, "1"));
+        // 다른 작업에서 같은 포지션을 URL 로 요청
+        WorkItemHandler.Outcome second = handler.handle("job-2", Map.of(),
+                WorkItem.of(WorkItem.Kind.JUMPIT_DETAIL, "https://jumpit.saramin.co.kr/position/1"));
+
+        assertThat(first.results()).hasSize(1);
+        assertThat(second.results()).isEmpty();
+        verify(featureCrawler, times(1)).crawl(anyString(), any());
+    }
+}
@@ -0,0 +1,92 @@
+package com.wowraid.jobspooncrawler.job.service;
+
+import com.wowraid.jobspooncrawler.dedup.DedupIndex;
+import com.wowraid.jobspooncrawler.dedup.config.DedupProperties;
+import com.wowraid.jobspooncrawler.job.entity.CrawlJob;
+import com.wowraid.jobspooncrawler.job.entity.WorkItem;
+import com.wowraid.jobspooncrawler.remember.dto.ChunkCoverageDto;
+import com.wowraid.jobspooncrawler.remember.dto.JobListingDto;
+import com.wowraid.jobspooncrawler.remember.keyword.KeywordChunkPlanner;
+import com.wowraid.jobspooncrawler.remember.service.CrawlerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RememberChunkHandlerTest {
+
+    @TempDir
+    Path stateDir;
+
+    private static CrawlerService.ChunkResult chunk(String query, int items) {
+        return new CrawlerService.ChunkResult(
+                List.of(new JobListingDto(query + " 공고", "/job/" + query), new JobListingDto("공통 공고", "/job/shared")),
+                new ChunkCoverageDto("https://career.rememberapp.co.kr/job/postings?search=" + query, "dom",
+                        items, 1, 10, "END"));
+    }
+
+    private static CrawlJob job(String id, CrawlJob.Status status) {
+        CrawlJob job = new CrawlJob();
+        job.setId(id);
+        job.setStatus(status);
+        return job;
+    }
+
+    @Test
+    @DisplayName("작업 안의 여러 청크에 나온 공고는 한 번만 남기고, 작업이 끝나면 청크 커버리지를 기록한다")
+    @SuppressWarnings("unchecked")
+    void dedupsWithinJobAndRecordsCoverage() {
+        CrawlerService crawlerService = mock(CrawlerService.class);
+        when(crawlerService.fetchChunkListings(eq("SW개발"), anyList())).thenReturn(chunk("sw", 2));
+        when(crawlerService.fetchChunkListings(eq("AI·데이터"), anyList())).thenReturn(chunk("ai", 2));
+        RememberChunkHandler handler = new RememberChunkHandler(crawlerService,
+                new DedupIndex(new DedupProperties(), stateDir.toString(), new SimpleMeterRegistry()));
+
+        WorkItemHandler.Outcome first = handler.handle("job-1", Map.of(),
+                WorkItem.of(WorkItem.Kind.REMEMBER_CHUNK, "SW개발", List.of("backend")));
+        WorkItemHandler.Outcome second = handler.handle("job-1", Map.of(),
+                WorkItem.of(WorkItem.Kind.REMEMBER_CHUNK, "AI·데이터", List.of("ml")));
+
+        assertThat((List<JobListingDto>) first.results()).extracting(JobListingDto::getDetailurl)
+                .containsExactly("/job/sw", "/job/shared");
+        assertThat((List<JobListingDto>) second.results()).extracting(JobListingDto::getDetailurl)
+                .containsExactly("/job/ai");
+        verify(crawlerService, never()).recordChunkCoverage(anyList(), anyList());
+
+        handler.jobFinished(job("job-1", CrawlJob.Status.COMPLETED));
+        handler.jobFinished(job("job-1", CrawlJob.Status.COMPLETED));
+
+        ArgumentCaptor<List<KeywordChunkPlanner.KeywordChunk>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(crawlerService).recordChunkCoverage(chunks.capture(), any());
+        assertThat(chunks.getValue()).extracting(KeywordChunkPlanner.KeywordChunk::level1)
+                .containsExactly("SW개발", "AI·데이터");
+    }
+
+    @Test
+    @DisplayName("취소된 작업의 커버리지는 기록하지 않는다")
+    void skipsCoverageOfCancelledJob() {
+        CrawlerService crawlerService = mock(CrawlerService.class);
+        when(crawlerService.fetchChunkListings(eq("SW개발"), anyList())).thenReturn(chunk("sw", 2));
+        RememberChunkHandler handler = new RememberChunkHandler(crawlerService,
+                new DedupIndex(new DedupProperties(), stateDir.toString(), new SimpleMeterRegistry()));
+
+        handler.handle("job-1", Map.of(), WorkItem.of(WorkItem.Kind.REMEMBER_CHUNK, "SW개발", List.of("backend")));
+        handler.jobFinished(job("job-1", CrawlJob.Status.CANCELLED));
+
+        verify(crawlerService, never()).recordChunkCoverage(anyList(), anyList());
+    }
+}
@@ -0,0 +1,91 @@
+package com.wowraid.jobspooncrawler.job.store;
+
+import com.wowraid.jobspooncrawler.job.config.CrawlJobProperties;
+import com.wowraid.jobspooncrawler.job.entity.CrawlJob;
+import com.wowraid.jobspooncrawler.job.entity.WorkItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CrawlJobStoreTest {
+
+    @TempDir
+    Path stateDir;
+
+    private CrawlJobStore store(int snapshotEvery) {
+        CrawlJobProperties props = new CrawlJobProperties();
+        props.setSnapshotEvery(snapshotEvery);
+        props.setMaxAttempts(2);
+        return new CrawlJobStore(props, stateDir.toString());
+    }
+
+    private static List<WorkItem> pages(int count) {
+        return java.util.stream.IntStream.rangeClosed(1, count)
+                .mapToObj(i -> WorkItem.of(WorkItem.Kind.JUMPIT_LIST_PAGE, Integer.toString(i)))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("재시작하면 완료(ACK)된 항목은 건너뛰고 남은 항목부터 이어서 처리한다")
+    void resumesFromLastAcknowledgedItem() throws IOException {
+        // 레코드마다 스냅샷이 생기지 않도록 크게 잡아 로그 재적용 경로를 검증
+        CrawlJobStore first = store(1_000);
+        CrawlJob job = first.create(CrawlJob.Type.JUMPIT_LIST, Map.of("url", "u"), pages(3));
+        first.complete(new CrawlJobStore.ItemRef(job.getId(), 0), List.of(Map.of("id", "1")),
+                List.of(WorkItem.of(WorkItem.Kind.JUMPIT_DETAIL, "1")));
+        // close 없이 죽은 것처럼 새 저장소로 다시 읽음
+
+        CrawlJobStore restarted = store(1_000);
+        assertThat(restarted.pendingItems()).extracting(CrawlJobStore.ItemRef::index).containsExactly(1, 2, 3);
+        CrawlJob recovered = restarted.find(job.getId()).orElseThrow();
+        assertThat(recovered.getItems().get(0).getStatus()).isEqualTo(WorkItem.Status.DONE);
+        assertThat(recovered.getItems().get(3).getKind()).isEqualTo(WorkItem.Kind.JUMPIT_DETAIL);
+        assertThat(recovered.getParams()).containsEntry("url", "u");
+        assertThat(Files.readAllLines(restarted.resultsFile(job.getId()))).containsExactly("{\"id\":\"1\"}");
+    }
+
+    @Test
+    @DisplayName("스냅샷 후 로그를 비우고, 쓰다 만 마지막 줄은 버린다")
+    void compactsAndIgnoresTornTail() throws IOException {
+        CrawlJobStore first = store(2);
+        CrawlJob job = first.create(CrawlJob.Type.JUMPIT_LIST, Map.of(), pages(2));
+        first.complete(new CrawlJobStore.ItemRef(job.getId(), 0), List.of(), List.of());
+        Path log = stateDir.resolve("jobs").resolve("jobs.log");
+        assertThat(Files.size(log)).isZero();
+
+        Files.writeString(log, "{\"seq\":99,\"op\":\"ITEM\",\"jobI", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        CrawlJobStore restarted = store(2);
+        assertThat(restarted.pendingItems()).extracting(CrawlJobStore.ItemRef::index).containsExactly(1);
+        // 시작하며 스냅샷으로 합쳐 깨진 줄 뒤에 새 레코드가 붙지 않음
+        assertThat(Files.size(log)).isZero();
+    }
+
+    @Test
+    @DisplayName("실패한 항목은 maxAttempts 까지 다시 시도하고, 모든 항목이 끝나면 작업이 완료된다")
+    void retriesThenFailsAndCompletesJob() throws IOException {
+        CrawlJobStore store = store(1_000);
+        CrawlJob job = store.create(CrawlJob.Type.JUMPIT_FEATURE, Map.of(), pages(2));
+        CrawlJobStore.ItemRef failing = new CrawlJobStore.ItemRef(job.getId(), 0);
+
+        assertThat(store.fail(failing, "timeout")).isTrue();
+        assertThat(store.fail(failing, "timeout")).isFalse();
+        store.complete(new CrawlJobStore.ItemRef(job.getId(), 1), List.of(), List.of());
+
+        CrawlJob finished = store.find(job.getId()).orElseThrow();
+        assertThat(finished.getStatus()).isEqualTo(CrawlJob.Status.COMPLETED);
+        assertThat(finished.getItems().get(0).getStatus()).isEqualTo(WorkItem.Status.FAILED);
+        assertThat(finished.getItems().get(0).getAttempts()).isEqualTo(2);
+        assertThat(store.pendingItems()).isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+package com.wowraid.jobspooncrawler.jumpit.extractor;
+
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionFeatureDto;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 번 순회 추출기가 셀렉터 방식과 같은 결과를 내는지 저장된 상세 페이지들로 검증.
+ */
+class JumpitFeatureDomWalkExtractorTest {
+
+    private static final String URL = "https://jumpit.saramin.co.kr/position/51050679";
+
+    private final JumpitPositionJsonLocator jsonLocator = new JumpitPositionJsonLocator();
+    private final JumpitFeatureExtractionPlan selectorExtractor = new JumpitFeatureExtractionPlan(jsonLocator);
+    private final JumpitFeatureDomWalkExtractor domWalkExtractor = new JumpitFeatureDomWalkExtractor(jsonLocator);
+
+    // 저장된 페이지 원본 + 일부 필드가 빠진 변형 (fallback/누락 경로 검증)
+    static Stream<Arguments> savedPages() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of("src/test/resources"))) {
+            return files.filter(p -> p.getFileName().toString().endsWith(".html"))
+                    .toList().stream()
+                    .flatMap(p -> Stream.of(
+                            Arguments.of(p.getFileName() + " 원본", edited(p, doc -> {})),
+                            Arguments.of(p.getFileName() + " 제목 없음", edited(p, doc -> doc.select("h1").remove())),
+                            Arguments.of(p.getFileName() + " 근무지역 없음",
+                                    edited(p, doc -> doc.select("dl:has(dt:containsOwn(근무지역))").remove())),
+                            Arguments.of(p.getFileName() + " 기술스택 없음",
+                                    edited(p, doc -> doc.select("dl:has(dt:containsOwn(기술스택))").remove()))));
+        }
+    }
+
+    private static Document edited(Path page, Consumer<Document> edit) {
+        try {
+            Document doc = Jsoup.parse(Files.readString(page));
+            edit.accept(doc);
+            return doc;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("savedPages")
+    @DisplayName("셀렉터 방식과 같은 DTO 를 만든다")
+    void extract_matchesSelectorExtractor(String name, Document doc) {
+        assertThat(domWalkExtractor.extract(doc, URL)).isEqualTo(selectorExtractor.extract(doc, URL));
+    }
+
+    // 셀렉터 의미가 갈리기 쉬운 구조만 모은 작은 문서
+    static Stream<Arguments> edgeCases() {
+        return Stream.of(
+                Arguments.of("name 클래스가 붙은 span 자신",
+                        "<h1>백엔드 개발자</h1><span class=\"name\">점핏</span>"),
+                Arguments.of("name 안에 중첩된 span",
+                        "<h1>백엔드 개발자</h1><a class=\"name\"><div><span>점핏</span></div></a>"),
+                Arguments.of("dt 뒤 dd 안의 h1 과 회사명",
+                        "<dl><dt>소개</dt><dd><h1>백엔드 개발자</h1>"
+                                + "<a class=\"name\"><span>점핏</span></a></dd></dl>"),
+                Arguments.of("dd 안의 name 요소 자신",
+                        "<dl><dt>소개</dt><dd class=\"name\"><span>점핏</span></dd></dl>"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("edgeCases")
+    @DisplayName("경계 구조에서도 셀렉터 방식과 같은 DTO 를 만든다")
+    void extract_matchesSelectorExtractor_onEdgeCases(String name, String html) {
+        Document doc = Jsoup.parse(html);
+
+        assertThat(domWalkExtractor.extract(doc, URL)).isEqualTo(selectorExtractor.extract(doc, URL));
+    }
+
+    @Test
+    @DisplayName("dt 뒤 dd 안에 있는 제목과 회사명도 채운다")
+    void extract_readsTitleAndCompanyInsideDd() {
+        Document doc = Jsoup.parse("<dl><dt>소개</dt><dd><h1>백엔드 개발자</h1>"
+                + "<a class=\"name\"><span>점핏</span></a></dd></dl>");
+
+        JumpitPositionFeatureDto dto = domWalkExtractor.extract(doc, URL);
+
+        assertThat(dto.getTitle()).isEqualTo("백엔드 개발자");
+        assertThat(dto.getCompany()).isEqualTo("점핏");
+    }
+
+    @Test
+    @DisplayName("name 클래스가 붙은 span 자신은 회사명으로 보지 않는다")
+    void extract_ignoresSpanWithNameClassItself() {
+        Document doc = Jsoup.parse("<h1>백엔드 개발자</h1><span class=\"name\">점핏</span>");
+
+        assertThat(domWalkExtractor.extract(doc, URL).getCompany()).isNull();
+    }
+}
@@ -0,0 +1,38 @@
+package com.wowraid.jobspooncrawler.jumpit.extractor;
+
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionFeatureDto;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JumpitFeatureExtractionPlanTest {
+
+    private final JumpitFeatureExtractionPlan plan = new JumpitFeatureExtractionPlan(new JumpitPositionJsonLocator());
+
+    @Test
+    @DisplayName("저장된 상세 페이지에서 모든 필드를 추출한다")
+    void extract_snapshotPage() throws IOException {
+        String html = Files.readString(Path.of("src/test/resources/sample_jumpit.html"));
+        Document doc = Jsoup.parse(html);
+
+        JumpitPositionFeatureDto dto = plan.extract(doc, "https://jumpit.saramin.co.kr/position/51050679");
+
+        assertThat(dto.getUrl()).isEqualTo("https://jumpit.saramin.co.kr/position/51050679");
+        assertThat(dto.getTitle()).isEqualTo("서버 백엔드 개발[신입]");
+        assertThat(dto.getCompany()).isEqualTo("패션앤스타일컴퍼니");
+        assertThat(dto.getDeadline()).isEqualTo("2025-08-16");
+        assertThat(dto.getTechStacks()).startsWith("Java", "Spring");
+        assertThat(dto.getDuties()).startsWith("• 패션앤스타일 백엔드 서비스 설계 및 개발");
+        assertThat(dto.getRequirements()).contains("RESTful API");
+        assertThat(dto.getPreferred()).isEqualTo("• Python 사용 가능자 우대");
+        assertThat(dto.getBenefits()).startsWith("• 급여 외 식대 지원");
+        assertThat(dto.getLocation()).startsWith("서울 종로구 종로3길 24-20 501호");
+    }
+}
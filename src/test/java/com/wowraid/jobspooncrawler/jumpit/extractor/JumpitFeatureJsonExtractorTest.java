@@ -0,0 +1,49 @@
+package com.wowraid.jobspooncrawler.jumpit.extractor;
+
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionFeatureDto;
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JumpitFeatureJsonExtractorTest {
+
+    private static final String URL = "https://jumpit.saramin.co.kr/position/51050679";
+
+    private final JumpitPositionJsonLocator jsonLocator = new JumpitPositionJsonLocator();
+    private final JumpitFeatureJsonExtractor jsonExtractor = new JumpitFeatureJsonExtractor(jsonLocator);
+    private final JumpitFeatureDomWalkExtractor domExtractor = new JumpitFeatureDomWalkExtractor(jsonLocator);
+
+    @Test
+    @DisplayName("내장 포지션 JSON 만으로 화면(DOM) 추출과 같은 필드를 채운다")
+    void extract_matchesDomExtraction() throws IOException {
+        String html = Files.readString(Path.of("src/test/resources/sample_jumpit.html"));
+
+        JumpitPositionFeatureDto fromJson = jsonExtractor.extract(html, URL);
+        JumpitPositionFeatureDto fromDom = domExtractor.extract(Jsoup.parse(html, URL), URL);
+
+        assertThat(fromJson).isNotNull();
+        assertThat(fromJson.getTitle()).isEqualTo(fromDom.getTitle());
+        assertThat(fromJson.getCompany()).isEqualTo(fromDom.getCompany());
+        assertThat(fromJson.getTechStacks()).isEqualTo(fromDom.getTechStacks());
+        assertThat(fromJson.getDuties()).isEqualTo(fromDom.getDuties());
+        assertThat(fromJson.getRequirements()).isEqualTo(fromDom.getRequirements());
+        assertThat(fromJson.getPreferred()).isEqualTo(fromDom.getPreferred());
+        assertThat(fromJson.getBenefits()).isEqualTo(fromDom.getBenefits());
+        assertThat(fromJson.getDeadline()).isEqualTo(fromDom.getDeadline());
+        assertThat(fromJson.getLocation()).isEqualTo("서울 종로구 종로3길 24-20 501호");
+    }
+
+    @Test
+    @DisplayName("포지션 JSON 블록이 없으면 null 을 반환한다")
+    void extract_returnsNull_whenBlockMissing() {
+        String html = "<html><body><h1>제목</h1><script>self.__next_f.push([1,\"0:null\"])</script></body></html>";
+
+        assertThat(jsonExtractor.extract(html, URL)).isNull();
+    }
+}
@@ -0,0 +1,55 @@
+package com.wowraid.jobspooncrawler.jumpit.service;
+
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionListDto;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionPage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JumpitPositionStreamParserTest {
+
+    private final JumpitPositionStreamParser parser = new JumpitPositionStreamParser();
+
+    private JumpitPositionPage parse(String json) throws IOException {
+        return parser.parsePage(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("필요 없는 중첩 필드를 건너뛰고 id/closedAt/totalCount 만 읽는다")
+    void parse_skipsUnrelatedFields() throws IOException {
+        String json = """
+                {"message":"success","status":200,
+                 "result":{"page":1,
+                   "positions":[
+                     {"id":51050679,"title":"서버 백엔드 개발[신입]",
+                      "techStacks":["Java","Spring"],"locations":[{"name":"서울"}],
+                      "company":{"id":1,"closedAt":"nested-ignored"},
+                      "closedAt":"2025-08-16 23:59:59"},
+                     {"closedAt":null,"id":"51050680","alwaysOpen":true}
+                   ],
+                   "totalCount":1234}}
+                """;
+
+        JumpitPositionPage page = parse(json);
+
+        assertThat(page.getTotalCount()).isEqualTo(1234);
+        assertThat(page.getPositions()).containsExactly(
+                new JumpitPositionListDto("51050679", "2025-08-16 23:59:59"),
+                // 트리 방식(asText)과 같게 null 은 "null" 로 변환
+                new JumpitPositionListDto("51050680", "null"));
+    }
+
+    @Test
+    @DisplayName("result 가 없으면 빈 페이지와 totalCount 0 을 반환한다")
+    void parse_returnsEmptyPage_whenResultMissing() throws IOException {
+        JumpitPositionPage page = parse("{\"message\":\"fail\",\"status\":500}");
+
+        assertThat(page.getTotalCount()).isZero();
+        assertThat(page.getPositions()).isEmpty();
+    }
+}
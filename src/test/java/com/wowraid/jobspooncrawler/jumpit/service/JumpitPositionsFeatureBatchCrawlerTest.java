@@ -0,0 +1,62 @@
+package com.wowraid.jobspooncrawler.jumpit.service;
+
+import com.wowraid.jobspooncrawler.dedup.DedupIndex;
+import com.wowraid.jobspooncrawler.dedup.config.DedupProperties;
+import com.wowraid.jobspooncrawler.jumpit.config.JumpitProperties;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionFeatureDto;
+import com.wowraid.jobspooncrawler.timer.HostRateLimiters;
+import com.wowraid.jobspooncrawler.trace.CrawlTracer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JumpitPositionsFeatureBatchCrawlerTest {
+
+    @Mock
+    JumpitPositionsFeatureCrawler featureCrawler;
+
+    @TempDir
+    Path stateDir;
+
+    @Test
+    @DisplayName("id 는 상세 URL 로 바꿔 수집하고, 실패한 포지션은 건너뛴다")
+    void crawlAll_mapsIdsAndSkipsFailures() throws IOException {
+        // given
+        JumpitProperties properties = new JumpitProperties();
+        properties.setDetailRequestsPerSecond(1000);
+        JumpitPositionsFeatureBatchCrawler batchCrawler =
+                new JumpitPositionsFeatureBatchCrawler(featureCrawler, properties, new HostRateLimiters(),
+                        new DedupIndex(new DedupProperties(), stateDir.toString(), new SimpleMeterRegistry()),
+                        new SimpleMeterRegistry(), new CrawlTracer(ObservationRegistry.NOOP));
+
+        String okUrl = "https://jumpit.saramin.co.kr/position/51050679";
+        String failUrl = "https://jumpit.saramin.co.kr/position/1";
+        when(featureCrawler.crawl(eq(okUrl), any()))
+                .thenReturn(JumpitPositionFeatureDto.builder().url(okUrl).title("서버 백엔드 개발[신입]").build());
+        when(featureCrawler.crawl(eq(failUrl), any()))
+                .thenThrow(new IOException("크롤링 실패"));
+
+        // when
+        List<JumpitPositionFeatureDto> results =
+                batchCrawler.crawlAll(List.of("51050679", failUrl, okUrl)).collectList().block();
+        batchCrawler.shutdown();
+
+        // then: 중복 URL 은 한 번만 수집
+        assertThat(results).extracting(JumpitPositionFeatureDto::getUrl).containsExactly(okUrl);
+    }
+}
@@ -0,0 +1,166 @@
+package com.wowraid.jobspooncrawler.jumpit.service;
+
+import com.wowraid.jobspooncrawler.dedup.DedupIndex;
+import com.wowraid.jobspooncrawler.dedup.config.DedupProperties;
+import com.wowraid.jobspooncrawler.http.CachingHttpFetcher;
+import com.wowraid.jobspooncrawler.jumpit.config.JumpitProperties;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionListDto;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionPage;
+import com.wowraid.jobspooncrawler.timer.HostRateLimiters;
+import com.wowraid.jobspooncrawler.trace.CrawlTracer;
+import com.wowraid.jobspooncrawler.utility.HostCircuitBreakers;
+import com.wowraid.jobspooncrawler.utility.RetryEngine;
+import com.wowraid.jobspooncrawler.utility.config.RetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JumpitPositionsListCrawlerTest {
+
+    private static final String URL = "https://jumpit-api.saramin.co.kr/api/positions?page=%d";
+    private static final String SOURCE = "jumpit-positions";
+
+    @TempDir
+    Path stateDir;
+
+    // 페이지 번호 → 응답 (없는 페이지는 빈 페이지)
+    private final Map<String, JumpitPositionPage> pages = new ConcurrentHashMap<>();
+    private final List<String> requested = new CopyOnWriteArrayList<>();
+    // 요청하면 서버 오류를 내는 페이지
+    private final Set<String> failing = ConcurrentHashMap.newKeySet();
+    private JumpitWatermarkStore watermarkStore;
+    private JumpitPositionsListCrawler crawler;
+
+    private JumpitPositionsListCrawler crawler() {
+        return crawler(new JumpitProperties());
+    }
+
+    private JumpitPositionsListCrawler crawler(JumpitProperties properties) {
+        CachingHttpFetcher fetcher = mock(CachingHttpFetcher.class);
+        when(fetcher.fetchRevalidated(anyString(), any())).thenAnswer(inv -> {
+            requested.add(inv.getArgument(0));
+            if (failing.contains(inv.<String>getArgument(0))) {
+                throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "bad request", null, null, null);
+            }
+            return pages.getOrDefault(inv.<String>getArgument(0), new JumpitPositionPage(0, List.of()));
+        });
+        properties.setRequestsPerSecond(1000);
+        watermarkStore = new JumpitWatermarkStore(stateDir.toString());
+        crawler = new JumpitPositionsListCrawler(properties, new HostRateLimiters(), watermarkStore, fetcher,
+                new RetryEngine(new RetryProperties()), new HostCircuitBreakers(),
+                new DedupIndex(new DedupProperties(), stateDir.toString(), new SimpleMeterRegistry()),
+                new SimpleMeterRegistry(), new CrawlTracer(ObservationRegistry.NOOP));
+        return crawler;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (crawler != null) crawler.shutdown();
+    }
+
+    // 최신순 목록을 pageSize 씩 나눠 페이지로 등록
+    private void listing(int pageSize, long... idsNewestFirst) {
+        pages.clear();
+        for (int start = 0; start < idsNewestFirst.length; start += pageSize) {
+            List<JumpitPositionListDto> positions = new ArrayList<>();
+            for (int i = start; i < Math.min(start + pageSize, idsNewestFirst.length); i++) {
+                positions.add(new JumpitPositionListDto(Long.toString(idsNewestFirst[i]), "2025-08-16 23:59:59"));
+            }
+            pages.put(String.format(URL, start / pageSize + 1), new JumpitPositionPage(idsNewestFirst.length, positions));
+        }
+    }
+
+    @Test
+    @DisplayName("워터마크에 닿으면 페이징을 멈추고 가장 최신 id 로 워터마크를 갱신한다")
+    void advancesWhenWatermarkReached() {
+        JumpitPositionsListCrawler crawler = crawler();
+        watermarkStore.advance(SOURCE, 100);
+        listing(2, 104, 103, 102, 100, 99, 98);
+
+        List<JumpitPositionListDto> result = crawler.crawlIncremental(URL, SOURCE, 3);
+
+        assertThat(result).extracting(JumpitPositionListDto::getId).containsExactly("104", "103", "102");
+        assertThat(watermarkStore.get(SOURCE)).isEqualTo(104);
+    }
+
+    @Test
+    @DisplayName("워터마크가 있으면 maxPages 를 넘어서라도 워터마크까지 내려가 쌓인 포지션을 한 번에 따라잡는다")
+    void catchesUpPastMaxPagesWhenWatermarkExists() {
+        JumpitPositionsListCrawler crawler = crawler();
+        watermarkStore.advance(SOURCE, 100);
+        listing(2, 108, 107, 106, 105, 104, 103, 102, 101, 100);
+
+        List<JumpitPositionListDto> first = crawler.crawlIncremental(URL, SOURCE, 3);
+
+        assertThat(first).extracting(JumpitPositionListDto::getId)
+                .containsExactly("108", "107", "106", "105", "104", "103", "102", "101");
+        assertThat(watermarkStore.get(SOURCE)).isEqualTo(108);
+
+        // 같은 제한으로 다시 돌면 새 포지션만 받고 같은 포지션을 또 내지 않음
+        listing(2, 109, 108, 107, 106, 105, 104, 103, 102, 101, 100);
+        List<JumpitPositionListDto> second = crawler.crawlIncremental(URL, SOURCE, 3);
+
+        assertThat(second).extracting(JumpitPositionListDto::getId).containsExactly("109");
+        assertThat(watermarkStore.get(SOURCE)).isEqualTo(109);
+    }
+
+    @Test
+    @DisplayName("중간 페이지가 실패하면 워터마크를 유지한다")
+    void keepsWatermarkWhenPageFails() {
+        JumpitPositionsListCrawler crawler = crawler();
+        watermarkStore.advance(SOURCE, 100);
+        listing(2, 104, 103, 102, 101, 100);
+        pages.remove(String.format(URL, 2));
+        failing.add(String.format(URL, 2));
+
+        crawler.crawlIncremental(URL, SOURCE, 0);
+
+        assertThat(watermarkStore.get(SOURCE)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("첫 실행은 maxPages 에서 멈춰도 워터마크를 만든다")
+    void firstRunSetsWatermark() {
+        JumpitPositionsListCrawler crawler = crawler();
+        listing(2, 106, 105, 104, 103, 102, 101);
+
+        crawler.crawlIncremental(URL, SOURCE, 2);
+
+        assertThat(watermarkStore.get(SOURCE)).isEqualTo(106);
+    }
+
+    @Test
+    @DisplayName("병렬 수집 중 빈 페이지를 만나면 그 뒤 페이지는 요청하지 않는다")
+    void parallelStopsSchedulingAfterEmptyPage() {
+        JumpitProperties properties = new JumpitProperties();
+        properties.setListConcurrency(1);
+        JumpitPositionsListCrawler crawler = crawler(properties);
+        listing(2, 110, 109, 108, 107);
+        // totalCount 는 10페이지라고 하지만 3페이지부터 비어 있음
+        pages.put(String.format(URL, 1), new JumpitPositionPage(20, pages.get(String.format(URL, 1)).getPositions()));
+
+        List<JumpitPositionListDto> result = crawler.crawlParallel(URL, 0);
+
+        assertThat(result).extracting(JumpitPositionListDto::getId).containsExactly("110", "109", "108", "107");
+        assertThat(requested).containsExactly(String.format(URL, 1), String.format(URL, 2), String.format(URL, 3));
+    }
+}
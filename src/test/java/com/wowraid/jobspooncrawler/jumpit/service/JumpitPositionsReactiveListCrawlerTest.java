@@ -0,0 +1,120 @@
+package com.wowraid.jobspooncrawler.jumpit.service;
+
+import com.wowraid.jobspooncrawler.dedup.DedupIndex;
+import com.wowraid.jobspooncrawler.dedup.config.DedupProperties;
+import com.wowraid.jobspooncrawler.http.HttpFetchMetrics;
+import com.wowraid.jobspooncrawler.jumpit.config.JumpitProperties;
+import com.wowraid.jobspooncrawler.jumpit.entity.JumpitPositionListDto;
+import com.wowraid.jobspooncrawler.timer.HostRateLimiters;
+import com.wowraid.jobspooncrawler.trace.CrawlTracer;
+import com.wowraid.jobspooncrawler.utility.HostCircuitBreakers;
+import com.wowraid.jobspooncrawler.utility.RetryEngine;
+import com.wowraid.jobspooncrawler.utility.RetryExhaustedException;
+import com.wowraid.jobspooncrawler.utility.config.RetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JumpitPositionsReactiveListCrawlerTest {
+
+    private static final String URL = "https://jumpit-api.saramin.co.kr/api/positions?page=%d";
+
+    // page 값에 따라 totalCount=5, 페이지당 2건 응답 (3페이지는 1건)
+    private static String pageJson(int page) {
+        StringBuilder positions = new StringBuilder();
+        int size = page < 3 ? 2 : page == 3 ? 1 : 0;
+        for (int i = 0; i < size; i++) {
+            if (i > 0) positions.append(',');
+            positions.append("{\"id\":").append(page * 10 + i).append(",\"closedAt\":\"2025-08-16\"}");
+        }
+        return "{\"result\":{\"totalCount\":5,\"positions\":[" + positions + "]}}";
+    }
+
+    private JumpitPositionsReactiveListCrawler crawler() {
+        return crawler(new JumpitProperties(), 0);
+    }
+
+    /**
+     * @param failingPage 항상 503 으로 응답할 페이지 (0 이면 없음)
+     */
+    private JumpitPositionsReactiveListCrawler crawler(JumpitProperties properties, int failingPage) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    int page = Integer.parseInt(UriComponentsBuilder.fromUri(request.url()).build()
+                            .getQueryParams().getFirst("page"));
+                    if (page == failingPage) {
+                        return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+                    }
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(pageJson(page))
+                            .build());
+                })
+                .build();
+        properties.setRequestsPerSecond(1000);
+        RetryProperties retryProperties = new RetryProperties();
+        retryProperties.setBaseDelay(Duration.ofMillis(1));
+        return new JumpitPositionsReactiveListCrawler(webClient, properties, new HostRateLimiters(),
+                new RetryEngine(retryProperties), new HostCircuitBreakers(),
+                new DedupIndex(new DedupProperties(), "build/tmp/dedup-test", new SimpleMeterRegistry()),
+                new HttpFetchMetrics(new SimpleMeterRegistry()), new SimpleMeterRegistry(),
+                new CrawlTracer(ObservationRegistry.NOOP));
+    }
+
+    @Test
+    @DisplayName("totalCount 로 계산한 모든 페이지를 페이지 순서대로 흘려보낸다")
+    void crawl_emitsAllPagesInOrder() {
+        List<JumpitPositionListDto> result = crawler().crawl(URL, 0).collectList().block();
+
+        assertThat(result).extracting(JumpitPositionListDto::getId)
+                .containsExactly("10", "11", "20", "21", "30");
+    }
+
+    @Test
+    @DisplayName("maxPages 를 넘는 페이지는 요청하지 않는다")
+    void crawl_respectsMaxPages() {
+        List<JumpitPositionListDto> result = crawler().crawl(URL, 2).collectList().block();
+
+        assertThat(result).extracting(JumpitPositionListDto::getId)
+                .containsExactly("10", "11", "20", "21");
+    }
+
+    @Test
+    @DisplayName("재시도까지 실패한 페이지가 있으면 앞 페이지까지 보낸 뒤 오류로 끝낸다")
+    void crawl_signalsErrorAfterFetchedPages() {
+        List<String> received = new ArrayList<>();
+
+        assertThatThrownBy(() -> crawler(new JumpitProperties(), 2).crawl(URL, 0)
+                .doOnNext(position -> received.add(position.getId()))
+                .blockLast())
+                .isInstanceOfSatisfying(RetryExhaustedException.class, e ->
+                        assertThat(e.getReason()).isEqualTo(RetryExhaustedException.Reason.MAX_ATTEMPTS));
+        assertThat(received).containsExactly("10", "11");
+    }
+
+    @Test
+    @DisplayName("maxResponseBytes 를 넘는 응답은 모으지 않고 실패한다")
+    void crawl_failsWhenResponseTooLarge() {
+        JumpitProperties properties = new JumpitProperties();
+        properties.setMaxResponseBytes(16);
+
+        assertThatThrownBy(() -> crawler(properties, 0).crawl(URL, 0).blockLast())
+                .hasRootCauseInstanceOf(DataBufferLimitException.class);
+    }
+}
@@ -0,0 +1,29 @@
+package com.wowraid.jobspooncrawler.jumpit.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JumpitWatermarkStoreTest {
+
+    @TempDir
+    Path stateDir;
+
+    @Test
+    @DisplayName("워터마크는 더 큰 id 로만 갱신되고 재시작 후에도 유지된다")
+    void advance_keepsNewestAndSurvivesRestart() {
+        JumpitWatermarkStore store = new JumpitWatermarkStore(stateDir.toString());
+        assertThat(store.get("jumpit-positions")).isZero();
+
+        store.advance("jumpit-positions", 51050679L);
+        store.advance("jumpit-positions", 51000000L); // 더 오래된 id 는 무시
+
+        JumpitWatermarkStore reloaded = new JumpitWatermarkStore(stateDir.toString());
+        assertThat(reloaded.get("jumpit-positions")).isEqualTo(51050679L);
+        assertThat(reloaded.get("other-source")).isZero();
+    }
+}
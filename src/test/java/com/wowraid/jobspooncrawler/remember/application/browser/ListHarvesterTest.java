@@ -0,0 +1,112 @@
+package com.wowraid.jobspooncrawler.remember.application.browser;
+
+import com.wowraid.jobspooncrawler.remember.config.RememberProperties;
+import com.wowraid.jobspooncrawler.remember.dto.JobListingDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class ListHarvesterTest {
+
+    /**
+     * 스크롤할 때마다 준비된 다음 묶음이 "새 항목"으로 나타나는 가짜 페이지.
+     */
+    private static final class FakePage {
+        final Deque<List<List<String>>> batches = new ArrayDeque<>();
+        List<List<String>> unseen;
+        int scrolls;
+        boolean endReached;
+
+        Object run(String script) {
+            if (script.contains("scrollTo")) {
+                scrolls++;
+                if (batches.isEmpty()) {
+                    if (endReached) return "END";
+                    endReached = true;
+                    return "SCROLL";
+                }
+                unseen = batches.poll();
+                return "SCROLL";
+            }
+            if (script.contains("var fresh")) {
+                return List.of((long) (unseen == null ? 0 : unseen.size()), 1_000.0);
+            }
+            List<List<String>> out = unseen == null ? List.of() : unseen;
+            unseen = null;
+            return out;
+        }
+    }
+
+    private static RememberProperties props(int maxSteps) {
+        RememberProperties props = new RememberProperties();
+        props.setListSelector("li > a");
+        props.setReadyQuietWindow(Duration.ofMillis(100));
+        props.setReadyPollInterval(Duration.ofMillis(5));
+        props.getHarvest().setMaxSteps(maxSteps);
+        props.getHarvest().setStepTimeout(Duration.ofMillis(50));
+        return props;
+    }
+
+    private static WebDriver driverFor(FakePage page) {
+        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        when(((JavascriptExecutor) driver).executeScript(anyString(), any()))
+                .thenAnswer(inv -> page.run(inv.getArgument(0)));
+        return driver;
+    }
+
+    @Test
+    @DisplayName("스크롤마다 새 항목만 읽고, 스크롤해도 새 항목이 없으면 종료한다")
+    void harvestsUntilNoNewItems() {
+        FakePage page = new FakePage();
+        page.unseen = List.of(List.of("공고 1", "/p/1"), List.of("공고 2", "/p/2"));
+        page.batches.add(List.of(List.of("공고 3", "/p/3")));
+
+        ListHarvester.Result result = new ListHarvester(props(10)).harvest(driverFor(page));
+
+        assertThat(result.items()).extracting(JobListingDto::getDetailurl).containsExactly("/p/1", "/p/2", "/p/3");
+        assertThat(result.steps()).isEqualTo(2);
+        assertThat(result.stopReason()).isEqualTo(ListHarvester.StopReason.NO_NEW_ITEMS);
+    }
+
+    @Test
+    @DisplayName("maxSteps 에 도달하면 그때까지 모은 항목으로 종료한다")
+    void stopsAtMaxSteps() {
+        FakePage page = new FakePage();
+        page.unseen = List.of(List.of("공고 1", "/p/1"));
+        page.batches.add(List.of(List.of("공고 2", "/p/2")));
+        page.batches.add(List.of(List.of("공고 3", "/p/3")));
+
+        ListHarvester.Result result = new ListHarvester(props(1)).harvest(driverFor(page));
+
+        assertThat(result.items()).hasSize(2);
+        assertThat(result.stopReason()).isEqualTo(ListHarvester.StopReason.MAX_STEPS);
+    }
+
+    @Test
+    @DisplayName("수집 루프를 끄면 첫 화면 항목만 읽고 스크롤하지 않는다")
+    void disabledReadsFirstScreenOnly() {
+        FakePage page = new FakePage();
+        page.unseen = List.of(List.of("공고 1", "/p/1"));
+        page.batches.add(List.of(List.of("공고 2", "/p/2")));
+        RememberProperties props = props(10);
+        props.getHarvest().setEnabled(false);
+
+        ListHarvester.Result result = new ListHarvester(props).harvest(driverFor(page));
+
+        assertThat(result.items()).hasSize(1);
+        assertThat(page.scrolls).isZero();
+    }
+}
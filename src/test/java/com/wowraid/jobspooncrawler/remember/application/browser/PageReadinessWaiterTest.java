@@ -0,0 +1,73 @@
+package com.wowraid.jobspooncrawler.remember.application.browser;
+
+import com.wowraid.jobspooncrawler.remember.config.RememberProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class PageReadinessWaiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private PageReadinessWaiter waiter(long waitMillis) {
+        RememberProperties props = new RememberProperties();
+        props.setListSelector("ul li");
+        props.setWaitMillis(waitMillis);
+        props.setReadyQuietWindow(Duration.ofMillis(300));
+        props.setReadyPollInterval(Duration.ofMillis(5));
+        return new PageReadinessWaiter(props, registry);
+    }
+
+    private WebDriver driver() {
+        return mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    }
+
+    @Test
+    @DisplayName("목록 항목이 있고 DOM 변경이 quietWindow 만큼 없으면 바로 준비 완료")
+    void readyWhenItemsPresentAndQuiet() {
+        WebDriver driver = driver();
+        when(((JavascriptExecutor) driver).executeScript(anyString(), any()))
+                .thenReturn(List.of(0L, 0.0), List.of(12L, 40.0), List.of(12L, 350.0));
+
+        boolean ready = waiter(5_000).await(driver);
+
+        assertThat(ready).isTrue();
+        assertThat(registry.get("crawler.remember.page.ready").tag("outcome", "ready").timer().count()).isEqualTo(1);
+        assertThat(registry.get("crawler.remember.page.ready").tag("outcome", "ready").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isLessThan(5_000);
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간을 넘기면 false 를 반환하고 timeout 으로 기록")
+    void timesOutWhenListNeverRenders() {
+        WebDriver driver = driver();
+        when(((JavascriptExecutor) driver).executeScript(anyString(), any())).thenReturn(List.of(0L, 1_000.0));
+
+        boolean ready = waiter(50).await(driver);
+
+        assertThat(ready).isFalse();
+        assertThat(registry.get("crawler.remember.page.ready").tag("outcome", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("probe 결과 형식이 잘못되면 준비되지 않은 것으로 본다")
+    void malformedProbeIsNotReady() {
+        assertThat(PageReadinessWaiter.isReady(null, 300)).isFalse();
+        assertThat(PageReadinessWaiter.isReady(List.of(3L), 300)).isFalse();
+        assertThat(PageReadinessWaiter.isReady(List.of(3L, 299.9), 300)).isFalse();
+        assertThat(PageReadinessWaiter.isReady(List.of(3L, 300L), 300)).isTrue();
+    }
+}
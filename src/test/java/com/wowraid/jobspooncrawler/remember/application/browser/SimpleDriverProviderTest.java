@@ -0,0 +1,92 @@
+package com.wowraid.jobspooncrawler.remember.application.browser;
+
+import com.wowraid.jobspooncrawler.remember.config.ChromeProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class SimpleDriverProviderTest {
+
+    @SuppressWarnings("unchecked")
+    private static List<String> args(ChromeOptions options) {
+        Map<String, Object> chrome = (Map<String, Object>) options.asMap().get(ChromeOptions.CAPABILITY);
+        return (List<String>) chrome.get("args");
+    }
+
+    @Test
+    @DisplayName("headless 프로파일이면 헤드리스/GPU·확장 비활성 인자와 EAGER 로딩을 넣는다")
+    void headlessProfileArguments() {
+        ChromeProperties props = new ChromeProperties();
+        props.setUserAgent("TestAgent/1.0");
+
+        ChromeOptions options = new SimpleDriverProvider(props).chromeOptions();
+
+        assertThat(args(options)).contains(
+                "--headless=new", "--disable-gpu", "--disable-extensions", "--no-first-run",
+                "--blink-settings=imagesEnabled=false", "--user-agent=TestAgent/1.0");
+        assertThat(options.asMap().get("pageLoadStrategy")).hasToString("eager");
+        assertThat(args(options)).doesNotContain("--no-sandbox");
+    }
+
+    @Test
+    @DisplayName("noSandbox 를 켠 경우에만 렌더러 샌드박스를 끈다")
+    void noSandboxIsOptIn() {
+        ChromeProperties props = new ChromeProperties();
+        props.setNoSandbox(true);
+
+        assertThat(args(new SimpleDriverProvider(props).chromeOptions())).contains("--no-sandbox");
+    }
+
+    @Test
+    @DisplayName("headless 와 차단을 끄면 GUI 실행 인자만 남는다")
+    void guiProfileArguments() {
+        ChromeProperties props = new ChromeProperties();
+        props.setHeadless(false);
+        props.setBlockResources(false);
+
+        ChromeOptions options = new SimpleDriverProvider(props).chromeOptions();
+
+        assertThat(args(options)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("차단 URL 목록은 확장자 패턴과 분석 호스트 와일드카드를 합친 것이다")
+    void blockedUrlsIncludeHosts() {
+        ChromeProperties props = new ChromeProperties();
+        props.setBlockedUrlPatterns(List.of("*.png"));
+        props.setBlockedHosts(List.of("google-analytics.com"));
+
+        assertThat(new SimpleDriverProvider(props).blockedUrls())
+                .containsExactly("*.png", "*google-analytics.com*");
+    }
+
+    @Test
+    @DisplayName("CDP Performance.getMetrics 의 JSHeapUsedSize 를 렌더러 힙으로 기록한다")
+    void recordsRendererHeap() {
+        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(HasCdp.class));
+        when(((HasCdp) driver).executeCdpCommand(eq("Performance.getMetrics"), anyMap()))
+                .thenReturn(Map.of("metrics", List.of(
+                        Map.of("name", "Nodes", "value", 120),
+                        Map.of("name", "JSHeapUsedSize", "value", 4_194_304))));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new BrowserPageMetrics(new ChromeProperties(), registry).record(driver, 1_000_000L);
+
+        assertThat(registry.get("crawler.remember.renderer.heap").summary().totalAmount()).isEqualTo(4_194_304);
+        assertThat(registry.get("crawler.remember.page.load").tag("headless", "true").timer().count()).isEqualTo(1);
+        assertThat(BrowserPageMetrics.jsHeapUsed(mock(WebDriver.class))).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,126 @@
+package com.wowraid.jobspooncrawler.remember.application.browser;
+
+import com.wowraid.jobspooncrawler.utility.CircuitOpenException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebDriverPoolTest {
+
+    private final List<WebDriver> created = new ArrayList<>();
+
+    private WebDriverPool pool(int size, int maxPageLoads) {
+        return new WebDriverPool(() -> {
+            WebDriver driver = mock(WebDriver.class);
+            created.add(driver);
+            return driver;
+        }, size, Duration.ofMillis(100), maxPageLoads);
+    }
+
+    @Test
+    @DisplayName("반납한 세션을 재사용하고, 페이지를 maxPageLoads 번 열면 종료 후 새로 만든다")
+    void reusesUntilMaxPageLoads() {
+        WebDriverPool pool = pool(1, 2);
+
+        WebDriver first = pool.execute(driver -> load(pool, driver));
+        WebDriver second = pool.execute(driver -> load(pool, driver));
+        WebDriver third = pool.execute(driver -> load(pool, driver));
+
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first);
+        verify(first).quit();
+        assertThat(created).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("페이지를 열지 않은 대여는 교체 주기에 세지 않는다")
+    void countsPageLoadsNotBorrows() {
+        WebDriverPool pool = pool(1, 2);
+
+        WebDriver first = pool.execute(driver -> driver);
+        pool.execute(driver -> driver);
+        pool.execute(driver -> load(pool, driver));
+        WebDriver fourth = pool.execute(driver -> {
+            // 한 번 대여로 여러 페이지를 열어도 모두 셈
+            pool.recordPageLoad(driver);
+            return load(pool, driver);
+        });
+        WebDriver fifth = pool.execute(driver -> driver);
+
+        assertThat(fourth).isSameAs(first);
+        assertThat(fifth).isNotSameAs(first);
+        verify(first).quit();
+    }
+
+    private static WebDriver load(WebDriverPool pool, WebDriver driver) {
+        pool.recordPageLoad(driver);
+        return driver;
+    }
+
+    @Test
+    @DisplayName("사용 중 오류가 난 세션은 버리고 예외를 그대로 던진다")
+    void discardsDriverOnError() {
+        WebDriverPool pool = pool(1, 10);
+
+        assertThatThrownBy(() -> pool.execute(driver -> {
+            throw new WebDriverException("renderer crashed");
+        })).isInstanceOf(WebDriverException.class);
+
+        verify(created.get(0)).quit();
+        WebDriver next = pool.execute(driver -> driver);
+        assertThat(next).isNotSameAs(created.get(0));
+    }
+
+    @Test
+    @DisplayName("호스트 차단으로 페이지를 열지 않았으면 세션을 버리지 않는다")
+    void keepsDriverWhenCircuitOpen() {
+        WebDriverPool pool = pool(1, 10);
+
+        assertThatThrownBy(() -> pool.execute(driver -> {
+            throw new CircuitOpenException("www.rememberapp.co.kr");
+        })).isInstanceOf(CircuitOpenException.class);
+
+        verify(created.get(0), never()).quit();
+        WebDriver next = pool.execute(driver -> driver);
+        assertThat(next).isSameAs(created.get(0));
+    }
+
+    @Test
+    @DisplayName("빌려줄 때 죽은 세션은 폐기하고 새 세션을 준다")
+    void replacesUnhealthyDriverOnBorrow() {
+        WebDriverPool pool = pool(1, 10);
+        WebDriver first = pool.execute(driver -> driver);
+        when(first.getWindowHandle()).thenThrow(new NoSuchSessionException("session deleted"));
+
+        WebDriver next = pool.execute(driver -> driver);
+
+        assertThat(next).isNotSameAs(first);
+        verify(first).quit();
+    }
+
+    @Test
+    @DisplayName("모든 세션이 대여 중이면 borrowTimeout 후 실패한다")
+    void borrowTimesOutWhenExhausted() {
+        WebDriverPool pool = pool(1, 10);
+        WebDriverPool.PooledDriver held = pool.borrow();
+
+        assertThatThrownBy(pool::borrow).isInstanceOf(WebDriverPoolException.class);
+
+        pool.giveBack(held, false);
+        verify(held.driver(), never()).quit();
+        assertThat(pool.borrow().driver()).isSameAs(held.driver());
+    }
+}
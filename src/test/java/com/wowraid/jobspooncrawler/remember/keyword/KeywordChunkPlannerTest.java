@@ -0,0 +1,99 @@
+package com.wowraid.jobspooncrawler.remember.keyword;
+
+import com.wowraid.jobspooncrawler.remember.config.RememberProperties;
+import com.wowraid.jobspooncrawler.remember.dto.ChunkCoverageDto;
+import com.wowraid.jobspooncrawler.remember.dto.KeywordPlanDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordChunkPlannerTest {
+
+    private static final String LEVEL1 = "SW개발";
+
+    @TempDir
+    Path stateDir;
+
+    private KeywordChunkPlanner planner(KeywordYieldStore store) {
+        RememberProperties props = new RememberProperties();
+        props.getChunking().setTargetItemsPerChunk(100);
+        props.getChunking().setMaxKeywordsPerChunk(4);
+        props.getChunking().setDefaultChunkSize(5);
+        props.getChunking().setSmoothing(1.0);
+        return new KeywordChunkPlanner(store, props);
+    }
+
+    private static ChunkCoverageDto coverage(int items, String stop) {
+        return new ChunkCoverageDto("u", "dom", items, 0, 10, stop);
+    }
+
+    @Test
+    @DisplayName("통계가 없으면 기본 크기로 묶어 모든 키워드를 조회한다")
+    void coldStartUsesDefaultChunkSize() {
+        KeywordChunkPlanner planner = planner(new KeywordYieldStore(stateDir.toString()));
+
+        List<KeywordChunkPlanner.KeywordChunk> chunks =
+                planner.plan(LEVEL1, List.of("a", "b", "c", "d", "e", "f", "g", " "));
+
+        assertThat(chunks).extracting(KeywordChunkPlanner.KeywordChunk::keywords)
+                .containsExactly(List.of("a", "b", "c", "d", "e"), List.of("f", "g"));
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.predictedItems()).isNull());
+    }
+
+    @Test
+    @DisplayName("결과가 적은 키워드는 묶고, 목표를 넘는 키워드는 혼자 청크를 갖는다")
+    void packsLowYieldAndIsolatesHighYield() {
+        KeywordYieldStore store = new KeywordYieldStore(stateDir.toString());
+        store.put(LEVEL1, "backend", 150);
+        store.put(LEVEL1, "frontend", 60);
+        store.put(LEVEL1, "devops", 30);
+        store.put(LEVEL1, "embedded", 5);
+        store.put(LEVEL1, "qa", 0);
+
+        List<KeywordChunkPlanner.KeywordChunk> chunks =
+                planner(store).plan(LEVEL1, List.of("backend", "frontend", "devops", "embedded", "qa"));
+
+        assertThat(chunks).extracting(KeywordChunkPlanner.KeywordChunk::keywords)
+                .containsExactly(List.of("backend"), List.of("frontend", "devops", "embedded", "qa"));
+        assertThat(chunks.get(1).predictedItems()).isEqualTo(95.0);
+    }
+
+    @Test
+    @DisplayName("실행 결과로 추정치를 갱신해 저장하고, 상한에 걸린 청크는 다음 계획에서 나뉜다")
+    void learnsFromRunAndSplitsSaturatedChunk() {
+        KeywordChunkPlanner first = planner(new KeywordYieldStore(stateDir.toString()));
+        List<KeywordChunkPlanner.KeywordChunk> chunks = first.plan(LEVEL1, List.of("a", "b", "c"));
+
+        KeywordPlanDto recorded = first.record(chunks, List.of(coverage(90, "MAX_STEPS")));
+
+        assertThat(recorded.getPredictedLoads()).isEqualTo(1);
+        assertThat(recorded.getActualLoads()).isEqualTo(1);
+        assertThat(first.getLastPlan()).isSameAs(recorded);
+
+        // 재시작 후에도 파일에서 읽은 추정치(90*2/3 = 60 씩)로 계획
+        KeywordChunkPlanner restarted = planner(new KeywordYieldStore(stateDir.toString()));
+        KeywordPlanDto preview = restarted.preview(Map.of(LEVEL1, List.of("a", "b", "c")));
+        assertThat(preview.getPredictedLoads()).isEqualTo(3);
+        assertThat(preview.getBaselineLoads()).isEqualTo(1);
+        assertThat(preview.getActualLoads()).isNull();
+        assertThat(preview.getChunks()).allSatisfy(chunk -> assertThat(chunk.getPredictedItems()).isEqualTo(60L));
+    }
+
+    @Test
+    @DisplayName("실패한 청크는 추정치를 바꾸지 않는다")
+    void failedChunkDoesNotUpdate() {
+        KeywordYieldStore store = new KeywordYieldStore(stateDir.toString());
+        KeywordChunkPlanner planner = planner(store);
+        List<KeywordChunkPlanner.KeywordChunk> chunks = planner.plan(LEVEL1, List.of("a"));
+
+        planner.record(chunks, List.of(coverage(0, "FAILED")));
+
+        assertThat(store.get(LEVEL1, "a")).isNull();
+    }
+}
@@ -0,0 +1,77 @@
+package com.wowraid.jobspooncrawler.remember.service;
+
+import com.wowraid.jobspooncrawler.remember.application.browser.BrowserPageMetrics;
+import com.wowraid.jobspooncrawler.remember.application.browser.ListHarvester;
+import com.wowraid.jobspooncrawler.remember.application.browser.PageReadinessWaiter;
+import com.wowraid.jobspooncrawler.remember.application.browser.WebDriverPool;
+import com.wowraid.jobspooncrawler.remember.config.ChromeProperties;
+import com.wowraid.jobspooncrawler.remember.config.RememberProperties;
+import com.wowraid.jobspooncrawler.remember.dto.JobListingDto;
+import com.wowraid.jobspooncrawler.trace.CrawlTracer;
+import com.wowraid.jobspooncrawler.utility.HostCircuitBreakers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * NETWORK 모드에서 응답을 캡처하지 못해 DOM 수집으로 넘어가는 경로 검증.
+ */
+class CrawlerServiceCaptureTest {
+
+    private final ListHarvester listHarvester = mock(ListHarvester.class);
+    private final ListParseService listParseService = mock(ListParseService.class);
+    private final BrowserPageMetrics pageMetrics = mock(BrowserPageMetrics.class);
+    private CrawlerService crawlerService;
+
+    @AfterEach
+    void tearDown() {
+        if (crawlerService != null) crawlerService.shutdown();
+    }
+
+    private CrawlerService service() {
+        RememberProperties rememberProperties = new RememberProperties();
+        rememberProperties.setWaitMillis(50);
+        rememberProperties.setReadyPollInterval(Duration.ofMillis(10));
+        crawlerService = new CrawlerService(null, mock(WebDriverPool.class), rememberProperties, listParseService,
+                new HostCircuitBreakers(), new ChromeProperties(), pageMetrics, mock(PageReadinessWaiter.class),
+                null, null, listHarvester, new SimpleMeterRegistry(), null, null,
+                new CrawlTracer(ObservationRegistry.NOOP));
+        return crawlerService;
+    }
+
+    // DevTools 연결은 되지만 매칭 응답은 오지 않는 드라이버
+    private static WebDriver devToolsDriver() {
+        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(HasDevTools.class));
+        when(((HasDevTools) driver).getDevTools()).thenReturn(mock(DevTools.class));
+        return driver;
+    }
+
+    @Test
+    @DisplayName("캡처 실패 후 DOM 수집에서 셀렉터가 JavascriptException 을 내면 페이지 소스 파싱으로 대체한다")
+    void captureFallbackParsesPageSourceOnJavascriptException() {
+        CrawlerService service = service();
+        WebDriver driver = devToolsDriver();
+        List<JobListingDto> parsed = List.of(new JobListingDto("백엔드 개발자", "/job/1"));
+        when(listHarvester.harvest(driver)).thenThrow(new JavascriptException("invalid selector"));
+        when(pageMetrics.pageSource(driver)).thenReturn("<html></html>");
+        when(listParseService.parse("<html></html>")).thenReturn(parsed);
+
+        ListHarvester.Result result = service.fetchCaptured(driver, "https://career.rememberapp.co.kr/job/postings");
+
+        assertThat(result.items()).isEqualTo(parsed);
+    }
+}
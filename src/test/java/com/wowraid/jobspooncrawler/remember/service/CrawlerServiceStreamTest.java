@@ -0,0 +1,147 @@
+package com.wowraid.jobspooncrawler.remember.service;
+
+import com.wowraid.jobspooncrawler.dedup.DedupIndex;
+import com.wowraid.jobspooncrawler.dedup.config.DedupProperties;
+import com.wowraid.jobspooncrawler.remember.config.ChromeProperties;
+import com.wowraid.jobspooncrawler.remember.config.RememberProperties;
+import com.wowraid.jobspooncrawler.remember.dto.ChunkCoverageDto;
+import com.wowraid.jobspooncrawler.remember.dto.JobListingDto;
+import com.wowraid.jobspooncrawler.remember.keyword.KeywordChunkPlanner;
+import com.wowraid.jobspooncrawler.remember.keyword.KeywordYieldStore;
+import com.wowraid.jobspooncrawler.remember.keyword.RememberKeywordService;
+import com.wowraid.jobspooncrawler.trace.CrawlTracer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CrawlerServiceStreamTest {
+
+    @TempDir
+    Path stateDir;
+
+    private CrawlerService crawlerService;
+    // 목록 API 호출마다 실행 (청크 작업을 붙잡아 두는 테스트용)
+    private Runnable onFetch = () -> {
+    };
+
+    @AfterEach
+    void tearDown() {
+        if (crawlerService != null) crawlerService.shutdown();
+    }
+
+    // API 모드: 청크(level1)마다 목록 API 응답 2건, 두 청크에 같은 공고 1건이 겹침
+    private CrawlerService service(Set<String> threads) {
+        RememberKeywordService keywordService = mock(RememberKeywordService.class);
+        when(keywordService.getLevel2keywords("SW개발")).thenReturn(List.of("backend"));
+        when(keywordService.getLevel2keywords("AI·데이터")).thenReturn(List.of("ml"));
+        when(keywordService.toQueryString(anyString(), anyList()))
+                .thenAnswer(inv -> inv.getArgument(0).equals("SW개발") ? "sw" : "ai");
+
+        ListingApiClient apiClient = mock(ListingApiClient.class);
+        when(apiClient.isConfigured()).thenReturn(true);
+        when(apiClient.fetch(anyString())).thenAnswer(inv -> {
+            threads.add(Thread.currentThread().getName());
+            onFetch.run();
+            String query = inv.getArgument(0);
+            return List.of(new JobListingDto(query + " 공고", "/job/" + query),
+                    new JobListingDto("공통 공고", "/job/shared"));
+        });
+
+        RememberProperties rememberProperties = new RememberProperties();
+        rememberProperties.setMode(RememberProperties.FetchMode.API);
+        KeywordChunkPlanner planner =
+                new KeywordChunkPlanner(new KeywordYieldStore(stateDir.toString()), rememberProperties);
+        DedupIndex dedupIndex = new DedupIndex(new DedupProperties(), stateDir.toString(), new SimpleMeterRegistry());
+
+        crawlerService = new CrawlerService(keywordService, null, rememberProperties, null, null,
+                new ChromeProperties(), null, null, null, apiClient, null, new SimpleMeterRegistry(),
+                planner, dedupIndex, new CrawlTracer(ObservationRegistry.NOOP));
+        return crawlerService;
+    }
+
+    @Test
+    @DisplayName("청크별 공고를 전용 스케줄러에서 수집해 중복 없이 흘려보내고, 완료 시 커버리지를 남긴다")
+    void streamsChunksOnBoundedScheduler() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CrawlerService service = service(threads);
+
+        List<JobListingDto> streamed = service.streamListings().collectList().block();
+
+        assertThat(streamed).extracting(JobListingDto::getDetailurl)
+                .containsExactlyInAnyOrder("/job/sw", "/job/ai", "/job/shared");
+        assertThat(threads).allSatisfy(name -> assertThat(name).startsWith("remember-chunk"));
+        assertThat(service.getLastCoverage()).extracting(ChunkCoverageDto::getItems).containsExactly(2, 2);
+    }
+
+    @Test
+    @DisplayName("전체 결과 수집은 청크 순서를 유지한다")
+    void collectKeepsChunkOrder() {
+        CrawlerService service = service(ConcurrentHashMap.newKeySet());
+
+        List<JobListingDto> collected = service.fetchLiElements();
+
+        assertThat(collected).extracting(JobListingDto::getDetailurl)
+                .containsExactly("/job/sw", "/job/shared", "/job/ai");
+    }
+
+    @Test
+    @DisplayName("기다리던 스레드가 인터럽트되면 이미 돌고 있는 청크가 끝난 뒤에 취소로 끝난다")
+    void interruptWaitsForRunningChunks() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean chunkDone = new AtomicBoolean();
+        onFetch = () -> {
+            started.countDown();
+            // 인터럽트에 반응하지 않는 브라우저 작업 흉내
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                }
+            }
+            chunkDone.set(true);
+        };
+        CrawlerService service = service(ConcurrentHashMap.newKeySet());
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        AtomicBoolean chunkDoneAtExit = new AtomicBoolean();
+        Thread caller = new Thread(() -> {
+            try {
+                service.fetchLiElements();
+            } catch (RuntimeException e) {
+                error.set(e);
+            }
+            chunkDoneAtExit.set(chunkDone.get());
+        });
+        caller.start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        caller.interrupt();
+        caller.join(200);
+        assertThat(caller.isAlive()).isTrue();
+
+        release.countDown();
+        caller.join(5000);
+        assertThat(caller.isAlive()).isFalse();
+        assertThat(error.get()).isInstanceOf(CancellationException.class);
+        assertThat(chunkDoneAtExit).isTrue();
+    }
+}
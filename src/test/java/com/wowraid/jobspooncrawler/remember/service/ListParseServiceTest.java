@@ -2,11 +2,14 @@ package com.wowraid.jobspooncrawler.remember.service;
 
 import com.wowraid.jobspooncrawler.remember.config.RememberProperties;
 import com.wowraid.jobspooncrawler.remember.dto.JobListingDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
@@ -26,6 +29,9 @@ class ListParseServiceTest {
     @Mock
     RememberProperties rememberProperties;
 
+    @Spy
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     ListParseService listParseService;
 
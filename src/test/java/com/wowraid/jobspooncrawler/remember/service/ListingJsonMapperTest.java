@@ -0,0 +1,69 @@
+package com.wowraid.jobspooncrawler.remember.service;
+
+import com.wowraid.jobspooncrawler.remember.config.RememberProperties;
+import com.wowraid.jobspooncrawler.remember.dto.JobListingDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ListingJsonMapper 단위 테스트.
+ * - 설정한 JSON Pointer 로 공고 배열/제목/id 를 찾는지
+ * - 형식이 다른 응답은 빈 목록이 되는지
+ */
+class ListingJsonMapperTest {
+
+    private static final String BODY = """
+            {"data":[
+              {"id":101,"title":"백엔드 개발자","organization":{"name":"A사"}},
+              {"id":102,"title":"  "},
+              {"id":103,"title":"데이터 엔지니어"}
+            ],"meta":{"total_count":3}}
+            """;
+
+    @Test
+    @DisplayName("given: 기본 설정 when: 목록 JSON 변환 then: 제목 없는 항목을 빼고 상세 URL 을 id 로 만든다")
+    void mapsDefaultContract() {
+        ListingJsonMapper mapper = new ListingJsonMapper(new RememberProperties());
+
+        List<JobListingDto> results = mapper.map(BODY);
+
+        assertThat(results).extracting(JobListingDto::getTitle).containsExactly("백엔드 개발자", "데이터 엔지니어");
+        assertThat(results).extracting(JobListingDto::getDetailurl).containsExactly(
+                "https://career.rememberapp.co.kr/job/posting/101",
+                "https://career.rememberapp.co.kr/job/posting/103");
+    }
+
+    @Test
+    @DisplayName("given: 다른 응답 구조 when: 포인터 설정 변경 then: 설정된 위치에서 읽는다")
+    void followsConfiguredPointers() throws Exception {
+        RememberProperties props = new RememberProperties();
+        props.getApi().setItemsPointer("/result/items");
+        props.getApi().setTitlePointer("/posting/name");
+        props.getApi().setIdPointer("/posting/key");
+        props.getApi().setDetailUrlTemplate("https://example.com/p/{id}");
+        String body = "{\"result\":{\"items\":[{\"posting\":{\"name\":\"ML 엔지니어\",\"key\":\"abc\"}}]}}";
+
+        List<JobListingDto> results = new ListingJsonMapper(props)
+                .map(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(results).singleElement().satisfies(dto -> {
+            assertThat(dto.getTitle()).isEqualTo("ML 엔지니어");
+            assertThat(dto.getDetailurl()).isEqualTo("https://example.com/p/abc");
+        });
+    }
+
+    @Test
+    @DisplayName("given: 배열이 없거나 JSON 이 아닌 응답 when: 변환 then: 빈 목록")
+    void malformedResponsesAreEmpty() {
+        ListingJsonMapper mapper = new ListingJsonMapper(new RememberProperties());
+
+        assertThat(mapper.map("{\"data\":{}}")).isEmpty();
+        assertThat(mapper.map("<html></html>")).isEmpty();
+    }
+}
@@ -0,0 +1,162 @@
+package com.wowraid.jobspooncrawler.schedule;
+
+import com.wowraid.jobspooncrawler.schedule.config.CrawlScheduleProperties;
+import com.wowraid.jobspooncrawler.schedule.dto.CrawlRunDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CrawlSchedulerTest {
+
+    private CrawlScheduler scheduler;
+
+    private static ScheduledCrawl crawl(String source, Callable<Integer> body) {
+        return new ScheduledCrawl() {
+            @Override
+            public String source() {
+                return source;
+            }
+
+            @Override
+            public int run() throws Exception {
+                return body.call();
+            }
+        };
+    }
+
+    private CrawlScheduler scheduler(Duration maxRuntime, ScheduledCrawl... crawls) {
+        CrawlScheduleProperties props = new CrawlScheduleProperties();
+        props.setHistorySize(3);
+        for (ScheduledCrawl crawl : crawls) {
+            CrawlScheduleProperties.Source source = new CrawlScheduleProperties.Source();
+            source.setInterval(Duration.ofHours(1));
+            source.setMaxRuntime(maxRuntime);
+            props.getSources().put(crawl.source(), source);
+        }
+        scheduler = new CrawlScheduler(props, List.of(crawls), new SimpleMeterRegistry());
+        return scheduler;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공한 실행은 항목 수와 함께 기록되고, 기록은 historySize 개까지만 남는다")
+    void recordsSuccessfulRuns() {
+        CrawlScheduler scheduler = scheduler(Duration.ofSeconds(5), crawl("jumpit-list", () -> 7));
+
+        for (int i = 0; i < 5; i++) {
+            scheduler.run("jumpit-list", CrawlRunDto.Trigger.SCHEDULED);
+        }
+
+        List<CrawlRunDto> history = scheduler.history("jumpit-list", 10);
+        assertThat(history).hasSize(3);
+        assertThat(history).allSatisfy(run -> {
+            assertThat(run.getOutcome()).isEqualTo(CrawlRunDto.Outcome.SUCCESS);
+            assertThat(run.getItems()).isEqualTo(7);
+        });
+        assertThat(scheduler.status()).singleElement()
+                .satisfies(status -> assertThat(status.getLastRun().getItems()).isEqualTo(7));
+    }
+
+    @Test
+    @DisplayName("같은 소스가 실행 중이면 다음 실행은 건너뛴다")
+    void skipsOverlappingRun() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CrawlScheduler scheduler = scheduler(Duration.ofSeconds(5), crawl("remember-list", () -> {
+            started.countDown();
+            release.await();
+            return 1;
+        }));
+
+        CompletableFuture<CrawlRunDto> first =
+                CompletableFuture.supplyAsync(() -> scheduler.run("remember-list", CrawlRunDto.Trigger.SCHEDULED));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CrawlRunDto second = scheduler.run("remember-list", CrawlRunDto.Trigger.SCHEDULED);
+        assertThat(second.getOutcome()).isEqualTo(CrawlRunDto.Outcome.SKIPPED);
+        assertThat(scheduler.triggerNow("remember-list")).isFalse();
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getOutcome()).isEqualTo(CrawlRunDto.Outcome.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("수동 실행은 예약 스레드를 쓰지 않고 백그라운드에서 돌아 MANUAL 로 기록된다")
+    void manualRunDoesNotUseScheduleThread() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CrawlScheduler scheduler = scheduler(Duration.ofSeconds(5), crawl("remember-list", () -> {
+            release.await();
+            return 3;
+        }));
+        // 예약 스레드(소스 수만큼, 여기선 1개)가 수동 실행으로 막히지 않는지 확인
+        scheduler.triggerNow("remember-list");
+        CompletableFuture<String> probe = new CompletableFuture<>();
+        scheduler.taskScheduler().execute(() -> probe.complete(Thread.currentThread().getName()));
+
+        assertThat(probe.get(5, TimeUnit.SECONDS)).startsWith("crawl-schedule-");
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.history("remember-list", 1).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(scheduler.history("remember-list", 1)).singleElement().satisfies(run -> {
+            assertThat(run.getTrigger()).isEqualTo(CrawlRunDto.Trigger.MANUAL);
+            assertThat(run.getItems()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("maxRuntime 을 넘기면 인터럽트하고 TIMEOUT 으로 기록한다")
+    void interruptsAfterMaxRuntime() throws Exception {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch finished = new CountDownLatch(1);
+        CrawlScheduler scheduler = scheduler(Duration.ofMillis(100), crawl("remember-list", () -> {
+            try {
+                Thread.sleep(10_000);
+                return 1;
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                throw e;
+            } finally {
+                finished.countDown();
+            }
+        }));
+
+        CrawlRunDto run = scheduler.run("remember-list", CrawlRunDto.Trigger.MANUAL);
+
+        assertThat(run.getOutcome()).isEqualTo(CrawlRunDto.Outcome.TIMEOUT);
+        assertThat(run.getItems()).isNull();
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패한 실행은 오류와 함께 기록하고, 알 수 없는 소스는 수동 실행을 거부한다")
+    void recordsFailureAndRejectsUnknownSource() {
+        CrawlScheduler scheduler = scheduler(Duration.ofSeconds(5), crawl("jumpit-list", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        CrawlRunDto run = scheduler.run("jumpit-list", CrawlRunDto.Trigger.SCHEDULED);
+
+        assertThat(run.getOutcome()).isEqualTo(CrawlRunDto.Outcome.FAILED);
+        assertThat(run.getError()).contains("boom");
+        assertThatThrownBy(() -> scheduler.triggerNow("unknown")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
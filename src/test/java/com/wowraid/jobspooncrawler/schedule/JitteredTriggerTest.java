@@ -0,0 +1,65 @@
+package com.wowraid.jobspooncrawler.schedule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JitteredTriggerTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneId.of("UTC"));
+
+    @Test
+    @DisplayName("interval 모드는 첫 실행을 initialDelay 뒤에, 이후는 이전 실행 종료 + interval 에 잡는다")
+    void intervalCountsFromLastCompletion() {
+        JitteredTrigger trigger = new JitteredTrigger(null, Duration.ofMinutes(30), Duration.ofMinutes(1),
+                Duration.ZERO, CLOCK);
+
+        assertThat(trigger.nextExecution(new SimpleTriggerContext(CLOCK))).isEqualTo(NOW.plus(Duration.ofMinutes(1)));
+
+        Instant completed = NOW.plus(Duration.ofMinutes(45));
+        SimpleTriggerContext context = new SimpleTriggerContext(NOW, NOW, completed);
+        assertThat(trigger.nextExecution(context)).isEqualTo(completed.plus(Duration.ofMinutes(30)));
+    }
+
+    @Test
+    @DisplayName("jitter 는 0 이상 jitter 이하의 지연만 더한다")
+    void jitterStaysWithinBound() {
+        JitteredTrigger trigger = new JitteredTrigger(null, Duration.ofMinutes(10), Duration.ZERO,
+                Duration.ofSeconds(30), CLOCK);
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(trigger.nextExecution(new SimpleTriggerContext(CLOCK)))
+                    .isBetween(NOW, NOW.plusSeconds(30));
+        }
+    }
+
+    @Test
+    @DisplayName("cron 모드는 지연과 상관없이 다음 cron 시각을 차례로 잡는다")
+    void cronAdvancesFromLastBase() {
+        JitteredTrigger trigger = new JitteredTrigger("0 0 */6 * * *", null, Duration.ZERO,
+                Duration.ZERO, CLOCK);
+        SimpleTriggerContext context = new SimpleTriggerContext(CLOCK);
+
+        Instant first = trigger.nextExecution(context);
+        Instant second = trigger.nextExecution(context);
+
+        assertThat(Duration.between(first, second)).isEqualTo(Duration.ofHours(6));
+        assertThat(first).isAfter(NOW);
+    }
+
+    @Test
+    @DisplayName("cron 도 양수 interval 도 없으면 예외")
+    void requiresCadence() {
+        assertThatThrownBy(() -> new JitteredTrigger(" ", Duration.ZERO, Duration.ZERO, Duration.ZERO, CLOCK))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.wowraid.jobspooncrawler.timer;
+
+import com.wowraid.jobspooncrawler.timer.config.RateLimitProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+class RequestRateLimiterTest {
+
+    @Test
+    @DisplayName("초당 4회 예산이면 연속 예약 시 250ms 간격으로 슬롯이 밀린다")
+    void reserve_spacesSlotsByInterval() {
+        RequestRateLimiter limiter = new RequestRateLimiter(4.0);
+
+        long first = limiter.reserve();
+        long second = limiter.reserve();
+        long third = limiter.reserve();
+
+        assertThat(first).isLessThanOrEqualTo(0);
+        assertThat(second).isBetween(TimeUnit.MILLISECONDS.toNanos(200), TimeUnit.MILLISECONDS.toNanos(250));
+        assertThat(third).isBetween(TimeUnit.MILLISECONDS.toNanos(450), TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    @DisplayName("0 이하의 예산은 허용하지 않는다")
+    void rejectsNonPositiveRate() {
+        assertThatThrownBy(() -> new RequestRateLimiter(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("정상 응답이 이어지면 최고 배수까지 속도를 올린다")
+    void onSuccess_increasesUpToMaxRate() {
+        RequestRateLimiter limiter = new RequestRateLimiter(2.0, new RateLimitProperties());
+
+        for (int i = 0; i < 100; i++) {
+            limiter.onSuccess(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+
+        assertThat(limiter.getRate()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("429 는 속도를 절반으로 낮추고 Retry-After 동안 슬롯을 내주지 않는다")
+    void onFailure_throttledHalvesRateAndHonoursRetryAfter() {
+        RequestRateLimiter limiter = new RequestRateLimiter(2.0, new RateLimitProperties());
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "5");
+
+        limiter.onFailure(HttpClientErrorException.create(
+                HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, new byte[0], null));
+
+        assertThat(limiter.getRate()).isEqualTo(1.0);
+        assertThat(limiter.reserve()).isGreaterThan(TimeUnit.SECONDS.toNanos(4));
+    }
+
+    @Test
+    @DisplayName("5xx 는 속도를 낮추고, 그 밖의 4xx 는 속도에 반영하지 않는다")
+    void onFailure_serverErrorDecreasesButClientErrorIgnored() {
+        RequestRateLimiter limiter = new RequestRateLimiter(2.0, new RateLimitProperties());
+
+        limiter.onFailure(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        assertThat(limiter.getRate()).isEqualTo(2.0);
+
+        limiter.onFailure(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+        assertThat(limiter.getRate()).isCloseTo(1.4, offset(1e-9));
+    }
+
+    @Test
+    @DisplayName("응답 시간 이동평균이 slowLatency 를 넘으면 속도를 낮춘다")
+    void onSuccess_slowResponsesDecreaseRate() {
+        RequestRateLimiter limiter = new RequestRateLimiter(2.0, new RateLimitProperties());
+
+        limiter.onSuccess(TimeUnit.SECONDS.toNanos(5));
+
+        assertThat(limiter.getRate()).isLessThan(2.0);
+    }
+}
@@ -0,0 +1,153 @@
+package com.wowraid.jobspooncrawler.trace;
+
+import com.wowraid.jobspooncrawler.trace.config.CrawlTraceProperties;
+import com.wowraid.jobspooncrawler.trace.dto.CrawlTraceDto;
+import com.wowraid.jobspooncrawler.trace.dto.SpanDto;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CrawlTraceRecorderTest {
+
+    private static CrawlTraceProperties props(int keepRuns, int maxSpansPerRun) {
+        CrawlTraceProperties props = new CrawlTraceProperties();
+        props.setKeepRuns(keepRuns);
+        props.setMaxSpansPerRun(maxSpansPerRun);
+        return props;
+    }
+
+    private static CrawlTracer tracer(CrawlTraceRecorder recorder) {
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(recorder);
+        return new CrawlTracer(registry);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("실행 안의 단계를 중첩 트리로 남기고, 다른 스레드에는 부모를 넘겨 같은 트리에 붙인다")
+    void recordsNestedStagesAcrossThreads() {
+        CrawlTraceRecorder recorder = new CrawlTraceRecorder(props(20, 100));
+        CrawlTracer tracer = tracer(recorder);
+
+        tracer.run("jumpit-list", () -> {
+            tracer.stage("page", () -> {
+                Observation page = tracer.current();
+                tracer.stage("http.fetch", () -> {
+                    sleep(20);
+                    return null;
+                });
+                // 워커 스레드에서는 현재 관측이 없으므로 부모를 직접 넘김
+                return CompletableFuture.supplyAsync(() -> tracer.stage(page, "parse", () -> {
+                    sleep(5);
+                    return 1;
+                })).join();
+            });
+            return null;
+        });
+
+        List<CrawlTraceDto> runs = recorder.recent(null, 5);
+        assertThat(runs).hasSize(1);
+        CrawlTraceDto run = runs.get(0);
+        assertThat(run.getSource()).isEqualTo("jumpit-list");
+        assertThat(run.getSpanCount()).isEqualTo(4);
+        assertThat(run.isTruncated()).isFalse();
+
+        SpanDto page = run.getRoot().getChildren().get(0);
+        assertThat(page.getName()).isEqualTo("page");
+        assertThat(page.getChildren()).extracting(SpanDto::getName).containsExactly("http.fetch", "parse");
+        assertThat(page.getChildren().get(0).getDurationMillis()).isGreaterThanOrEqualTo(20.0);
+        assertThat(page.getChildren()).allSatisfy(child -> assertThat(child.getError()).isNull());
+        assertThat(page.getDurationMillis()).isGreaterThanOrEqualTo(page.getChildren().get(0).getDurationMillis());
+    }
+
+    @Test
+    @DisplayName("실패한 단계는 오류로, 실행이 끝날 때까지 안 끝난 단계는 unfinished 로 표시한다")
+    void marksErrorsAndUnfinishedStages() {
+        CrawlTraceRecorder recorder = new CrawlTraceRecorder(props(20, 100));
+        CrawlTracer tracer = tracer(recorder);
+
+        Observation run = tracer.startRun("remember-list");
+        assertThatThrownBy(() -> tracer.stage(run, "page.load", () -> {
+            throw new IllegalStateException("timeout");
+        })).isInstanceOf(IllegalStateException.class);
+        tracer.startStage(run, "harvest");
+        run.stop();
+
+        List<SpanDto> stages = recorder.recent("remember-list", 1).get(0).getRoot().getChildren();
+        assertThat(stages).extracting(SpanDto::getName).containsExactly("page.load", "harvest");
+        assertThat(stages.get(0).getError()).contains("timeout");
+        assertThat(stages.get(1).getError()).isEqualTo("unfinished");
+    }
+
+    @Test
+    @DisplayName("실행 밖의 단계는 남기지 않고, 실행 수와 실행당 스팬 수는 설정값으로 제한한다")
+    void boundsRunsAndSpans() {
+        CrawlTraceRecorder recorder = new CrawlTraceRecorder(props(2, 3));
+        CrawlTracer tracer = tracer(recorder);
+
+        tracer.stage("orphan", () -> null);
+        for (int i = 0; i < 3; i++) {
+            tracer.run("jumpit-detail", () -> {
+                for (int j = 0; j < 5; j++) {
+                    tracer.stage("detail", () -> null);
+                }
+                return null;
+            });
+        }
+
+        List<CrawlTraceDto> runs = recorder.recent(null, 10);
+        assertThat(runs).hasSize(2);
+        assertThat(runs.get(0).getId()).isGreaterThan(runs.get(1).getId());
+        assertThat(runs).allSatisfy(run -> {
+            assertThat(run.getSpanCount()).isEqualTo(3);
+            assertThat(run.isTruncated()).isTrue();
+            assertThat(run.getRoot().getChildren()).hasSize(2);
+        });
+    }
+
+    @Test
+    @DisplayName("folded 출력은 소스를 루트로 한 단계 경로별 self 시간을 합산한다")
+    void foldsSelfTimeByStagePath() {
+        CrawlTraceRecorder recorder = new CrawlTraceRecorder(props(20, 100));
+        CrawlTracer tracer = tracer(recorder);
+
+        for (int i = 0; i < 2; i++) {
+            tracer.run("jumpit-list", () -> tracer.stage("page", () -> tracer.stage("http.fetch", () -> {
+                sleep(5);
+                return null;
+            })));
+        }
+        tracer.run("remember-list", () -> tracer.stage("browser", () -> {
+            sleep(5);
+            return null;
+        }));
+
+        String folded = recorder.folded("jumpit-list", 10);
+
+        assertThat(folded.lines()).anySatisfy(line -> assertThat(line).startsWith("jumpit-list;page;http.fetch "));
+        assertThat(folded.lines()).allSatisfy(line -> {
+            assertThat(line).startsWith("jumpit-list");
+            assertThat(line).matches(".* \\d+");
+        });
+        long fetchMicros = folded.lines()
+                .filter(line -> line.startsWith("jumpit-list;page;http.fetch "))
+                .mapToLong(line -> Long.parseLong(line.substring(line.lastIndexOf(' ') + 1)))
+                .sum();
+        assertThat(fetchMicros).isGreaterThanOrEqualTo(10_000);
+        assertThat(recorder.folded(null, 10)).contains("remember-list;browser ");
+    }
+}
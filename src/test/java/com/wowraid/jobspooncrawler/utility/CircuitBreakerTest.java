@@ -0,0 +1,91 @@
+package com.wowraid.jobspooncrawler.utility;
+
+import com.wowraid.jobspooncrawler.utility.config.RetryProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    @Test
+    @DisplayName("연속 실패가 기준에 닿으면 열리고, 대기 후 시험 요청 1건만 허용해 성공하면 닫힌다")
+    void opensAfterThresholdAndRecoversWithSingleProbe() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("jumpit.saramin.co.kr", 2, TimeUnit.MILLISECONDS.toNanos(50));
+
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+
+        Thread.sleep(60);
+        assertThat(breaker.tryAcquirePermission()).isTrue();   // 시험 요청
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();  // 시험 중에는 나머지 거절
+
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.getRejectedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("시험 요청이 실패하면 다시 열리고, 4xx 는 호스트 장애로 세지 않는다")
+    void probeFailureReopensAndClientErrorsDoNotCount() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("jumpit.saramin.co.kr", 1, TimeUnit.MILLISECONDS.toNanos(50));
+
+        breaker.onFailure(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(60);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.onFailure(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("시험 요청이 재시도 대상이 아닌 오류로 끝나면 상태를 바꾸지 않고 다음 시험 요청을 허용한다")
+    void nonRetryableProbeFailureIsNeutral() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("jumpit.saramin.co.kr", 1, TimeUnit.MILLISECONDS.toNanos(50));
+        breaker.onFailure();
+
+        Thread.sleep(60);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.onFailure(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("RetryEngine 은 열린 차단기 앞에서 요청 없이 CIRCUIT_OPEN 으로 실패한다")
+    void retryEngineFailsFastWhenOpen() {
+        RetryProperties properties = new RetryProperties();
+        properties.setBaseDelay(Duration.ofMillis(1));
+        RetryEngine engine = new RetryEngine(properties);
+        CircuitBreaker breaker = new CircuitBreaker("jumpit.saramin.co.kr", 1, TimeUnit.SECONDS.toNanos(30));
+        AtomicInteger attempts = new AtomicInteger();
+
+        // 첫 호출: 502 로 차단기가 열리면 남은 재시도도 요청 없이 멈춤
+        assertThatThrownBy(() -> engine.execute(() -> {
+            attempts.incrementAndGet();
+            throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+        }, null, breaker))
+                .isInstanceOfSatisfying(RetryExhaustedException.class, e ->
+                        assertThat(e.getReason()).isEqualTo(RetryExhaustedException.Reason.CIRCUIT_OPEN));
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,159 @@
+package com.wowraid.jobspooncrawler.utility;
+
+import com.wowraid.jobspooncrawler.timer.RequestRateLimiter;
+import com.wowraid.jobspooncrawler.utility.config.RetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryEngineTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RetryEngine engine(RetryProperties properties) {
+        properties.setBaseDelay(Duration.ofMillis(1));
+        return new RetryEngine(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("5xx 는 재시도하고 성공하면 값을 반환한다")
+    void execute_retriesServerErrors() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = engine(new RetryProperties()).execute(() -> {
+            if (attempts.incrementAndGet() < 3) throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+            return "ok";
+        }, null);
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("crawler.retry.retries").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("404 는 재시도하지 않고 NON_RETRYABLE 로 실패한다")
+    void execute_failsFastOnClientError() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> engine(new RetryProperties()).execute(() -> {
+            attempts.incrementAndGet();
+            throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+        }, null))
+                .isInstanceOfSatisfying(RetryExhaustedException.class, e -> {
+                    assertThat(e.getReason()).isEqualTo(RetryExhaustedException.Reason.NON_RETRYABLE);
+                    assertThat(e.getAttempts()).isEqualTo(1);
+                    assertThat(e.getCause()).isInstanceOf(HttpClientErrorException.class);
+                });
+        assertThat(meterRegistry.get("crawler.retry.exhausted").tag("reason", "NON_RETRYABLE").counter().count())
+                .isEqualTo(1);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 예산을 다 쓰면 최대 시도 횟수 전이라도 멈춘다")
+    void execute_stopsWhenBudgetExhausted() {
+        RetryProperties properties = new RetryProperties();
+        properties.setMaxAttempts(10);
+        properties.setBudgetMaxTokens(1);
+        properties.setBudgetRatio(0);
+        properties.setBudgetMinPerSecond(0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> engine(properties).execute(() -> {
+            attempts.incrementAndGet();
+            throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+        }, null))
+                .isInstanceOfSatisfying(RetryExhaustedException.class, e ->
+                        assertThat(e.getReason()).isEqualTo(RetryExhaustedException.Reason.BUDGET_EXHAUSTED));
+        assertThat(attempts.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("블로킹 호출은 호출한 스레드에서 시도한다")
+    void execute_runsOnCallerThread() {
+        Thread caller = Thread.currentThread();
+
+        Thread worker = engine(new RetryProperties()).execute(Thread::currentThread, null);
+
+        assertThat(worker).isSameAs(caller);
+    }
+
+    @Test
+    @DisplayName("시도나 재시도 대기 중 인터럽트되면 재시도 포기로 세지 않고 취소로 끝난다")
+    void execute_propagatesInterruptAsCancellation() {
+        RetryProperties properties = new RetryProperties();
+        RetryEngine retryEngine = engine(properties);
+        properties.setBaseDelay(Duration.ofSeconds(30));
+        properties.setMaxDelay(Duration.ofSeconds(30));
+        AtomicInteger attempts = new AtomicInteger();
+
+        try {
+            assertThatThrownBy(() -> retryEngine.execute(() -> {
+                attempts.incrementAndGet();
+                // 다음 재시도 대기에서 인터럽트를 받도록 표시
+                Thread.currentThread().interrupt();
+                throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+            }, null)).isInstanceOf(CancellationException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(meterRegistry.find("crawler.retry.exhausted").counters())
+                .allSatisfy(counter -> assertThat(counter.count()).isZero());
+    }
+
+    @Test
+    @DisplayName("비동기 호출을 취소하면 슬롯을 기다리던 시도는 요청하지 않는다")
+    void executeAsync_skipsAttemptAfterCancel() throws InterruptedException {
+        RetryEngine retryEngine = engine(new RetryProperties());
+        // 첫 예약은 바로, 두 번째 예약은 200ms 뒤 슬롯
+        RequestRateLimiter limiter = new RequestRateLimiter(5);
+        limiter.reserve();
+        AtomicInteger attempts = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<String> future = retryEngine.executeAsync(() -> {
+                attempts.incrementAndGet();
+                return "ok";
+            }, limiter, null, executor);
+            future.cancel(false);
+            Thread.sleep(300);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(attempts.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Mono 도 같은 정책으로 재시도하고, 최대 시도 후에는 RetryExhaustedException 으로 끝난다")
+    void retry_appliesPolicyToMono() {
+        RetryEngine retryEngine = engine(new RetryProperties());
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> failing = Mono.fromCallable(() -> {
+            attempts.incrementAndGet();
+            throw new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR);
+        });
+
+        assertThatThrownBy(() -> retryEngine.retry(failing).block())
+                .isInstanceOfSatisfying(RetryExhaustedException.class, e -> {
+                    assertThat(e.getReason()).isEqualTo(RetryExhaustedException.Reason.MAX_ATTEMPTS);
+                    assertThat(e.getAttempts()).isEqualTo(3);
+                });
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+}